@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.flink.connector.pulsar.benchmark;
+
+import java.util.Objects;
+import java.util.Random;
+
+/** The POJO which is serialized by the structured schemas in the benchmarks. */
+public class BenchmarkRecord {
+
+    public long id;
+    public String name;
+    public double score;
+
+    public BenchmarkRecord() {
+        // Required by the reflection based schemas.
+    }
+
+    public BenchmarkRecord(long id, String name, double score) {
+        this.id = id;
+        this.name = name;
+        this.score = score;
+    }
+
+    /** Create a record whose name has the given length. */
+    public static BenchmarkRecord random(Random random, long id, int nameLength) {
+        StringBuilder builder = new StringBuilder(nameLength);
+        for (int i = 0; i < nameLength; i++) {
+            builder.append((char) ('a' + random.nextInt(26)));
+        }
+
+        return new BenchmarkRecord(id, builder.toString(), random.nextDouble());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BenchmarkRecord that = (BenchmarkRecord) o;
+        return id == that.id
+                && Double.compare(that.score, score) == 0
+                && Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, score);
+    }
+
+    @Override
+    public String toString() {
+        return id + "," + name + "," + score;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.flink.connector.pulsar.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run a benchmark class from the IDE. The throughput is reported as records per microsecond, the
+ * per record latency is sampled and the allocation rate is collected by the gc profiler.
+ *
+ * <p>The same result could be acquired from the shaded jar by using {@code java -jar
+ * target/benchmarks.jar <BenchmarkClassName> -bm thrpt,sample -tu us -prof gc}.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        // No public constructor.
+    }
+
+    public static void run(Class<?> benchmarkClass) throws RunnerException {
+        Options options =
+                new OptionsBuilder()
+                        .include(".*" + benchmarkClass.getCanonicalName() + ".*")
+                        .mode(Mode.Throughput)
+                        .mode(Mode.SampleTime)
+                        .timeUnit(TimeUnit.MICROSECONDS)
+                        .addProfiler(GCProfiler.class)
+                        .build();
+
+        new Runner(options).run();
+    }
+}
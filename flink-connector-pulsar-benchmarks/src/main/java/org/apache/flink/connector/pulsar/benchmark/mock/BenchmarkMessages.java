@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.benchmark.mock;
+
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.impl.MessageImpl;
+import org.apache.pulsar.common.api.proto.MessageMetadata;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntFunction;
+
+/** Utilities for creating the messages which are consumed in the benchmarks. */
+public final class BenchmarkMessages {
+
+    private BenchmarkMessages() {
+        // No public constructor.
+    }
+
+    /** Create a message with the real pulsar implementation and the given payload. */
+    public static Message<byte[]> createMessage(String topic, byte[] payload, long sequenceId) {
+        MessageMetadata metadata = new MessageMetadata();
+        metadata.setProducerName("benchmark");
+        metadata.setSequenceId(sequenceId);
+        metadata.setPublishTime(System.currentTimeMillis());
+
+        return MessageImpl.create(metadata, ByteBuffer.wrap(payload), Schema.BYTES, topic);
+    }
+
+    /** Create the messages by generating the payload of every message. */
+    @SuppressWarnings("unchecked")
+    public static Message<byte[]>[] createMessages(
+            String topic, int numMessages, IntFunction<byte[]> payloadGenerator) {
+        Message<byte[]>[] messages = new Message[numMessages];
+        for (int i = 0; i < numMessages; i++) {
+            messages[i] = createMessage(topic, payloadGenerator.apply(i), i);
+        }
+
+        return messages;
+    }
+}
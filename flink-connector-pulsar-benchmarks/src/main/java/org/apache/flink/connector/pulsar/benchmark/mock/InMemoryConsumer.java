@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.benchmark.mock;
+
+import org.apache.pulsar.client.api.Consumer;
+import org.apache.pulsar.client.api.ConsumerStats;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.Messages;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An in-memory {@link Consumer} which never blocks. It replays the given messages in a loop, so
+ * the receiver queue always has available messages. The consumer is created as a dynamic proxy,
+ * only the methods used by the split reader have real implementations, the others return the
+ * default values of their return types.
+ */
+public final class InMemoryConsumer implements InvocationHandler {
+
+    private final String topic;
+    private final Message<byte[]>[] messages;
+    private final int batchSize;
+    private int nextIndex;
+
+    private InMemoryConsumer(String topic, Message<byte[]>[] messages, int batchSize) {
+        this.topic = topic;
+        this.messages = messages;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Create a consumer on the given topic.
+     *
+     * @param messages The messages to replay.
+     * @param batchSize The number of messages returned by {@link Consumer#batchReceive()}.
+     */
+    @SuppressWarnings("unchecked")
+    public static Consumer<byte[]> create(
+            String topic, Message<byte[]>[] messages, int batchSize) {
+        InMemoryConsumer handler = new InMemoryConsumer(topic, messages, batchSize);
+        return (Consumer<byte[]>)
+                Proxy.newProxyInstance(
+                        InMemoryConsumer.class.getClassLoader(),
+                        new Class<?>[] {Consumer.class},
+                        handler);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "receive":
+                return nextMessage();
+            case "batchReceive":
+                return nextMessages();
+            case "receiveAsync":
+                return CompletableFuture.completedFuture(nextMessage());
+            case "batchReceiveAsync":
+                return CompletableFuture.completedFuture(nextMessages());
+            case "getTopic":
+                return topic;
+            case "getSubscription":
+            case "getConsumerName":
+                return "benchmark";
+            case "getStats":
+                return Stubs.stubOf(ConsumerStats.class);
+            case "isConnected":
+                return true;
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "InMemoryConsumer{" + topic + "}";
+            default:
+                return Stubs.defaultValue(method.getReturnType());
+        }
+    }
+
+    private Message<byte[]> nextMessage() {
+        Message<byte[]> message = messages[nextIndex];
+        nextIndex = (nextIndex + 1) % messages.length;
+        return message;
+    }
+
+    private Messages<byte[]> nextMessages() {
+        List<Message<byte[]>> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(nextMessage());
+        }
+        return new ListMessages(batch);
+    }
+
+    /** A {@link Messages} backed by a list. */
+    private static final class ListMessages implements Messages<byte[]> {
+
+        private final List<Message<byte[]>> messages;
+
+        private ListMessages(List<Message<byte[]>> messages) {
+            this.messages = messages;
+        }
+
+        @Override
+        public int size() {
+            return messages.size();
+        }
+
+        @Override
+        public Iterator<Message<byte[]>> iterator() {
+            return messages.iterator();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.flink.connector.pulsar.benchmark.mock;
+
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.ProducerBuilder;
+import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.api.transaction.TransactionBuilder;
+import org.apache.pulsar.client.api.transaction.TxnID;
+import org.apache.pulsar.client.impl.LookupService;
+import org.apache.pulsar.client.impl.MessageIdImpl;
+import org.apache.pulsar.client.impl.ProducerBase;
+import org.apache.pulsar.client.impl.PulsarClientImpl;
+import org.apache.pulsar.client.impl.transaction.TransactionCoordinatorClientImpl;
+import org.apache.pulsar.client.impl.transaction.TransactionImpl;
+import org.apache.pulsar.common.partition.PartitionedTopicMetadata;
+import org.mockito.stubbing.Answer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.mockito.Answers.RETURNS_DEFAULTS;
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * A stub {@link PulsarClientImpl} for the sink benchmarks. The producers acknowledge every message
+ * immediately with a completed future and the transactions are never sent to the coordinator.
+ *
+ * <p>The stubs are created by Mockito with the stub-only setting, which doesn't record the
+ * invocations. The cost of the producer stub is a constant part of every sent message.
+ */
+public final class StubPulsarClient {
+
+    private static final CompletableFuture<MessageId> SENT_FUTURE =
+            completedFuture(new MessageIdImpl(1L, 1L, 0));
+
+    /** Return the completed future for all the async methods, including the sending methods. */
+    private static final Answer<Object> COMPLETED_FUTURES =
+            invocation -> {
+                if (invocation.getMethod().getReturnType() == CompletableFuture.class) {
+                    return SENT_FUTURE;
+                }
+                return RETURNS_DEFAULTS.answer(invocation);
+            };
+
+    private StubPulsarClient() {
+        // No public constructor.
+    }
+
+    public static PulsarClientImpl create() throws PulsarClientException {
+        PulsarClientImpl client = mock(PulsarClientImpl.class, withSettings().stubOnly());
+
+        // The lookup is used for auto creating the topics before creating the producers.
+        LookupService lookupService = mock(LookupService.class, withSettings().stubOnly());
+        doReturn(completedFuture(new PartitionedTopicMetadata(0)))
+                .when(lookupService)
+                .getPartitionedTopicMetadata(any());
+        doReturn(lookupService).when(client).getLookup();
+
+        // Every producer builder creates a new producer.
+        doAnswer(invocation -> createProducerBuilder())
+                .when(client)
+                .newProducer(any(Schema.class));
+
+        // The transactions are created locally with an increasing id.
+        AtomicLong transactionIds = new AtomicLong();
+        TransactionBuilder transactionBuilder = stub(TransactionBuilder.class, RETURNS_SELF);
+        doAnswer(invocation -> completedFuture(createTransaction(transactionIds.incrementAndGet())))
+                .when(transactionBuilder)
+                .build();
+        doReturn(transactionBuilder).when(client).newTransaction();
+        doReturn(mock(TransactionCoordinatorClientImpl.class, withSettings().stubOnly()))
+                .when(client)
+                .getTcClient();
+
+        return client;
+    }
+
+    private static ProducerBuilder<?> createProducerBuilder() throws PulsarClientException {
+        ProducerBuilder<?> builder = stub(ProducerBuilder.class, RETURNS_SELF);
+        ProducerBase<?> producer = stub(ProducerBase.class, COMPLETED_FUTURES);
+        doReturn(producer).when(builder).create();
+
+        return builder;
+    }
+
+    private static TransactionImpl createTransaction(long id) {
+        TransactionImpl transaction = mock(TransactionImpl.class, withSettings().stubOnly());
+        doReturn(new TxnID(0L, id)).when(transaction).getTxnID();
+
+        return transaction;
+    }
+
+    private static <T> T stub(Class<T> clazz, Answer<?> defaultAnswer) {
+        return mock(clazz, withSettings().stubOnly().defaultAnswer(defaultAnswer));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.benchmark.mock;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+
+/** Create the stub instances of the pulsar interfaces which are not used in the benchmarks. */
+public final class Stubs {
+
+    private Stubs() {
+        // No public constructor.
+    }
+
+    /** Create a stub instance of the given interface which only returns the default values. */
+    @SuppressWarnings("unchecked")
+    public static <T> T stubOf(Class<T> clazz) {
+        return (T)
+                Proxy.newProxyInstance(
+                        Stubs.class.getClassLoader(),
+                        new Class<?>[] {clazz},
+                        (proxy, method, args) -> defaultValue(method.getReturnType()));
+    }
+
+    /** The default value of the given type, the future would be completed with null. */
+    public static Object defaultValue(Class<?> type) {
+        if (type == CompletableFuture.class) {
+            return CompletableFuture.completedFuture(null);
+        } else if (!type.isPrimitive() || type == void.class) {
+            return null;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == double.class) {
+            return 0D;
+        } else if (type == float.class) {
+            return 0F;
+        } else if (type == char.class) {
+            return (char) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else {
+            return 0;
+        }
+    }
+}
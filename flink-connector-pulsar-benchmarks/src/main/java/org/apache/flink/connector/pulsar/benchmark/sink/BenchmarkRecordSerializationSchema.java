@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.flink.connector.pulsar.benchmark.sink;
+
+import org.apache.flink.connector.pulsar.benchmark.BenchmarkRecord;
+import org.apache.flink.connector.pulsar.sink.writer.context.PulsarSinkContext;
+import org.apache.flink.connector.pulsar.sink.writer.message.PulsarMessage;
+import org.apache.flink.connector.pulsar.sink.writer.serializer.PulsarSerializationSchema;
+
+import org.apache.pulsar.client.api.Schema;
+
+/**
+ * Serialize the {@link BenchmarkRecord} by Pulsar's JSON schema. The record id is used as the
+ * message key. The record is sent with the schema if the schema evolution is enabled, otherwise
+ * it is encoded into bytes.
+ */
+public class BenchmarkRecordSerializationSchema
+        implements PulsarSerializationSchema<BenchmarkRecord> {
+    private static final long serialVersionUID = 3204850573826381571L;
+
+    private final transient Schema<BenchmarkRecord> schema;
+
+    public BenchmarkRecordSerializationSchema() {
+        this.schema = Schema.JSON(BenchmarkRecord.class);
+    }
+
+    @Override
+    public PulsarMessage<?> serialize(BenchmarkRecord element, PulsarSinkContext sinkContext) {
+        String key = Long.toString(element.id);
+        if (sinkContext.isEnableSchemaEvolution()) {
+            return PulsarMessage.builder(schema, element).key(key).build();
+        } else {
+            return PulsarMessage.builder(schema.encode(element)).key(key).build();
+        }
+    }
+
+    /** The schema used for serializing the records. */
+    public Schema<BenchmarkRecord> getSchema() {
+        return schema;
+    }
+}
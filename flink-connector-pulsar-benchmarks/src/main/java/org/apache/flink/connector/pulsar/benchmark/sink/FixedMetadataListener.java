@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.flink.connector.pulsar.benchmark.sink;
+
+import org.apache.flink.api.common.operators.ProcessingTimeService;
+import org.apache.flink.connector.pulsar.sink.config.SinkConfiguration;
+import org.apache.flink.connector.pulsar.sink.writer.topic.MetadataListener;
+import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/** A {@link MetadataListener} with the fixed partitions, it never queries the topic metadata. */
+public class FixedMetadataListener extends MetadataListener {
+    private static final long serialVersionUID = -2213960437181226512L;
+
+    private final List<TopicPartition> partitions;
+
+    public FixedMetadataListener(String topic, int numPartitions) {
+        List<TopicPartition> list = new ArrayList<>(numPartitions);
+        for (int i = 0; i < numPartitions; i++) {
+            list.add(new TopicPartition(topic, i));
+        }
+        this.partitions = Collections.unmodifiableList(list);
+    }
+
+    @Override
+    public void open(SinkConfiguration sinkConfiguration, ProcessingTimeService timeService) {
+        // No need to create the admin client and register the metadata update timer.
+    }
+
+    @Override
+    public List<TopicPartition> availablePartitions() {
+        return partitions;
+    }
+}
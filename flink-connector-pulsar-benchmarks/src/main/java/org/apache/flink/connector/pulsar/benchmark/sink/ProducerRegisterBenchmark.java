@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.flink.connector.pulsar.benchmark.sink;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.base.DeliveryGuarantee;
+import org.apache.flink.connector.pulsar.benchmark.BenchmarkRecord;
+import org.apache.flink.connector.pulsar.benchmark.BenchmarkRunner;
+import org.apache.flink.connector.pulsar.benchmark.mock.StubPulsarClient;
+import org.apache.flink.connector.pulsar.common.crypto.PulsarCrypto;
+import org.apache.flink.connector.pulsar.sink.config.SinkConfiguration;
+import org.apache.flink.connector.pulsar.sink.writer.topic.ProducerRegister;
+import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
+
+import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.api.TypedMessageBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_ENABLE_SINK_METRICS;
+import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_DELIVERY_GUARANTEE;
+import static org.apache.flink.metrics.groups.UnregisteredMetricsGroup.createSinkWriterMetricGroup;
+
+/**
+ * Measure {@link ProducerRegister#createMessageBuilder} which is called for every record in the
+ * sink. The producers and transactions are created in the warmup, so this covers the lookup of
+ * the cached producer and transaction for the topic and the schema.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ProducerRegisterBenchmark {
+
+    private static final int NUM_PARTITIONS = 8;
+
+    /** The message is sent with a JSON schema if the schema evolution is enabled. */
+    @Param({"false", "true"})
+    public boolean schemaEvolution;
+
+    @Param({"AT_LEAST_ONCE", "EXACTLY_ONCE"})
+    public DeliveryGuarantee deliveryGuarantee;
+
+    private ProducerRegister producerRegister;
+    private String[] topics;
+    private Schema<?> schema;
+    private int nextIndex;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Configuration configuration = new Configuration();
+        configuration.set(PULSAR_WRITE_DELIVERY_GUARANTEE, deliveryGuarantee);
+        configuration.set(PULSAR_ENABLE_SINK_METRICS, false);
+        SinkConfiguration sinkConfiguration = new SinkConfiguration(configuration);
+
+        this.producerRegister =
+                new ProducerRegister(
+                        sinkConfiguration,
+                        PulsarCrypto.disabled(),
+                        createSinkWriterMetricGroup(),
+                        StubPulsarClient.create());
+        this.topics = new String[NUM_PARTITIONS];
+        for (int i = 0; i < NUM_PARTITIONS; i++) {
+            topics[i] = new TopicPartition("benchmark-topic", i).getFullTopicName();
+        }
+        this.schema = schemaEvolution ? Schema.JSON(BenchmarkRecord.class) : null;
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkpoint() {
+        producerRegister.prepareCommit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        producerRegister.close();
+    }
+
+    @Benchmark
+    public TypedMessageBuilder<?> createMessageBuilder() throws Exception {
+        String topic = topics[nextIndex];
+        nextIndex = (nextIndex + 1) % NUM_PARTITIONS;
+
+        return producerRegister.createMessageBuilder(topic, schema);
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkRunner.run(ProducerRegisterBenchmark.class);
+    }
+}
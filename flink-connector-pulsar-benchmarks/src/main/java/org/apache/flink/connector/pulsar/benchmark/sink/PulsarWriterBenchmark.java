@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.flink.connector.pulsar.benchmark.sink;
+
+import org.apache.flink.api.common.operators.MailboxExecutor;
+import org.apache.flink.api.common.operators.ProcessingTimeService;
+import org.apache.flink.api.connector.sink2.Sink.InitContext;
+import org.apache.flink.api.connector.sink2.SinkWriter;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.base.DeliveryGuarantee;
+import org.apache.flink.connector.pulsar.benchmark.BenchmarkRecord;
+import org.apache.flink.connector.pulsar.benchmark.BenchmarkRunner;
+import org.apache.flink.connector.pulsar.benchmark.mock.StubPulsarClient;
+import org.apache.flink.connector.pulsar.common.crypto.PulsarCrypto;
+import org.apache.flink.connector.pulsar.sink.config.SinkConfiguration;
+import org.apache.flink.connector.pulsar.sink.writer.PulsarWriter;
+import org.apache.flink.connector.pulsar.sink.writer.delayer.MessageDelayer;
+import org.apache.flink.connector.pulsar.sink.writer.router.KeyHashTopicRouter;
+import org.apache.flink.connector.pulsar.sink.writer.router.RoundRobinTopicRouter;
+import org.apache.flink.connector.pulsar.sink.writer.router.TopicRouter;
+import org.apache.flink.connector.pulsar.sink.writer.router.TopicRoutingMode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_ENABLE_SINK_METRICS;
+import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_DELIVERY_GUARANTEE;
+import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_SCHEMA_EVOLUTION;
+import static org.apache.flink.metrics.groups.UnregisteredMetricsGroup.createSinkWriterMetricGroup;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measure {@link PulsarWriter#write} with a stub pulsar client. Every record goes through the
+ * serialization, the topic routing, the message builder creation and the async sending. The
+ * transactions are committed at the end of every iteration, like a checkpoint.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class PulsarWriterBenchmark {
+
+    private static final String TOPIC = "benchmark-topic";
+    private static final int NUM_PARTITIONS = 8;
+    private static final int NUM_RECORDS = 1024;
+
+    @Param({"false", "true"})
+    public boolean schemaEvolution;
+
+    @Param({"AT_LEAST_ONCE", "EXACTLY_ONCE"})
+    public DeliveryGuarantee deliveryGuarantee;
+
+    @Param({"ROUND_ROBIN", "MESSAGE_KEY_HASH"})
+    public TopicRoutingMode routingMode;
+
+    private PulsarWriter<BenchmarkRecord> writer;
+    private BenchmarkRecord[] records;
+    private SinkWriter.Context context;
+    private int nextIndex;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Configuration configuration = new Configuration();
+        configuration.set(PULSAR_WRITE_DELIVERY_GUARANTEE, deliveryGuarantee);
+        configuration.set(PULSAR_WRITE_SCHEMA_EVOLUTION, schemaEvolution);
+        configuration.set(PULSAR_ENABLE_SINK_METRICS, false);
+        SinkConfiguration sinkConfiguration = new SinkConfiguration(configuration);
+
+        TopicRouter<BenchmarkRecord> topicRouter;
+        if (routingMode == TopicRoutingMode.ROUND_ROBIN) {
+            topicRouter = new RoundRobinTopicRouter<>(sinkConfiguration);
+        } else {
+            topicRouter = new KeyHashTopicRouter<>(sinkConfiguration);
+        }
+
+        this.writer =
+                new PulsarWriter<>(
+                        sinkConfiguration,
+                        new BenchmarkRecordSerializationSchema(),
+                        new FixedMetadataListener(TOPIC, NUM_PARTITIONS),
+                        topicRouter,
+                        MessageDelayer.never(),
+                        PulsarCrypto.disabled(),
+                        createInitContext(),
+                        StubPulsarClient.create());
+
+        Random random = new Random(42);
+        this.records = new BenchmarkRecord[NUM_RECORDS];
+        for (int i = 0; i < NUM_RECORDS; i++) {
+            records[i] = BenchmarkRecord.random(random, i, 32);
+        }
+        this.context = new TimestampContext();
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkpoint() throws Exception {
+        writer.flush(false);
+        writer.prepareCommit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        writer.close();
+    }
+
+    @Benchmark
+    public void write() throws Exception {
+        BenchmarkRecord record = records[nextIndex];
+        nextIndex = (nextIndex + 1) % NUM_RECORDS;
+
+        writer.write(record, context);
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkRunner.run(PulsarWriterBenchmark.class);
+    }
+
+    private static InitContext createInitContext() {
+        InitContext initContext = mock(InitContext.class);
+        doReturn(createSinkWriterMetricGroup()).when(initContext).metricGroup();
+        doReturn(mock(ProcessingTimeService.class)).when(initContext).getProcessingTimeService();
+        doReturn(mock(MailboxExecutor.class)).when(initContext).getMailboxExecutor();
+        doReturn(1).when(initContext).getNumberOfParallelSubtasks();
+
+        return initContext;
+    }
+
+    /** The sink writer context with a fixed timestamp. */
+    private static final class TimestampContext implements SinkWriter.Context {
+
+        private final long timestamp = System.currentTimeMillis();
+
+        @Override
+        public long currentWatermark() {
+            return timestamp;
+        }
+
+        @Override
+        public Long timestamp() {
+            return timestamp;
+        }
+    }
+}
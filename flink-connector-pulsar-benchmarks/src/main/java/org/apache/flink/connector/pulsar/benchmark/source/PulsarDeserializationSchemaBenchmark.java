@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.flink.connector.pulsar.benchmark.source;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.pulsar.benchmark.BenchmarkRecord;
+import org.apache.flink.connector.pulsar.benchmark.BenchmarkRunner;
+import org.apache.flink.connector.pulsar.benchmark.mock.BenchmarkMessages;
+import org.apache.flink.connector.pulsar.benchmark.mock.Stubs;
+import org.apache.flink.connector.pulsar.source.config.SourceConfiguration;
+import org.apache.flink.connector.pulsar.source.reader.deserializer.PulsarDeserializationSchema;
+import org.apache.flink.connector.pulsar.source.reader.deserializer.PulsarDeserializationSchema.PulsarInitializationContext;
+import org.apache.flink.util.Collector;
+
+import org.apache.pulsar.client.api.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the byte array and the payload buffer entry points of {@link
+ * PulsarDeserializationSchema} for every {@link SourceSchemaType}. The schemas which don't support
+ * the payload buffer fall back to the byte array method.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class PulsarDeserializationSchemaBenchmark {
+
+    private static final int NUM_MESSAGES = 1024;
+
+    @Param
+    public SourceSchemaType schemaType;
+
+    @Param({"16", "512"})
+    public int nameLength;
+
+    private PulsarDeserializationSchema<Object> schema;
+    private LastRecordCollector collector;
+    private Message<byte[]>[] messages;
+    private ByteBuffer[] payloads;
+    private int nextIndex;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        this.schema = (PulsarDeserializationSchema<Object>) schemaType.createSchema();
+        schema.open(
+                Stubs.stubOf(PulsarInitializationContext.class),
+                new SourceConfiguration(new Configuration()));
+        this.collector = new LastRecordCollector();
+
+        Random random = new Random(42);
+        this.messages =
+                BenchmarkMessages.createMessages(
+                        "benchmark-topic",
+                        NUM_MESSAGES,
+                        i -> schemaType.encode(BenchmarkRecord.random(random, i, nameLength)));
+        this.payloads = new ByteBuffer[NUM_MESSAGES];
+        for (int i = 0; i < NUM_MESSAGES; i++) {
+            payloads[i] = ByteBuffer.wrap(messages[i].getData());
+        }
+    }
+
+    @Benchmark
+    public Object deserializeBytes() throws Exception {
+        int index = nextIndex();
+        schema.deserialize(messages[index], collector);
+        return collector.lastRecord;
+    }
+
+    @Benchmark
+    public Object deserializePayloadBuffer() throws Exception {
+        int index = nextIndex();
+        // The buffer is shared across the invocations, rewind it before decoding.
+        ByteBuffer payload = payloads[index];
+        payload.rewind();
+        schema.deserialize(messages[index], payload, collector);
+        return collector.lastRecord;
+    }
+
+    private int nextIndex() {
+        int index = nextIndex;
+        nextIndex = (nextIndex + 1) % NUM_MESSAGES;
+        return index;
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkRunner.run(PulsarDeserializationSchemaBenchmark.class);
+    }
+
+    /** Keep the deserialized record, it would be returned from the benchmark methods. */
+    private static final class LastRecordCollector implements Collector<Object> {
+
+        private Object lastRecord;
+
+        @Override
+        public void collect(Object record) {
+            this.lastRecord = record;
+        }
+
+        @Override
+        public void close() {
+            // Nothing to do here.
+        }
+    }
+}
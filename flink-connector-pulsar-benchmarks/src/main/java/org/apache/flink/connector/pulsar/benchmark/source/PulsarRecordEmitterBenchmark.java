@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.flink.connector.pulsar.benchmark.source;
+
+import org.apache.flink.api.connector.source.SourceOutput;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.pulsar.benchmark.BenchmarkRecord;
+import org.apache.flink.connector.pulsar.benchmark.BenchmarkRunner;
+import org.apache.flink.connector.pulsar.benchmark.mock.BenchmarkMessages;
+import org.apache.flink.connector.pulsar.benchmark.mock.Stubs;
+import org.apache.flink.connector.pulsar.source.config.SourceConfiguration;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
+import org.apache.flink.connector.pulsar.source.reader.PulsarRecordEmitter;
+import org.apache.flink.connector.pulsar.source.reader.deserializer.PulsarDeserializationSchema;
+import org.apache.flink.connector.pulsar.source.reader.deserializer.PulsarDeserializationSchema.PulsarInitializationContext;
+import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
+import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplitState;
+
+import org.apache.pulsar.client.api.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure {@link PulsarRecordEmitter#emitRecord} for every {@link SourceSchemaType}. This covers
+ * the deserialization, the split state update and the message release of every record.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class PulsarRecordEmitterBenchmark {
+
+    private static final String TOPIC = "benchmark-topic";
+    private static final int NUM_MESSAGES = 1024;
+
+    @Param
+    public SourceSchemaType schemaType;
+
+    @Param({"16", "512"})
+    public int nameLength;
+
+    private PulsarRecordEmitter<Object> emitter;
+    private PulsarPartitionSplitState splitState;
+    private SourceOutput<Object> output;
+    private final Object[] lastRecord = new Object[1];
+    private Message<byte[]>[] messages;
+    private int nextIndex;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        PulsarDeserializationSchema<Object> schema =
+                (PulsarDeserializationSchema<Object>) schemaType.createSchema();
+        schema.open(
+                Stubs.stubOf(PulsarInitializationContext.class),
+                new SourceConfiguration(new Configuration()));
+        this.emitter = new PulsarRecordEmitter<>(schema);
+
+        TopicPartition partition = new TopicPartition(TOPIC, 0);
+        this.splitState =
+                new PulsarPartitionSplitState(
+                        new PulsarPartitionSplit(partition, StopCursor.never()));
+
+        // The emitted record is returned from the benchmark method for avoiding dead code.
+        this.output =
+                (SourceOutput<Object>)
+                        Proxy.newProxyInstance(
+                                SourceOutput.class.getClassLoader(),
+                                new Class<?>[] {SourceOutput.class},
+                                (proxy, method, args) -> {
+                                    if (args != null) {
+                                        lastRecord[0] = args[0];
+                                    }
+                                    return null;
+                                });
+
+        Random random = new Random(42);
+        this.messages =
+                BenchmarkMessages.createMessages(
+                        partition.getFullTopicName(),
+                        NUM_MESSAGES,
+                        i -> schemaType.encode(BenchmarkRecord.random(random, i, nameLength)));
+    }
+
+    @Benchmark
+    public Object emitRecord() throws Exception {
+        Message<byte[]> message = messages[nextIndex];
+        nextIndex = (nextIndex + 1) % NUM_MESSAGES;
+
+        emitter.emitRecord(message, output, splitState);
+        return lastRecord[0];
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkRunner.run(PulsarRecordEmitterBenchmark.class);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.flink.connector.pulsar.benchmark.source;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
+import org.apache.flink.connector.pulsar.benchmark.BenchmarkRunner;
+import org.apache.flink.connector.pulsar.benchmark.mock.BenchmarkMessages;
+import org.apache.flink.connector.pulsar.benchmark.mock.InMemoryConsumer;
+import org.apache.flink.connector.pulsar.common.crypto.PulsarCrypto;
+import org.apache.flink.connector.pulsar.source.config.SourceConfiguration;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
+import org.apache.flink.connector.pulsar.source.reader.PulsarPartitionSplitReader;
+import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
+
+import org.apache.pulsar.client.admin.PulsarAdmin;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.impl.PulsarClientImpl;
+import org.apache.pulsar.client.impl.conf.ConsumerConfigurationData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_BATCH_RECEIVE;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_MAX_FETCH_RECORDS;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_SUBSCRIPTION_NAME;
+import static org.apache.flink.metrics.groups.UnregisteredMetricsGroup.createSourceReaderMetricGroup;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measure {@link PulsarPartitionSplitReader#fetch()} on the in-memory consumers. The receiver
+ * queues are always full, so every fetch returns exactly {@link #MAX_FETCH_RECORDS} messages and
+ * the result reflects the overhead of the split reader itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class PulsarSplitReaderBenchmark {
+
+    private static final int MAX_FETCH_RECORDS = 100;
+    private static final int NUM_MESSAGES_PER_SPLIT = 1024;
+
+    @Param({"false", "true"})
+    public boolean batchReceive;
+
+    @Param({"1", "4"})
+    public int numSplits;
+
+    @Param({"64", "1024"})
+    public int payloadSize;
+
+    private PulsarPartitionSplitReader splitReader;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Configuration configuration = new Configuration();
+        configuration.set(PULSAR_SUBSCRIPTION_NAME, "benchmark");
+        configuration.set(PULSAR_MAX_FETCH_RECORDS, MAX_FETCH_RECORDS);
+        configuration.set(PULSAR_ENABLE_BATCH_RECEIVE, batchReceive);
+        SourceConfiguration sourceConfiguration = new SourceConfiguration(configuration);
+
+        Random random = new Random(42);
+        PulsarClientImpl client = mock(PulsarClientImpl.class);
+        doAnswer(
+                        invocation -> {
+                            ConsumerConfigurationData<?> conf = invocation.getArgument(0);
+                            String topic = conf.getTopicNames().iterator().next();
+                            Message<byte[]>[] messages =
+                                    BenchmarkMessages.createMessages(
+                                            topic,
+                                            NUM_MESSAGES_PER_SPLIT,
+                                            i -> randomPayload(random));
+                            return CompletableFuture.completedFuture(
+                                    InMemoryConsumer.create(topic, messages, MAX_FETCH_RECORDS));
+                        })
+                .when(client)
+                .subscribeAsync(any(), any(), any());
+
+        this.splitReader =
+                new PulsarPartitionSplitReader(
+                        client,
+                        mock(PulsarAdmin.class),
+                        sourceConfiguration,
+                        Schema.BYTES,
+                        PulsarCrypto.disabled(),
+                        createSourceReaderMetricGroup());
+
+        List<PulsarPartitionSplit> splits = new ArrayList<>(numSplits);
+        for (int i = 0; i < numSplits; i++) {
+            TopicPartition partition = new TopicPartition("benchmark-topic", i);
+            splits.add(new PulsarPartitionSplit(partition, StopCursor.never()));
+        }
+        splitReader.handleSplitsChanges(new SplitsAddition<>(splits));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        splitReader.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MAX_FETCH_RECORDS)
+    public void fetch(Blackhole blackhole) throws Exception {
+        RecordsWithSplitIds<Message<byte[]>> records = splitReader.fetch();
+        while (records.nextSplit() != null) {
+            Message<byte[]> message;
+            while ((message = records.nextRecordFromSplit()) != null) {
+                blackhole.consume(message);
+            }
+        }
+        records.recycle();
+    }
+
+    private byte[] randomPayload(Random random) {
+        byte[] payload = new byte[payloadSize];
+        random.nextBytes(payload);
+        return payload;
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkRunner.run(PulsarSplitReaderBenchmark.class);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.flink.connector.pulsar.benchmark.source;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.serialization.SimpleStringSchema;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.connector.pulsar.benchmark.BenchmarkRecord;
+import org.apache.flink.connector.pulsar.source.reader.deserializer.PulsarDeserializationSchema;
+import org.apache.flink.connector.pulsar.source.reader.deserializer.PulsarDeserializationSchemaWrapper;
+import org.apache.flink.connector.pulsar.source.reader.deserializer.PulsarSchemaWrapper;
+import org.apache.flink.connector.pulsar.source.reader.deserializer.PulsarTypeInformationWrapper;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.types.StringValue;
+
+import org.apache.pulsar.client.api.Schema;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/** The deserialization schemas which are measured in the source benchmarks. */
+public enum SourceSchemaType {
+
+    /** Flink's {@link SimpleStringSchema} wrapped by {@link PulsarDeserializationSchemaWrapper}. */
+    FLINK_STRING {
+        @Override
+        public PulsarDeserializationSchema<?> createSchema() {
+            return new PulsarDeserializationSchemaWrapper<>(new SimpleStringSchema());
+        }
+
+        @Override
+        public byte[] encode(BenchmarkRecord record) {
+            return record.toString().getBytes(UTF_8);
+        }
+    },
+
+    /** Flink's string serializer wrapped by {@link PulsarTypeInformationWrapper}. */
+    FLINK_TYPE_INFORMATION {
+        @Override
+        public PulsarDeserializationSchema<?> createSchema() {
+            return new PulsarTypeInformationWrapper<>(Types.STRING, new ExecutionConfig());
+        }
+
+        @Override
+        public byte[] encode(BenchmarkRecord record) {
+            DataOutputSerializer serializer = new DataOutputSerializer(64);
+            try {
+                StringValue.writeString(record.toString(), serializer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return serializer.getCopyOfBuffer();
+        }
+    },
+
+    /** Pulsar's string schema wrapped by {@link PulsarSchemaWrapper}. */
+    PULSAR_STRING {
+        @Override
+        public PulsarDeserializationSchema<?> createSchema() {
+            return new PulsarSchemaWrapper<>(Schema.STRING);
+        }
+
+        @Override
+        public byte[] encode(BenchmarkRecord record) {
+            return Schema.STRING.encode(record.toString());
+        }
+    },
+
+    /** Pulsar's JSON schema wrapped by {@link PulsarSchemaWrapper}. */
+    PULSAR_JSON {
+        @Override
+        public PulsarDeserializationSchema<?> createSchema() {
+            return new PulsarSchemaWrapper<>(
+                    Schema.JSON(BenchmarkRecord.class), BenchmarkRecord.class);
+        }
+
+        @Override
+        public byte[] encode(BenchmarkRecord record) {
+            return Schema.JSON(BenchmarkRecord.class).encode(record);
+        }
+    },
+
+    /** Pulsar's Avro schema wrapped by {@link PulsarSchemaWrapper}. */
+    PULSAR_AVRO {
+        @Override
+        public PulsarDeserializationSchema<?> createSchema() {
+            return new PulsarSchemaWrapper<>(
+                    Schema.AVRO(BenchmarkRecord.class), BenchmarkRecord.class);
+        }
+
+        @Override
+        public byte[] encode(BenchmarkRecord record) {
+            return Schema.AVRO(BenchmarkRecord.class).encode(record);
+        }
+    };
+
+    /** Create the deserialization schema used in the source. */
+    public abstract PulsarDeserializationSchema<?> createSchema();
+
+    /** Serialize the record into the message payload which could be decoded by the schema. */
+    public abstract byte[] encode(BenchmarkRecord record);
+}
@@ -60,4 +60,8 @@ public final class MetricNames {
     public static final String TOTAL_ACKS_SENT = "totalAcksSent";
     public static final String TOTAL_ACKS_FAILED = "totalAcksFailed";
     public static final String MSG_NUM_IN_RECEIVER_QUEUE = "msgNumInReceiverQueue";
+
+    public static final String CHECKPOINT_ACK_LATENCY = "checkpointAckLatency";
+
+    public static final String SPLIT_ASSIGNMENT_IMBALANCE = "splitAssignmentImbalance";
 }
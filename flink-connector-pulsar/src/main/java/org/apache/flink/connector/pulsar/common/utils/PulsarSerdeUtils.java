@@ -57,6 +57,32 @@ public final class PulsarSerdeUtils {
         return bytes;
     }
 
+    // Variable-length integer serialization.
+
+    /** Serialize a non-negative integer in 1 to 5 bytes, the small integer takes fewer bytes. */
+    public static void serializeVarInt(DataOutputStream out, int value) throws IOException {
+        Preconditions.checkArgument(value >= 0, "Only non-negative integer is supported.");
+
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public static int deserializeVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("Malformed variable-length integer.");
+    }
+
     // Common Object serialization.
 
     public static void serializeObject(DataOutputStream out, Object obj) throws IOException {
@@ -27,6 +27,7 @@ import org.apache.pulsar.client.api.transaction.TransactionCoordinatorClient;
 import org.apache.pulsar.client.api.transaction.TxnID;
 import org.apache.pulsar.client.impl.PulsarClientImpl;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import static org.apache.flink.util.Preconditions.checkNotNull;
@@ -43,11 +44,7 @@ public final class PulsarTransactionUtils {
     public static Transaction createTransaction(PulsarClient pulsarClient, long timeoutMs)
             throws PulsarClientException {
         try {
-            return pulsarClient
-                    .newTransaction()
-                    .withTransactionTimeout(timeoutMs, TimeUnit.MILLISECONDS)
-                    .build()
-                    .get();
+            return createTransactionAsync(pulsarClient, timeoutMs).get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new PulsarClientException(e);
@@ -56,6 +53,15 @@ public final class PulsarTransactionUtils {
         }
     }
 
+    /** Request a new transaction with given timeout millis without blocking. */
+    public static CompletableFuture<Transaction> createTransactionAsync(
+            PulsarClient pulsarClient, long timeoutMs) throws PulsarClientException {
+        return pulsarClient
+                .newTransaction()
+                .withTransactionTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
     /**
      * {@link PulsarClient} didn't expose the internal {@link TransactionCoordinatorClient} to the
      * end user. But the connector needs it to manually commit/abort the transaction by {@link
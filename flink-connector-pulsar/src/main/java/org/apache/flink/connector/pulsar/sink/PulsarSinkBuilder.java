@@ -57,6 +57,7 @@ import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_PR
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_SEND_TIMEOUT_MS;
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_DELIVERY_GUARANTEE;
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_SCHEMA_EVOLUTION;
+import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_SHARED_TRANSACTION;
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_TRANSACTION_TIMEOUT;
 import static org.apache.flink.connector.pulsar.sink.config.PulsarSinkConfigUtils.SINK_CONFIG_VALIDATOR;
 import static org.apache.flink.connector.pulsar.source.enumerator.topic.TopicNameUtils.distinctTopics;
@@ -292,6 +293,17 @@ public class PulsarSinkBuilder<IN> {
         return this;
     }
 
+    /**
+     * If you enable this option, all the topics written by a sink writer would share one Pulsar
+     * transaction in a checkpoint. This is only used in {@link DeliveryGuarantee#EXACTLY_ONCE}.
+     *
+     * @return this PulsarSinkBuilder.
+     */
+    public PulsarSinkBuilder<IN> enableSharedTransaction() {
+        configBuilder.override(PULSAR_WRITE_SHARED_TRANSACTION, true);
+        return this;
+    }
+
     /**
      * Set a message delayer for enable Pulsar message delay delivery.
      *
@@ -92,6 +92,10 @@ public final class PulsarSinkOptions {
                                             code("DeliveryGuarantee.EXACTLY_ONCE"))
                                     .text(
                                             "We would use transaction for making sure the message could be write only once.")
+                                    .text(
+                                            " The transactions are requested ahead of time on every checkpoint, a requested transaction is only used when the rest of its timeout is longer than the latest checkpoint interval.")
+                                    .text(
+                                            " So this timeout should be longer than twice the checkpoint interval, otherwise the transactions are always created on demand.")
                                     .build());
 
     public static final ConfigOption<Long> PULSAR_TOPIC_METADATA_REFRESH_INTERVAL =
@@ -122,6 +126,21 @@ public final class PulsarSinkOptions {
                                             code("Schema"))
                                     .build());
 
+    public static final ConfigOption<Boolean> PULSAR_WRITE_SHARED_TRANSACTION =
+            ConfigOptions.key(SINK_CONFIG_PREFIX + "enableSharedTransaction")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "This option is used when the user require the %s semantic. ",
+                                            code("DeliveryGuarantee.EXACTLY_ONCE"))
+                                    .text(
+                                            "If you enable this option, all the topics written by a sink writer would share one transaction in a checkpoint.")
+                                    .text(
+                                            " Otherwise, a transaction would be created for every topic.")
+                                    .build());
+
     public static final ConfigOption<Integer> PULSAR_MAX_RECOMMIT_TIMES =
             ConfigOptions.key(SINK_CONFIG_PREFIX + "maxRecommitTimes")
                     .intType()
@@ -155,6 +174,48 @@ public final class PulsarSinkOptions {
                                             "This can make sure your serialized messages bytes is valid for consumer.")
                                     .build());
 
+    public static final ConfigOption<Long> PULSAR_WRITE_FLUSH_TIMEOUT =
+            ConfigOptions.key(SINK_CONFIG_PREFIX + "flushTimeoutMillis")
+                    .longType()
+                    .defaultValue(Duration.ofMinutes(5).toMillis())
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "The maximum time (in ms) to wait for the pending messages to be acknowledged when flushing the sink writer on checkpoint.")
+                                    .text(
+                                            " The checkpoint would fail if the pending messages couldn't be acknowledged in time.")
+                                    .build());
+
+    public static final ConfigOption<Integer> PULSAR_MAX_INFLIGHT_MESSAGES =
+            ConfigOptions.key(SINK_CONFIG_PREFIX + "maxInflightMessages")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "The maximum number of messages which are sent but not acknowledged by Pulsar in a sink writer.")
+                                    .text(
+                                            " The writer would stop writing and process the mailbox until some messages are acknowledged.")
+                                    .linebreak()
+                                    .text(
+                                            "It's not configured by default and the writer relies on the producer queue to limit the pending messages.")
+                                    .build());
+
+    public static final ConfigOption<Long> PULSAR_MAX_INFLIGHT_BYTES =
+            ConfigOptions.key(SINK_CONFIG_PREFIX + "maxInflightBytes")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "The maximum size (in bytes) of the message payloads which are sent but not acknowledged by Pulsar in a sink writer.")
+                                    .text(
+                                            " The writer would stop writing and process the mailbox until some messages are acknowledged.")
+                                    .linebreak()
+                                    .text(
+                                            "A message larger than this limit can still be sent when there are no other in-flight messages.")
+                                    .build());
+
     ///////////////////////////////////////////////////////////////////////////////
     //
     // The configuration for ProducerConfigurationData part.
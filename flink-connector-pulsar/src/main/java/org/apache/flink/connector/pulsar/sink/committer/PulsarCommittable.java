@@ -22,6 +22,8 @@ import org.apache.flink.annotation.Internal;
 
 import org.apache.pulsar.client.api.transaction.TxnID;
 
+import javax.annotation.Nullable;
+
 import java.util.Objects;
 
 /** The writer state for Pulsar connector. We would used in Pulsar committer. */
@@ -31,10 +33,13 @@ public class PulsarCommittable {
     /** The transaction id. */
     private final TxnID txnID;
 
-    /** The topic name with partition information. */
-    private final String topic;
+    /**
+     * The topic name with partition information. It's null if the transaction is shared by all the
+     * topics written by the sink writer.
+     */
+    @Nullable private final String topic;
 
-    public PulsarCommittable(TxnID txnID, String topic) {
+    public PulsarCommittable(TxnID txnID, @Nullable String topic) {
         this.txnID = txnID;
         this.topic = topic;
     }
@@ -43,6 +48,7 @@ public class PulsarCommittable {
         return txnID;
     }
 
+    @Nullable
     public String getTopic() {
         return topic;
     }
@@ -31,7 +31,8 @@ import java.io.IOException;
 /** A serializer used to serialize {@link PulsarCommittable}. */
 public class PulsarCommittableSerializer implements SimpleVersionedSerializer<PulsarCommittable> {
 
-    private static final int CURRENT_VERSION = 1;
+    /** The topic could be absent for the shared transaction since version 2. */
+    private static final int CURRENT_VERSION = 2;
 
     @Override
     public int getVersion() {
@@ -45,7 +46,11 @@ public class PulsarCommittableSerializer implements SimpleVersionedSerializer<Pu
             TxnID txnID = obj.getTxnID();
             out.writeLong(txnID.getMostSigBits());
             out.writeLong(txnID.getLeastSigBits());
-            out.writeUTF(obj.getTopic());
+            String topic = obj.getTopic();
+            out.writeBoolean(topic != null);
+            if (topic != null) {
+                out.writeUTF(topic);
+            }
             out.flush();
             return baos.toByteArray();
         }
@@ -58,7 +63,12 @@ public class PulsarCommittableSerializer implements SimpleVersionedSerializer<Pu
             long mostSigBits = in.readLong();
             long leastSigBits = in.readLong();
             TxnID txnID = new TxnID(mostSigBits, leastSigBits);
-            String topic = in.readUTF();
+            String topic;
+            if (version == 1 || in.readBoolean()) {
+                topic = in.readUTF();
+            } else {
+                topic = null;
+            }
             return new PulsarCommittable(txnID, topic);
         }
     }
@@ -19,6 +19,7 @@
 package org.apache.flink.connector.pulsar.sink.committer;
 
 import org.apache.flink.annotation.Internal;
+import org.apache.flink.annotation.VisibleForTesting;
 import org.apache.flink.api.connector.sink2.Committer;
 import org.apache.flink.connector.base.DeliveryGuarantee;
 import org.apache.flink.connector.pulsar.sink.PulsarSink;
@@ -39,7 +40,12 @@ import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.apache.flink.connector.pulsar.common.config.PulsarClientFactory.createClient;
 import static org.apache.flink.connector.pulsar.common.utils.PulsarTransactionUtils.getTcClient;
@@ -64,83 +70,108 @@ public class PulsarCommitter implements Committer<PulsarCommittable>, Closeable
         this.sinkConfiguration = checkNotNull(sinkConfiguration);
     }
 
+    @VisibleForTesting
+    PulsarCommitter(
+            SinkConfiguration sinkConfiguration, TransactionCoordinatorClient coordinatorClient) {
+        this.sinkConfiguration = checkNotNull(sinkConfiguration);
+        this.coordinatorClient = checkNotNull(coordinatorClient);
+    }
+
+    /**
+     * Commit all the transactions concurrently. The transactions are committed asynchronously and
+     * the committing failures are classified for every request after all the commits finished.
+     */
     @Override
-    @SuppressWarnings("java:S3776")
     public void commit(Collection<CommitRequest<PulsarCommittable>> requests)
-            throws PulsarClientException {
+            throws PulsarClientException, InterruptedException {
         TransactionCoordinatorClient client = transactionCoordinatorClient();
 
+        List<CompletableFuture<Void>> futures = new ArrayList<>(requests.size());
         for (CommitRequest<PulsarCommittable> request : requests) {
             PulsarCommittable committable = request.getCommittable();
-            TxnID txnID = committable.getTxnID();
-            String topic = committable.getTopic();
 
-            LOG.debug("Start committing the Pulsar transaction {} for topic {}", txnID, topic);
+            LOG.debug("Start committing the Pulsar transaction {}", committable);
+            futures.add(client.commitAsync(committable.getTxnID()));
+        }
+
+        Iterator<CompletableFuture<Void>> iterator = futures.iterator();
+        for (CommitRequest<PulsarCommittable> request : requests) {
+            CompletableFuture<Void> future = iterator.next();
             try {
-                client.commit(txnID);
-            } catch (CoordinatorNotFoundException e) {
+                future.get();
+            } catch (ExecutionException e) {
+                // Classify the failure in the same way as the blocking committing.
+                handleCommitFailure(request, TransactionCoordinatorClientException.unwrap(e));
+            }
+        }
+    }
+
+    @SuppressWarnings("java:S3776")
+    private void handleCommitFailure(CommitRequest<PulsarCommittable> request, Throwable e) {
+        PulsarCommittable committable = request.getCommittable();
+        TxnID txnID = committable.getTxnID();
+
+        if (e instanceof CoordinatorNotFoundException) {
+            LOG.error(
+                    "We couldn't find the Transaction Coordinator from Pulsar broker {}. "
+                            + "Check your broker configuration.",
+                    committable,
+                    e);
+            request.signalFailedWithKnownReason(e);
+        } else if (e instanceof InvalidTxnStatusException) {
+            LOG.error(
+                    "Unable to commit transaction ({}) because it's in an invalid state. "
+                            + "Most likely the transaction has been aborted for some reason. "
+                            + "Please check the Pulsar broker logs for more details.",
+                    committable,
+                    e);
+            request.signalAlreadyCommitted();
+        } else if (e instanceof TransactionNotFoundException) {
+            if (request.getNumberOfRetries() == 0) {
                 LOG.error(
-                        "We couldn't find the Transaction Coordinator from Pulsar broker {}. "
-                                + "Check your broker configuration.",
+                        "Unable to commit transaction ({}) because it's not found on Pulsar broker. "
+                                + "Most likely the checkpoint interval exceed the transaction timeout.",
                         committable,
                         e);
                 request.signalFailedWithKnownReason(e);
-            } catch (InvalidTxnStatusException e) {
-                LOG.error(
-                        "Unable to commit transaction ({}) because it's in an invalid state. "
-                                + "Most likely the transaction has been aborted for some reason. "
-                                + "Please check the Pulsar broker logs for more details.",
-                        committable,
-                        e);
+            } else {
+                LOG.warn(
+                        "We can't find the transaction {} after {} retry committing. "
+                                + "This may mean that the transaction have been committed in previous but failed with timeout. "
+                                + "So we just mark it as committed.",
+                        txnID,
+                        request.getNumberOfRetries());
                 request.signalAlreadyCommitted();
-            } catch (TransactionNotFoundException e) {
-                if (request.getNumberOfRetries() == 0) {
-                    LOG.error(
-                            "Unable to commit transaction ({}) because it's not found on Pulsar broker. "
-                                    + "Most likely the checkpoint interval exceed the transaction timeout.",
-                            committable,
-                            e);
-                    request.signalFailedWithKnownReason(e);
-                } else {
-                    LOG.warn(
-                            "We can't find the transaction {} after {} retry committing. "
-                                    + "This may mean that the transaction have been committed in previous but failed with timeout. "
-                                    + "So we just mark it as committed.",
-                            txnID,
-                            request.getNumberOfRetries());
-                    request.signalAlreadyCommitted();
-                }
-            } catch (MetaStoreHandlerNotExistsException e) {
-                LOG.error(
-                        "We can't find the meta store handler by the mostSigBits from TxnID {}. "
-                                + "Did you change the metadata for topic {}?",
-                        committable,
-                        TRANSACTION_COORDINATOR_ASSIGN,
-                        e);
-                request.signalFailedWithKnownReason(e);
-            } catch (TransactionCoordinatorClientException e) {
-                LOG.error(
-                        "Encountered retriable exception while committing transaction {} for topic {}.",
-                        committable,
-                        topic,
-                        e);
-                int maxRecommitTimes = sinkConfiguration.getMaxRecommitTimes();
-                if (request.getNumberOfRetries() < maxRecommitTimes) {
-                    request.retryLater();
-                } else {
-                    String message =
-                            String.format(
-                                    "Failed to commit transaction %s after retrying %d times",
-                                    txnID, maxRecommitTimes);
-                    request.signalFailedWithKnownReason(new FlinkRuntimeException(message, e));
-                }
-            } catch (Exception e) {
-                LOG.error(
-                        "Transaction ({}) encountered unknown error and data could be potentially lost.",
-                        committable,
-                        e);
-                request.signalFailedWithUnknownReason(e);
             }
+        } else if (e instanceof MetaStoreHandlerNotExistsException) {
+            LOG.error(
+                    "We can't find the meta store handler by the mostSigBits from TxnID {}. "
+                            + "Did you change the metadata for topic {}?",
+                    committable,
+                    TRANSACTION_COORDINATOR_ASSIGN,
+                    e);
+            request.signalFailedWithKnownReason(e);
+        } else if (e instanceof TransactionCoordinatorClientException) {
+            LOG.error(
+                    "Encountered retriable exception while committing transaction {}.",
+                    committable,
+                    e);
+            int maxRecommitTimes = sinkConfiguration.getMaxRecommitTimes();
+            if (request.getNumberOfRetries() < maxRecommitTimes) {
+                request.retryLater();
+            } else {
+                String message =
+                        String.format(
+                                "Failed to commit transaction %s after retrying %d times",
+                                txnID, maxRecommitTimes);
+                request.signalFailedWithKnownReason(new FlinkRuntimeException(message, e));
+            }
+        } else {
+            LOG.error(
+                    "Transaction ({}) encountered unknown error and data could be potentially lost.",
+                    committable,
+                    e);
+            request.signalFailedWithUnknownReason(e);
         }
     }
 
@@ -34,12 +34,16 @@ import java.util.Objects;
 import static org.apache.flink.connector.pulsar.common.config.PulsarOptions.PULSAR_STATS_INTERVAL_SECONDS;
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_BATCHING_MAX_MESSAGES;
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_ENABLE_SINK_METRICS;
+import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_MAX_INFLIGHT_BYTES;
+import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_MAX_INFLIGHT_MESSAGES;
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_MAX_RECOMMIT_TIMES;
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_MESSAGE_KEY_HASH;
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_TOPIC_METADATA_REFRESH_INTERVAL;
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_VALIDATE_SINK_MESSAGE_BYTES;
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_DELIVERY_GUARANTEE;
+import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_FLUSH_TIMEOUT;
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_SCHEMA_EVOLUTION;
+import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_SHARED_TRANSACTION;
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_TRANSACTION_TIMEOUT;
 
 /** The configured class for pulsar sink. */
@@ -56,6 +60,10 @@ public class SinkConfiguration extends PulsarConfiguration {
     private final int maxRecommitTimes;
     private final boolean enableMetrics;
     private final boolean validateSinkMessageBytes;
+    private final int maxInflightMessages;
+    private final long maxInflightBytes;
+    private final long flushTimeoutMillis;
+    private final boolean enableSharedTransaction;
 
     public SinkConfiguration(Configuration configuration) {
         super(configuration);
@@ -70,6 +78,10 @@ public class SinkConfiguration extends PulsarConfiguration {
         this.enableMetrics =
                 get(PULSAR_ENABLE_SINK_METRICS) && get(PULSAR_STATS_INTERVAL_SECONDS) > 0;
         this.validateSinkMessageBytes = get(PULSAR_VALIDATE_SINK_MESSAGE_BYTES);
+        this.maxInflightMessages = getOptional(PULSAR_MAX_INFLIGHT_MESSAGES).orElse(0);
+        this.maxInflightBytes = getOptional(PULSAR_MAX_INFLIGHT_BYTES).orElse(0L);
+        this.flushTimeoutMillis = getLong(PULSAR_WRITE_FLUSH_TIMEOUT);
+        this.enableSharedTransaction = get(PULSAR_WRITE_SHARED_TRANSACTION);
     }
 
     /** The delivery guarantee changes the behavior of {@link PulsarWriter}. */
@@ -131,6 +143,35 @@ public class SinkConfiguration extends PulsarConfiguration {
         return validateSinkMessageBytes;
     }
 
+    /**
+     * The maximum number of the sent but not acknowledged messages in a writer. A non-positive
+     * value means there is no limit.
+     */
+    public int getMaxInflightMessages() {
+        return maxInflightMessages;
+    }
+
+    /**
+     * The maximum payload size of the sent but not acknowledged messages in a writer. A
+     * non-positive value means there is no limit.
+     */
+    public long getMaxInflightBytes() {
+        return maxInflightBytes;
+    }
+
+    /** The maximum time to wait for the acknowledgements of the pending messages in flushing. */
+    public long getFlushTimeoutMillis() {
+        return flushTimeoutMillis;
+    }
+
+    /**
+     * Whether all the topics written by a writer share one transaction in a checkpoint. Otherwise,
+     * a transaction would be created for every topic.
+     */
+    public boolean isEnableSharedTransaction() {
+        return enableSharedTransaction;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -150,7 +191,11 @@ public class SinkConfiguration extends PulsarConfiguration {
                 && messageKeyHash == that.messageKeyHash
                 && maxRecommitTimes == that.maxRecommitTimes
                 && enableMetrics == that.enableMetrics
-                && validateSinkMessageBytes == that.validateSinkMessageBytes;
+                && validateSinkMessageBytes == that.validateSinkMessageBytes
+                && maxInflightMessages == that.maxInflightMessages
+                && maxInflightBytes == that.maxInflightBytes
+                && flushTimeoutMillis == that.flushTimeoutMillis
+                && enableSharedTransaction == that.enableSharedTransaction;
     }
 
     @Override
@@ -164,6 +209,10 @@ public class SinkConfiguration extends PulsarConfiguration {
                 enableSchemaEvolution,
                 maxRecommitTimes,
                 enableMetrics,
-                validateSinkMessageBytes);
+                validateSinkMessageBytes,
+                maxInflightMessages,
+                maxInflightBytes,
+                flushTimeoutMillis,
+                enableSharedTransaction);
     }
 }
@@ -19,6 +19,7 @@
 package org.apache.flink.connector.pulsar.sink.writer;
 
 import org.apache.flink.annotation.Internal;
+import org.apache.flink.annotation.VisibleForTesting;
 import org.apache.flink.api.common.operators.MailboxExecutor;
 import org.apache.flink.api.common.operators.ProcessingTimeService;
 import org.apache.flink.api.common.serialization.SerializationSchema.InitializationContext;
@@ -41,21 +42,30 @@ import org.apache.flink.metrics.groups.SinkWriterMetricGroup;
 import org.apache.flink.util.FlinkRuntimeException;
 
 import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.PulsarClient;
 import org.apache.pulsar.client.api.PulsarClientException;
 import org.apache.pulsar.client.api.Schema;
 import org.apache.pulsar.client.api.TypedMessageBuilder;
+import org.apache.pulsar.client.impl.TypedMessageBuilderImpl;
 import org.apache.pulsar.shade.com.google.common.base.Strings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static java.util.Collections.emptyList;
+import static org.apache.flink.connector.pulsar.common.config.PulsarClientFactory.createClient;
 import static org.apache.flink.util.IOUtils.closeAll;
 import static org.apache.flink.util.Preconditions.checkNotNull;
 
@@ -78,6 +88,19 @@ public class PulsarWriter<IN> implements PrecommittingSinkWriter<IN, PulsarCommi
     private final ProducerRegister producerRegister;
     private final MailboxExecutor mailboxExecutor;
     private final AtomicLong pendingMessages;
+    private final long flushTimeoutMillis;
+
+    // Completed by the sending callbacks when all the pending messages have been acknowledged.
+    @Nullable private volatile CompletableFuture<Void> pendingMessagesFuture;
+
+    // The in-flight limits, a non-positive value means there is no limit.
+    private final int maxInflightMessages;
+    private final long maxInflightBytes;
+    private final boolean inflightLimited;
+
+    // The in-flight counters are only accessed in the mailbox thread.
+    private long inflightMessages;
+    private long inflightBytes;
 
     /**
      * Constructor creating a Pulsar writer.
@@ -102,6 +125,29 @@ public class PulsarWriter<IN> implements PrecommittingSinkWriter<IN, PulsarCommi
             PulsarCrypto pulsarCrypto,
             InitContext initContext)
             throws PulsarClientException {
+        this(
+                sinkConfiguration,
+                serializationSchema,
+                metadataListener,
+                topicRouter,
+                messageDelayer,
+                pulsarCrypto,
+                initContext,
+                createClient(checkNotNull(sinkConfiguration)));
+    }
+
+    /** Create the writer with the given client, the client would be closed with this writer. */
+    @VisibleForTesting
+    public PulsarWriter(
+            SinkConfiguration sinkConfiguration,
+            PulsarSerializationSchema<IN> serializationSchema,
+            MetadataListener metadataListener,
+            TopicRouter<IN> topicRouter,
+            MessageDelayer<IN> messageDelayer,
+            PulsarCrypto pulsarCrypto,
+            InitContext initContext,
+            PulsarClient pulsarClient)
+            throws PulsarClientException {
         checkNotNull(sinkConfiguration);
         this.serializationSchema = checkNotNull(serializationSchema);
         this.metadataListener = checkNotNull(metadataListener);
@@ -132,9 +178,14 @@ public class PulsarWriter<IN> implements PrecommittingSinkWriter<IN, PulsarCommi
 
         // Create this producer register after opening serialization schema!
         SinkWriterMetricGroup metricGroup = initContext.metricGroup();
-        this.producerRegister = new ProducerRegister(sinkConfiguration, pulsarCrypto, metricGroup);
+        this.producerRegister =
+                new ProducerRegister(sinkConfiguration, pulsarCrypto, metricGroup, pulsarClient);
         this.mailboxExecutor = initContext.getMailboxExecutor();
         this.pendingMessages = new AtomicLong(0);
+        this.flushTimeoutMillis = sinkConfiguration.getFlushTimeoutMillis();
+        this.maxInflightMessages = sinkConfiguration.getMaxInflightMessages();
+        this.maxInflightBytes = sinkConfiguration.getMaxInflightBytes();
+        this.inflightLimited = maxInflightMessages > 0 || maxInflightBytes > 0;
     }
 
     @Override
@@ -156,17 +207,32 @@ public class PulsarWriter<IN> implements PrecommittingSinkWriter<IN, PulsarCommi
             builder.deliverAt(deliverAt);
         }
 
+        // Wait for the acknowledgements if we have too many in-flight messages.
+        long messageSize = 0;
+        if (inflightLimited) {
+            messageSize = messageSize(builder);
+            waitForInflightCapacity(messageSize);
+            inflightMessages++;
+            inflightBytes += messageSize;
+        }
+
         // Perform message sending.
         if (deliveryGuarantee == DeliveryGuarantee.NONE) {
             // We would just ignore the sending exception. This may cause data loss.
-            builder.sendAsync();
+            CompletableFuture<MessageId> future = builder.sendAsync();
+            if (inflightLimited) {
+                long size = messageSize;
+                future.whenComplete((id, ex) -> releaseInflightCapacity(size));
+            }
         } else {
-            // Increase the pending message count.
-            pendingMessages.incrementAndGet();
             CompletableFuture<MessageId> future = builder.sendAsync();
+            addPendingMessage(future);
+            long size = messageSize;
             future.whenComplete(
                     (id, ex) -> {
-                        pendingMessages.decrementAndGet();
+                        if (inflightLimited) {
+                            releaseInflightCapacity(size);
+                        }
                         if (ex != null) {
                             mailboxExecutor.execute(
                                     () -> throwSendingException(topic, ex),
@@ -178,6 +244,55 @@ public class PulsarWriter<IN> implements PrecommittingSinkWriter<IN, PulsarCommi
         }
     }
 
+    /**
+     * Count the sending message as pending until it's acknowledged. The callback of the last
+     * pending message completes the future which is waited by {@link #flush(boolean)}.
+     */
+    @VisibleForTesting
+    void addPendingMessage(CompletableFuture<?> sendFuture) {
+        // Increase the pending message count before the callback could decrease it.
+        pendingMessages.incrementAndGet();
+        sendFuture.whenComplete(
+                (id, ex) -> {
+                    if (pendingMessages.decrementAndGet() == 0) {
+                        CompletableFuture<Void> waiting = pendingMessagesFuture;
+                        if (waiting != null) {
+                            waiting.complete(null);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Yield to the mailbox until the acknowledged messages have released enough in-flight capacity.
+     * This blocks the upstream operators with Flink's backpressure instead of filling the producer
+     * queues. A message is always allowed to be sent if there are no in-flight messages.
+     */
+    private void waitForInflightCapacity(long messageSize) throws InterruptedException {
+        while (inflightMessages > 0
+                && ((maxInflightMessages > 0 && inflightMessages >= maxInflightMessages)
+                        || (maxInflightBytes > 0
+                                && inflightBytes + messageSize > maxInflightBytes))) {
+            mailboxExecutor.yield();
+        }
+    }
+
+    /** The sending callback is executed in the Pulsar client thread. */
+    private void releaseInflightCapacity(long messageSize) {
+        mailboxExecutor.execute(
+                () -> {
+                    inflightMessages--;
+                    inflightBytes -= messageSize;
+                },
+                "Release the in-flight capacity of the sent message");
+    }
+
+    private static long messageSize(TypedMessageBuilder<?> builder) {
+        // The message builder is always created by ProducerRegister.
+        ByteBuffer content = ((TypedMessageBuilderImpl<?>) builder).getContent();
+        return content == null ? 0 : content.remaining();
+    }
+
     private void throwSendingException(String topic, Throwable ex) {
         throw new FlinkRuntimeException("Failed to send data to Pulsar: " + topic, ex);
     }
@@ -241,19 +356,53 @@ public class PulsarWriter<IN> implements PrecommittingSinkWriter<IN, PulsarCommi
     }
 
     @Override
-    public void flush(boolean endOfInput) throws IOException {
+    public void flush(boolean endOfInput) throws IOException, InterruptedException {
         if (endOfInput || deliveryGuarantee != DeliveryGuarantee.NONE) {
             LOG.info("Flush the pending messages to Pulsar.");
 
-            // Try to flush pending messages.
-            producerRegister.flush();
+            // Trigger the sending of the batched messages in all the producers once. The sending
+            // failures would be reported by the sending callbacks.
+            CompletableFuture<Void> producersFlushed =
+                    producerRegister.flushAsync().exceptionally(e -> null);
             // Make sure all the pending messages should be flushed to Pulsar.
-            while (pendingMessages.longValue() > 0) {
-                producerRegister.flush();
+            CompletableFuture<Void> flushed =
+                    CompletableFuture.allOf(producersFlushed, waitPendingMessages());
+
+            try {
+                flushed.get(flushTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw new IOException("Failed to flush the pending messages to Pulsar.", e);
+            } catch (TimeoutException e) {
+                throw new IOException(
+                        "Failed to flush the "
+                                + pendingMessages.get()
+                                + " pending messages to Pulsar in "
+                                + flushTimeoutMillis
+                                + " ms.",
+                        e);
+            } finally {
+                this.pendingMessagesFuture = null;
             }
         }
     }
 
+    /**
+     * Create a future which would be completed by the sending callback of the last pending
+     * message. No new messages would be sent while flushing, because both of them are executed in
+     * the mailbox thread.
+     */
+    private CompletableFuture<Void> waitPendingMessages() {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        this.pendingMessagesFuture = future;
+
+        // The future should be registered before checking the pending messages.
+        if (pendingMessages.get() == 0) {
+            future.complete(null);
+        }
+
+        return future;
+    }
+
     @Override
     public Collection<PulsarCommittable> prepareCommit() {
         if (deliveryGuarantee == DeliveryGuarantee.EXACTLY_ONCE) {
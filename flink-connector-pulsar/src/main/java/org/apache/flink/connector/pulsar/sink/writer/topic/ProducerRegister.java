@@ -19,6 +19,7 @@
 package org.apache.flink.connector.pulsar.sink.writer.topic;
 
 import org.apache.flink.annotation.Internal;
+import org.apache.flink.annotation.VisibleForTesting;
 import org.apache.flink.connector.base.DeliveryGuarantee;
 import org.apache.flink.connector.pulsar.common.crypto.PulsarCrypto;
 import org.apache.flink.connector.pulsar.common.metrics.ProducerMetricsInterceptor;
@@ -60,10 +61,12 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static org.apache.flink.connector.pulsar.common.config.PulsarClientFactory.createClient;
@@ -85,9 +88,9 @@ import static org.apache.flink.connector.pulsar.common.metrics.MetricNames.TOTAL
 import static org.apache.flink.connector.pulsar.common.metrics.MetricNames.TOTAL_BYTES_SENT;
 import static org.apache.flink.connector.pulsar.common.metrics.MetricNames.TOTAL_MSGS_SENT;
 import static org.apache.flink.connector.pulsar.common.metrics.MetricNames.TOTAL_SEND_FAILED;
-import static org.apache.flink.connector.pulsar.common.utils.PulsarTransactionUtils.createTransaction;
 import static org.apache.flink.connector.pulsar.common.utils.PulsarTransactionUtils.getTcClient;
 import static org.apache.flink.connector.pulsar.sink.config.PulsarSinkConfigUtils.createProducerBuilder;
+import static org.apache.flink.util.Preconditions.checkNotNull;
 
 /**
  * All the Pulsar Producers share the same Client, but self-hold the queue for a specified topic. So
@@ -105,15 +108,26 @@ public class ProducerRegister implements Closeable {
     private final PulsarCrypto pulsarCrypto;
     private final SinkWriterMetricGroup metricGroup;
     private final Map<String, Schema<byte[]>> schemas;
-    private final Map<String, Map<SchemaHash, Producer<?>>> producers;
+    private final Map<String, TopicProducers> producers;
+    // The transactions are keyed by the topic, or the null key for the shared transaction.
     private final Map<String, Transaction> transactions;
+    @Nullable private final TransactionPool transactionPool;
 
     public ProducerRegister(
             SinkConfiguration sinkConfiguration,
             PulsarCrypto pulsarCrypto,
             SinkWriterMetricGroup metricGroup)
             throws PulsarClientException {
-        this.pulsarClient = createClient(sinkConfiguration);
+        this(sinkConfiguration, pulsarCrypto, metricGroup, createClient(sinkConfiguration));
+    }
+
+    @VisibleForTesting
+    public ProducerRegister(
+            SinkConfiguration sinkConfiguration,
+            PulsarCrypto pulsarCrypto,
+            SinkWriterMetricGroup metricGroup,
+            PulsarClient pulsarClient) {
+        this.pulsarClient = pulsarClient;
         this.sinkConfiguration = sinkConfiguration;
         this.pulsarCrypto = pulsarCrypto;
         this.metricGroup = metricGroup;
@@ -128,8 +142,14 @@ public class ProducerRegister implements Closeable {
         // Check if we have enabled the transaction in the exactly-once delivery guarantee.
         if (sinkConfiguration.getDeliveryGuarantee() == DeliveryGuarantee.EXACTLY_ONCE) {
             this.coordinatorClient = getTcClient(pulsarClient);
+            this.transactionPool =
+                    new TransactionPool(
+                            pulsarClient,
+                            coordinatorClient,
+                            sinkConfiguration.getTransactionTimeoutMillis());
         } else {
             this.coordinatorClient = null;
+            this.transactionPool = null;
         }
     }
 
@@ -152,7 +172,7 @@ public class ProducerRegister implements Closeable {
         TransactionImpl transaction = null;
 
         if (sinkConfiguration.getDeliveryGuarantee() == DeliveryGuarantee.EXACTLY_ONCE) {
-            transaction = (TransactionImpl) getOrCreateTransaction(topic);
+            transaction = (TransactionImpl) getOrCreateTransaction(transactionTopic(topic));
         }
 
         return (TypedMessageBuilder<T>)
@@ -161,7 +181,8 @@ public class ProducerRegister implements Closeable {
 
     /**
      * Convert the transactions into a committable list for Pulsar Committer. The transactions would
-     * be removed until Flink triggered a checkpoint.
+     * be removed until Flink triggered a checkpoint. The transactions for the next checkpoint are
+     * requested in the background, one for every topic written in this checkpoint.
      */
     public List<PulsarCommittable> prepareCommit() {
         List<PulsarCommittable> committables = new ArrayList<>(transactions.size());
@@ -172,6 +193,9 @@ public class ProducerRegister implements Closeable {
 
             committables.add(new PulsarCommittable(txnID, topic));
         }
+        if (transactionPool != null) {
+            transactionPool.fill(transactions.size());
+        }
         transactions.clear();
 
         return committables;
@@ -182,13 +206,28 @@ public class ProducerRegister implements Closeable {
      * successfully persisted.
      */
     public void flush() throws IOException {
-        for (Map<SchemaHash, Producer<?>> set : producers.values()) {
-            for (Producer<?> producer : set.values()) {
+        for (TopicProducers topicProducers : producers.values()) {
+            for (Producer<?> producer : topicProducers.producers.values()) {
                 producer.flush();
             }
         }
     }
 
+    /**
+     * Trigger the flushing in all the producers without blocking. The returned future would be
+     * completed after all the messages sent before have been persisted.
+     */
+    public CompletableFuture<Void> flushAsync() {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (TopicProducers topicProducers : producers.values()) {
+            for (Producer<?> producer : topicProducers.producers.values()) {
+                futures.add(producer.flushAsync());
+            }
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
     @Override
     public void close() throws IOException {
         try (Closer closer = Closer.create()) {
@@ -207,14 +246,29 @@ public class ProducerRegister implements Closeable {
         }
     }
 
-    /** Create or return the cached topic-related producer. */
+    /**
+     * Create or return the cached topic-related producer. The producers are looked up by the schema
+     * instance first, the schema hash is only calculated when a new schema instance is used.
+     */
     @SuppressWarnings("unchecked")
     private <T> Producer<T> getOrCreateProducer(String topic, Schema<T> schema)
             throws PulsarClientException {
-        Map<SchemaHash, Producer<?>> set = producers.computeIfAbsent(topic, t -> new HashMap<>());
+        TopicProducers topicProducers = producers.get(topic);
+        if (topicProducers == null) {
+            topicProducers = new TopicProducers();
+            producers.put(topic, topicProducers);
+        } else {
+            Producer<?> producer = topicProducers.get(schema);
+            if (producer != null) {
+                return (Producer<T>) producer;
+            }
+        }
+
         SchemaHash hash = PulsarSchemaUtils.hash(schema);
-        if (set.containsKey(hash)) {
-            return (Producer<T>) set.get(hash);
+        Producer<?> existed = topicProducers.producers.get(hash);
+        if (existed != null) {
+            topicProducers.cache(schema, existed);
+            return (Producer<T>) existed;
         }
 
         try {
@@ -246,7 +300,8 @@ public class ProducerRegister implements Closeable {
 
         // Expose the stats for calculating and monitoring.
         exposeProducerMetrics(producer);
-        set.put(hash, producer);
+        topicProducers.producers.put(hash, producer);
+        topicProducers.cache(schema, producer);
 
         return producer;
     }
@@ -279,20 +334,31 @@ public class ProducerRegister implements Closeable {
     }
 
     /**
-     * Get the cached topic-related transaction. Or create a new transaction after checkpointing.
+     * Get the cached topic-related transaction. Or take a transaction from the pool after
+     * checkpointing.
      */
-    private Transaction getOrCreateTransaction(String topic) throws PulsarClientException {
-        if (transactions.containsKey(topic)) {
-            return transactions.get(topic);
+    private Transaction getOrCreateTransaction(@Nullable String topic)
+            throws PulsarClientException {
+        Transaction transaction = transactions.get(topic);
+        if (transaction != null) {
+            return transaction;
         }
 
-        long timeoutMillis = sinkConfiguration.getTransactionTimeoutMillis();
-        Transaction transaction = createTransaction(pulsarClient, timeoutMillis);
+        transaction = checkNotNull(transactionPool).take();
         transactions.put(topic, transaction);
 
         return transaction;
     }
 
+    /**
+     * All the topics share the same transaction if the shared transaction is enabled. The shared
+     * transaction is committed without the topic.
+     */
+    @Nullable
+    private String transactionTopic(String topic) {
+        return sinkConfiguration.isEnableSharedTransaction() ? null : topic;
+    }
+
     /**
      * {@link Schema#AUTO_PRODUCE_BYTES} is used for extra validation. But it should be initialized
      * with extra info in the Pulsar client. So it can't be reused and will be cached here.
@@ -307,9 +373,10 @@ public class ProducerRegister implements Closeable {
 
     /** Abort the existed transactions. This method would be used when closing PulsarWriter. */
     private void abortTransactions() {
-        if (coordinatorClient == null || transactions.isEmpty()) {
+        if (coordinatorClient == null) {
             return;
         }
+        checkNotNull(transactionPool).clear();
 
         try (Closer closer = Closer.create()) {
             for (Transaction transaction : transactions.values()) {
@@ -326,7 +393,7 @@ public class ProducerRegister implements Closeable {
     private Long currentSendTimeGauge() {
         double sendTime =
                 producers.values().stream()
-                        .flatMap(set -> set.values().stream())
+                        .flatMap(topicProducers -> topicProducers.producers.values().stream())
                         .map(Producer::getStats)
                         .mapToDouble(ProducerStats::getSendLatencyMillis50pct)
                         .average()
@@ -369,4 +436,46 @@ public class ProducerRegister implements Closeable {
             group.gauge(PENDING_QUEUE_SIZE, stats::getPendingQueueSize);
         }
     }
+
+    /**
+     * The producers of a topic. A producer is created for every distinct schema, but the schema
+     * instances are mostly reused between the records. So we cache the producer by the schema
+     * instance and remember the last used one to avoid hashing the schema info for every record.
+     */
+    private static final class TopicProducers {
+
+        /** Avoid leaking the schema instances if the serializer creates them for every record. */
+        private static final int MAX_CACHED_SCHEMA_INSTANCES = 64;
+
+        private final Map<SchemaHash, Producer<?>> producers = new HashMap<>();
+        private final Map<Schema<?>, Producer<?>> schemaProducers = new IdentityHashMap<>();
+
+        @Nullable private Schema<?> lastSchema;
+        @Nullable private Producer<?> lastProducer;
+
+        @Nullable
+        private Producer<?> get(Schema<?> schema) {
+            if (schema == lastSchema) {
+                return lastProducer;
+            }
+
+            Producer<?> producer = schemaProducers.get(schema);
+            if (producer != null) {
+                this.lastSchema = schema;
+                this.lastProducer = producer;
+            }
+
+            return producer;
+        }
+
+        private void cache(Schema<?> schema, Producer<?> producer) {
+            if (schemaProducers.size() >= MAX_CACHED_SCHEMA_INSTANCES) {
+                schemaProducers.clear();
+            }
+            schemaProducers.put(schema, producer);
+
+            this.lastSchema = schema;
+            this.lastProducer = producer;
+        }
+    }
 }
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.sink.writer.topic;
+
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.util.clock.Clock;
+import org.apache.flink.util.clock.SystemClock;
+
+import org.apache.pulsar.client.api.PulsarClient;
+import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.transaction.Transaction;
+import org.apache.pulsar.client.api.transaction.TransactionCoordinatorClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.apache.flink.connector.pulsar.common.utils.PulsarTransactionUtils.createTransaction;
+import static org.apache.flink.connector.pulsar.common.utils.PulsarTransactionUtils.createTransactionAsync;
+
+/**
+ * A pool of the transactions which are requested ahead of time. The pool is filled on the
+ * checkpoint, so the first writes after the checkpoint could take the created transactions instead
+ * of waiting for the transaction coordinator on the task thread.
+ *
+ * <p>The transactions are created by the Pulsar client asynchronously. A transaction taken from the
+ * pool should live through a checkpoint interval, the pool is filled on every checkpoint, so the
+ * interval between the two latest fillings is the lifetime a checkpoint needs. A pooled transaction
+ * would be aborted if the rest of its timeout is shorter than this lifetime. Half of the
+ * transaction timeout is used before the interval is known. The pool isn't filled when the lifetime
+ * exceeds the transaction timeout, since none of the pooled transactions could be used.
+ */
+@Internal
+public class TransactionPool {
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionPool.class);
+
+    private final PulsarClient pulsarClient;
+    private final TransactionCoordinatorClient coordinatorClient;
+    private final long timeoutMillis;
+    private final Clock clock;
+    private final Deque<PooledTransaction> transactions;
+
+    /** The time of the latest filling, it's negative before the first filling. */
+    private long lastFillTime;
+
+    /** The lifetime of a transaction which is taken from the pool for a checkpoint. */
+    private long checkpointLifetime;
+
+    public TransactionPool(
+            PulsarClient pulsarClient,
+            TransactionCoordinatorClient coordinatorClient,
+            long timeoutMillis) {
+        this(pulsarClient, coordinatorClient, timeoutMillis, SystemClock.getInstance());
+    }
+
+    @VisibleForTesting
+    TransactionPool(
+            PulsarClient pulsarClient,
+            TransactionCoordinatorClient coordinatorClient,
+            long timeoutMillis,
+            Clock clock) {
+        this.pulsarClient = pulsarClient;
+        this.coordinatorClient = coordinatorClient;
+        this.timeoutMillis = timeoutMillis;
+        this.clock = clock;
+        this.transactions = new ArrayDeque<>();
+        this.lastFillTime = -1;
+        this.checkpointLifetime = timeoutMillis / 2;
+    }
+
+    /**
+     * Take a created transaction from the pool. We would wait for the earliest requested
+     * transaction if none of them is created. A new transaction would be created if the pool is
+     * empty.
+     */
+    public Transaction take() throws PulsarClientException {
+        abortExpiredTransactions();
+
+        // Prefer the transactions which have been created.
+        for (Iterator<PooledTransaction> it = transactions.iterator(); it.hasNext(); ) {
+            CompletableFuture<Transaction> future = it.next().future;
+            if (future.isDone()) {
+                it.remove();
+                if (!future.isCompletedExceptionally()) {
+                    return future.join();
+                }
+            }
+        }
+
+        PooledTransaction pooled = transactions.pollFirst();
+        if (pooled != null) {
+            try {
+                return pooled.future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PulsarClientException(e);
+            } catch (ExecutionException e) {
+                LOG.warn("Failed to create the pooled transaction, create it again.", e);
+            }
+        }
+
+        return createTransaction(pulsarClient, timeoutMillis);
+    }
+
+    /**
+     * Request the transactions asynchronously until the pool has the given size. It's called on
+     * every checkpoint. Nothing is requested if the checkpoint lifetime exceeds the transaction
+     * timeout.
+     */
+    public void fill(int size) {
+        long now = clock.absoluteTimeMillis();
+        if (lastFillTime >= 0) {
+            this.checkpointLifetime = now - lastFillTime;
+        }
+        this.lastFillTime = now;
+        abortExpiredTransactions();
+
+        if (checkpointLifetime >= timeoutMillis) {
+            // The pooled transactions would be aborted before they are taken, don't request them.
+            LOG.debug(
+                    "Skip filling the transaction pool, checkpoint lifetime {} ms, timeout {} ms.",
+                    checkpointLifetime,
+                    timeoutMillis);
+            return;
+        }
+
+        try {
+            for (int i = transactions.size(); i < size; i++) {
+                CompletableFuture<Transaction> future =
+                        createTransactionAsync(pulsarClient, timeoutMillis);
+                transactions.addLast(new PooledTransaction(future, now));
+            }
+        } catch (PulsarClientException e) {
+            LOG.warn("Failed to request the transactions for the transaction pool.", e);
+        }
+    }
+
+    /** The number of the pooled transactions, including the ones which are being created. */
+    public int size() {
+        return transactions.size();
+    }
+
+    /** Abort all the pooled transactions asynchronously. */
+    public void clear() {
+        for (PooledTransaction pooled : transactions) {
+            abort(pooled.future);
+        }
+        transactions.clear();
+    }
+
+    @VisibleForTesting
+    void abortExpiredTransactions() {
+        long expiredTime = clock.absoluteTimeMillis() - (timeoutMillis - checkpointLifetime);
+        while (!transactions.isEmpty() && transactions.peekFirst().requestTime < expiredTime) {
+            abort(transactions.pollFirst().future);
+        }
+    }
+
+    private void abort(CompletableFuture<Transaction> future) {
+        future.thenAccept(transaction -> coordinatorClient.abortAsync(transaction.getTxnID()));
+    }
+
+    /** The transaction with the time when it's requested. */
+    private static final class PooledTransaction {
+
+        private final CompletableFuture<Transaction> future;
+        private final long requestTime;
+
+        private PooledTransaction(CompletableFuture<Transaction> future, long requestTime) {
+            this.future = future;
+            this.requestTime = requestTime;
+        }
+    }
+}
@@ -135,7 +135,11 @@ public final class PulsarSource<OUT>
     public SourceReader<OUT, PulsarPartitionSplit> createReader(SourceReaderContext readerContext)
             throws Exception {
         return PulsarSourceReader.create(
-                sourceConfiguration, deserializationSchema, pulsarCrypto, readerContext);
+                sourceConfiguration,
+                startCursor,
+                deserializationSchema,
+                pulsarCrypto,
+                readerContext);
     }
 
     @Internal
@@ -66,7 +66,11 @@ import static org.apache.flink.connector.pulsar.common.config.PulsarOptions.PULS
 import static org.apache.flink.connector.pulsar.common.config.PulsarOptions.PULSAR_SERVICE_URL;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_CONSUMER_NAME;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_CRYPTO_FAILURE_ACTION;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_BATCH_RECEIVE;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_NON_DURABLE_READER;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_MAX_FETCHER_THREADS;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_PARTITION_DISCOVERY_INTERVAL_MS;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_RANGE_SPLIT_SIZE;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_READ_SCHEMA_EVOLUTION;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_SUBSCRIPTION_NAME;
 import static org.apache.flink.connector.pulsar.source.config.PulsarSourceConfigUtils.SOURCE_CONFIG_VALIDATOR;
@@ -563,6 +567,29 @@ public final class PulsarSourceBuilder<OUT> {
                     PULSAR_PARTITION_DISCOVERY_INTERVAL_MS);
             configBuilder.override(PULSAR_PARTITION_DISCOVERY_INTERVAL_MS, -1L);
         }
+        if (Boolean.TRUE.equals(configBuilder.get(PULSAR_ENABLE_NON_DURABLE_READER))) {
+            checkState(
+                    boundedness == Boundedness.BOUNDED,
+                    "The non-durable reader can only be enabled on the bounded source.");
+            // The Pulsar reader has no batch receive policy, it would batch with the defaults.
+            checkState(
+                    !Boolean.TRUE.equals(configBuilder.get(PULSAR_ENABLE_BATCH_RECEIVE)),
+                    "The batch receive can't be enabled with the non-durable reader.");
+        }
+        if (configBuilder.contains(PULSAR_MAX_FETCHER_THREADS)) {
+            // The multiplexed fetchers poll their splits one message at a time.
+            checkState(
+                    !Boolean.TRUE.equals(configBuilder.get(PULSAR_ENABLE_BATCH_RECEIVE)),
+                    "The batch receive can't be enabled with the multiplexed fetchers.");
+        }
+        if (configBuilder.contains(PULSAR_RANGE_SPLIT_SIZE)) {
+            checkArgument(
+                    configBuilder.get(PULSAR_RANGE_SPLIT_SIZE) > 0,
+                    "The range split size should be greater than zero.");
+            checkState(
+                    Boolean.TRUE.equals(configBuilder.get(PULSAR_ENABLE_NON_DURABLE_READER)),
+                    "The range splits can only be consumed by the non-durable reader.");
+        }
 
         checkNotNull(deserializationSchema, "deserializationSchema should be set.");
         // Schema evolution validation.
@@ -160,6 +160,26 @@ public final class PulsarSourceOptions {
                                             code("pulsar.source.maxFetchTime"))
                                     .build());
 
+    public static final ConfigOption<Integer> PULSAR_MAX_FETCHER_THREADS =
+            ConfigOptions.key(SOURCE_CONFIG_PREFIX + "maxFetcherThreads")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "The maximum number of fetcher threads in a source reader.")
+                                    .text(
+                                            " It's not configured by default and every split would be consumed in its own fetcher thread.")
+                                    .linebreak()
+                                    .text(
+                                            "A positive value enables the multiplexed fetchers. The splits would share these fetcher threads")
+                                    .text(
+                                            " and the splits in the same fetcher would be polled in a round-robin manner.")
+                                    .text(
+                                            " It can't be configured with %s.",
+                                            code("pulsar.source.enableBatchReceive"))
+                                    .build());
+
     public static final ConfigOption<CursorVerification> PULSAR_VERIFY_INITIAL_OFFSETS =
             ConfigOptions.key(SOURCE_CONFIG_PREFIX + "verifyInitialOffsets")
                     .enumType(CursorVerification.class)
@@ -232,6 +252,117 @@ public final class PulsarSourceOptions {
                                             code("StartCursor"))
                                     .build());
 
+    public static final ConfigOption<Boolean> PULSAR_ENABLE_BATCH_RECEIVE =
+            ConfigOptions.key(SOURCE_CONFIG_PREFIX + "enableBatchReceive")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "Drain the receiver queue of the Pulsar consumer by using %s instead of receiving the messages one by one.",
+                                            code("Consumer.batchReceive()"))
+                                    .text(
+                                            " The size of every batch is limited by the %s options.",
+                                            code("pulsar.consumer.batchReceivePolicy"))
+                                    .text(
+                                            " A fetch would still be finished when it exceeds %s or %s.",
+                                            code("pulsar.source.maxFetchRecords"),
+                                            code("pulsar.source.maxFetchTime"))
+                                    .text(
+                                            " It can't be enabled with %s or %s.",
+                                            code("pulsar.source.enableNonDurableReader"),
+                                            code("pulsar.source.maxFetcherThreads"))
+                                    .build());
+
+    public static final ConfigOption<Boolean> PULSAR_ENABLE_ADAPTIVE_FETCH =
+            ConfigOptions.key(SOURCE_CONFIG_PREFIX + "enableAdaptiveFetch")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "Adjust the records and time budget of every fetch by the observed receive rate, the backlog in the receiver queue and the fill level of the element queue.")
+                                    .text(
+                                            " A fetch on a low-volume partition would be handed over earlier to reduce the latency, and a fetch on a high-volume partition would collect larger batches.")
+                                    .text(
+                                            " The budget never exceeds %s and %s.",
+                                            code("pulsar.source.maxFetchRecords"),
+                                            code("pulsar.source.maxFetchTime"))
+                                    .build());
+
+    public static final ConfigOption<Long> PULSAR_SPLIT_IDLE_TIMEOUT =
+            ConfigOptions.key(SOURCE_CONFIG_PREFIX + "splitIdleTimeout")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "The time (in ms) after which a split is considered idle if none of its messages have been received and its receiver queue is empty.")
+                                    .text(
+                                            " The output of an idle split would be marked as idle, so it wouldn't hold back the watermark of the source. The split becomes active again once it receives new messages.")
+                                    .text(
+                                            " The periodic watermarks make the output active, so it's marked as idle again at most once per %s.",
+                                            code("pipeline.auto-watermark-interval"))
+                                    .linebreak()
+                                    .text(
+                                            "It's not configured by default, the splits are never marked as idle.")
+                                    .build());
+
+    public static final ConfigOption<Boolean> PULSAR_ENABLE_LAG_AWARE_SPLIT_ASSIGNMENT =
+            ConfigOptions.key(SOURCE_CONFIG_PREFIX + "enableLagAwareSplitAssignment")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "Assign the partitions by their subscription backlog and message rate instead of the topic name hash.")
+                                    .text(
+                                            " The stats are queried from the Pulsar topic stats, every new partition would be assigned to the least loaded reader.")
+                                    .text(
+                                            " The imbalance of the assignment is refreshed in %s and exposed as an enumerator metric.",
+                                            code("pulsar.source.partitionDiscoveryIntervalMs"))
+                                    .build());
+
+    public static final ConfigOption<Boolean> PULSAR_ENABLE_NON_DURABLE_READER =
+            ConfigOptions.key(SOURCE_CONFIG_PREFIX + "enableNonDurableReader")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "Read the splits of a bounded source by using the non-durable Pulsar %s instead of the subscription.",
+                                            code("Reader"))
+                                    .text(
+                                            " No subscription would be created or reset on the topics, and the consumed messages are never acknowledged.")
+                                    .text(
+                                            " The consuming position is only kept in the Flink checkpoint.")
+                                    .linebreak()
+                                    .text(
+                                            "This is designed for backfilling the historical messages, it can only be enabled on the source which is bounded by %s.",
+                                            code("PulsarSourceBuilder.setBoundedStopCursor()"))
+                                    .text(
+                                            " The reader doesn't support the batch receive policy, so %s can't be enabled with it.",
+                                            code("pulsar.source.enableBatchReceive"))
+                                    .build());
+
+    public static final ConfigOption<Long> PULSAR_RANGE_SPLIT_SIZE =
+            ConfigOptions.key(SOURCE_CONFIG_PREFIX + "rangeSplitSize")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "Divide every partition into the message id ranges of about this size (in bytes) by the ledger boundaries of the partition.")
+                                    .text(
+                                            " Every range is consumed as a split by its own reader, so a large partition can be read by multiple subtasks in parallel.")
+                                    .text(
+                                            " The ledgers are queried from the internal stats of the partition when it's discovered.")
+                                    .linebreak()
+                                    .text(
+                                            "It's not configured by default, every partition is consumed as one split. This option requires %s.",
+                                            code("pulsar.source.enableNonDurableReader"))
+                                    .build());
+
     ///////////////////////////////////////////////////////////////////////////////
     //
     // The configuration for ConsumerConfigurationData part.
@@ -537,6 +668,40 @@ public final class PulsarSourceOptions {
                                             code("PulsarClientException"))
                                     .build());
 
+    // The config set for BatchReceivePolicy, only used when batch receive is enabled.
+
+    public static final ConfigOption<Integer> PULSAR_BATCH_RECEIVE_MAX_NUM_MESSAGES =
+            ConfigOptions.key(CONSUMER_CONFIG_PREFIX + "batchReceivePolicy.maxNumMessages")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "The maximum number of messages in a single batch receive.")
+                                    .text(
+                                            " It's not configured by default and we will use the value of %s instead.",
+                                            code("pulsar.source.maxFetchRecords"))
+                                    .build());
+
+    public static final ConfigOption<Integer> PULSAR_BATCH_RECEIVE_MAX_NUM_BYTES =
+            ConfigOptions.key(CONSUMER_CONFIG_PREFIX + "batchReceivePolicy.maxNumBytes")
+                    .intType()
+                    .defaultValue(10 * 1024 * 1024)
+                    .withDescription(
+                            "The maximum size (in bytes) of the message payloads in a single batch receive.");
+
+    public static final ConfigOption<Integer> PULSAR_BATCH_RECEIVE_TIMEOUT_MILLIS =
+            ConfigOptions.key(CONSUMER_CONFIG_PREFIX + "batchReceivePolicy.timeoutMillis")
+                    .intType()
+                    .defaultValue(100)
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "The maximum time (in ms) to wait for a batch receive to be filled.")
+                                    .text(
+                                            " The received messages would be returned when the timeout is reached, even if the batch is not full.")
+                                    .build());
+
     // The config set for DeadLetterPolicy
 
     /**
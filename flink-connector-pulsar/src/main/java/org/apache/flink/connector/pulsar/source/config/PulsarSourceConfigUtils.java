@@ -26,6 +26,8 @@ import org.apache.pulsar.client.api.Consumer;
 import org.apache.pulsar.client.api.ConsumerBuilder;
 import org.apache.pulsar.client.api.DeadLetterPolicy;
 import org.apache.pulsar.client.api.PulsarClient;
+import org.apache.pulsar.client.api.Reader;
+import org.apache.pulsar.client.api.ReaderBuilder;
 import org.apache.pulsar.client.api.Schema;
 import org.apache.pulsar.client.api.SubscriptionType;
 
@@ -46,6 +48,9 @@ import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSA
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ACK_TIMEOUT_MILLIS;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_AUTO_ACK_OLDEST_CHUNKED_MESSAGE_ON_QUEUE_FULL;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_AUTO_SCALED_RECEIVER_QUEUE_SIZE_ENABLED;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_BATCH_RECEIVE_MAX_NUM_BYTES;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_BATCH_RECEIVE_MAX_NUM_MESSAGES;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_BATCH_RECEIVE_TIMEOUT_MILLIS;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_CONSUMER_NAME;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_CONSUMER_PROPERTIES;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_CRYPTO_FAILURE_ACTION;
@@ -67,7 +72,7 @@ import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSA
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_SUBSCRIPTION_PROPERTIES;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_TICK_DURATION_MILLIS;
 
-/** Create source related {@link Consumer} and validate config. */
+/** Create source related {@link Consumer} and {@link Reader}, and validate config. */
 @Internal
 public final class PulsarSourceConfigUtils {
 
@@ -150,13 +155,59 @@ public final class PulsarSourceConfigUtils {
         // We only use exclusive subscription.
         builder.subscriptionType(SubscriptionType.Exclusive);
 
-        // Flink connector doesn't need any batch receiving behaviours.
-        // Disable the batch-receive timer for the Consumer instance.
-        builder.batchReceivePolicy(DISABLED_BATCH_RECEIVE_POLICY);
+        if (configuration.isEnableBatchReceive()) {
+            builder.batchReceivePolicy(createBatchReceivePolicy(configuration));
+        } else {
+            // Flink connector doesn't need any batch receiving behaviours.
+            // Disable the batch-receive timer for the Consumer instance.
+            builder.batchReceivePolicy(DISABLED_BATCH_RECEIVE_POLICY);
+        }
 
         return builder;
     }
 
+    /**
+     * Create a pulsar reader builder by using the given Configuration. Only the options which are
+     * supported by the non-durable reader are applied.
+     */
+    public static <T> ReaderBuilder<T> createReaderBuilder(
+            PulsarClient client, Schema<T> schema, SourceConfiguration configuration) {
+        ReaderBuilder<T> builder = client.newReader(schema);
+
+        configuration.useOption(PULSAR_SUBSCRIPTION_NAME, builder::subscriptionRolePrefix);
+        configuration.useOption(PULSAR_CRYPTO_FAILURE_ACTION, builder::cryptoFailureAction);
+        configuration.useOption(PULSAR_RECEIVER_QUEUE_SIZE, builder::receiverQueueSize);
+        configuration.useOption(
+                PULSAR_CONSUMER_NAME,
+                consumerName -> String.format(consumerName, UUID.randomUUID()),
+                builder::readerName);
+        configuration.useOption(PULSAR_READ_COMPACTED, builder::readCompacted);
+        configuration.useOption(
+                PULSAR_MAX_PENDING_CHUNKED_MESSAGE, builder::maxPendingChunkedMessage);
+        configuration.useOption(
+                PULSAR_AUTO_ACK_OLDEST_CHUNKED_MESSAGE_ON_QUEUE_FULL,
+                builder::autoAckOldestChunkedMessageOnQueueFull);
+        configuration.useOption(
+                PULSAR_EXPIRE_TIME_OF_INCOMPLETE_CHUNKED_MESSAGE_MILLIS,
+                v -> builder.expireTimeOfIncompleteChunkedMessage(v, MILLISECONDS));
+        configuration.useOption(PULSAR_POOL_MESSAGES, builder::poolMessages);
+
+        return builder;
+    }
+
+    private static BatchReceivePolicy createBatchReceivePolicy(SourceConfiguration configuration) {
+        int maxNumMessages =
+                configuration
+                        .getOptional(PULSAR_BATCH_RECEIVE_MAX_NUM_MESSAGES)
+                        .orElse(configuration.getMaxFetchRecords());
+
+        return BatchReceivePolicy.builder()
+                .maxNumMessages(maxNumMessages)
+                .maxNumBytes(configuration.get(PULSAR_BATCH_RECEIVE_MAX_NUM_BYTES))
+                .timeout(configuration.get(PULSAR_BATCH_RECEIVE_TIMEOUT_MILLIS), MILLISECONDS)
+                .build();
+    }
+
     private static Optional<DeadLetterPolicy> createDeadLetterPolicy(
             SourceConfiguration configuration) {
         if (configuration.contains(PULSAR_MAX_REDELIVER_COUNT)
@@ -25,6 +25,7 @@ import org.apache.flink.connector.pulsar.common.config.PulsarConfiguration;
 import org.apache.flink.connector.pulsar.source.enumerator.cursor.CursorPosition;
 import org.apache.flink.connector.pulsar.source.enumerator.cursor.StartCursor;
 
+import org.apache.pulsar.client.api.Consumer;
 import org.apache.pulsar.client.api.ConsumerBuilder;
 import org.apache.pulsar.client.api.Schema;
 import org.apache.pulsar.client.api.SubscriptionMode;
@@ -37,14 +38,21 @@ import static org.apache.flink.connector.base.source.reader.SourceReaderOptions.
 import static org.apache.flink.connector.pulsar.common.config.PulsarOptions.PULSAR_STATS_INTERVAL_SECONDS;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ALLOW_KEY_SHARED_OUT_OF_ORDER_DELIVERY;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_AUTO_COMMIT_CURSOR_INTERVAL;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_ADAPTIVE_FETCH;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_AUTO_ACKNOWLEDGE_MESSAGE;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_BATCH_RECEIVE;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_LAG_AWARE_SPLIT_ASSIGNMENT;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_NON_DURABLE_READER;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_SOURCE_METRICS;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_FETCH_ONE_MESSAGE_TIME;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_MAX_FETCHER_THREADS;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_MAX_FETCH_RECORDS;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_MAX_FETCH_TIME;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_PARTITION_DISCOVERY_INTERVAL_MS;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_RANGE_SPLIT_SIZE;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_READ_SCHEMA_EVOLUTION;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_RESET_SUBSCRIPTION_CURSOR;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_SPLIT_IDLE_TIMEOUT;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_SUBSCRIPTION_MODE;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_SUBSCRIPTION_NAME;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_VERIFY_INITIAL_OFFSETS;
@@ -61,6 +69,7 @@ public class SourceConfiguration extends PulsarConfiguration {
     private final int fetchOneMessageTime;
     private final Duration maxFetchTime;
     private final int maxFetchRecords;
+    private final int maxFetcherThreads;
     private final CursorVerification verifyInitialOffsets;
     private final String subscriptionName;
     private final SubscriptionMode subscriptionMode;
@@ -68,6 +77,12 @@ public class SourceConfiguration extends PulsarConfiguration {
     private final boolean enableSchemaEvolution;
     private final boolean enableMetrics;
     private final boolean resetSubscriptionCursor;
+    private final boolean enableBatchReceive;
+    private final boolean enableAdaptiveFetch;
+    private final long splitIdleTimeout;
+    private final boolean enableLagAwareSplitAssignment;
+    private final boolean enableNonDurableReader;
+    private final long rangeSplitSize;
 
     public SourceConfiguration(Configuration configuration) {
         super(configuration);
@@ -79,6 +94,7 @@ public class SourceConfiguration extends PulsarConfiguration {
         this.fetchOneMessageTime = getOptional(PULSAR_FETCH_ONE_MESSAGE_TIME).orElse(0);
         this.maxFetchTime = get(PULSAR_MAX_FETCH_TIME, Duration::ofMillis);
         this.maxFetchRecords = get(PULSAR_MAX_FETCH_RECORDS);
+        this.maxFetcherThreads = getOptional(PULSAR_MAX_FETCHER_THREADS).orElse(0);
         this.verifyInitialOffsets = get(PULSAR_VERIFY_INITIAL_OFFSETS);
         this.subscriptionName = get(PULSAR_SUBSCRIPTION_NAME);
         this.subscriptionMode = get(PULSAR_SUBSCRIPTION_MODE);
@@ -87,6 +103,12 @@ public class SourceConfiguration extends PulsarConfiguration {
         this.enableMetrics =
                 get(PULSAR_ENABLE_SOURCE_METRICS) && get(PULSAR_STATS_INTERVAL_SECONDS) > 0;
         this.resetSubscriptionCursor = get(PULSAR_RESET_SUBSCRIPTION_CURSOR);
+        this.enableBatchReceive = get(PULSAR_ENABLE_BATCH_RECEIVE);
+        this.enableAdaptiveFetch = get(PULSAR_ENABLE_ADAPTIVE_FETCH);
+        this.splitIdleTimeout = getOptional(PULSAR_SPLIT_IDLE_TIMEOUT).orElse(0L);
+        this.enableLagAwareSplitAssignment = get(PULSAR_ENABLE_LAG_AWARE_SPLIT_ASSIGNMENT);
+        this.enableNonDurableReader = get(PULSAR_ENABLE_NON_DURABLE_READER);
+        this.rangeSplitSize = getOptional(PULSAR_RANGE_SPLIT_SIZE).orElse(0L);
     }
 
     /** The capacity of the element queue in the source reader. */
@@ -156,6 +178,15 @@ public class SourceConfiguration extends PulsarConfiguration {
         return maxFetchRecords;
     }
 
+    /**
+     * The maximum number of fetcher threads in a source reader. A non-positive value means that
+     * every split would be consumed in its own fetcher thread. Otherwise, the splits would be
+     * multiplexed on these fetcher threads.
+     */
+    public int getMaxFetcherThreads() {
+        return maxFetcherThreads;
+    }
+
     /** Validate the {@link CursorPosition} generated by {@link StartCursor}. */
     public CursorVerification getVerifyInitialOffsets() {
         return verifyInitialOffsets;
@@ -204,6 +235,51 @@ public class SourceConfiguration extends PulsarConfiguration {
         return resetSubscriptionCursor;
     }
 
+    /**
+     * Whether to drain the receiver queue with {@link Consumer#batchReceive()} instead of receiving
+     * the messages one by one.
+     */
+    public boolean isEnableBatchReceive() {
+        return enableBatchReceive;
+    }
+
+    /**
+     * Whether to adjust the records and time budget of every fetch instead of using {@link
+     * #getMaxFetchRecords()} and {@link #getMaxFetchTime()} as is.
+     */
+    public boolean isEnableAdaptiveFetch() {
+        return enableAdaptiveFetch;
+    }
+
+    /**
+     * The time in millis after which a split without any received messages is marked as idle. Zero
+     * means the splits are never marked as idle.
+     */
+    public long getSplitIdleTimeout() {
+        return splitIdleTimeout;
+    }
+
+    /** Whether to assign the partitions by their backlog and message rate. */
+    public boolean isEnableLagAwareSplitAssignment() {
+        return enableLagAwareSplitAssignment;
+    }
+
+    /**
+     * Whether to read the splits by using the non-durable reader. No subscription is created and no
+     * message is acknowledged in this mode.
+     */
+    public boolean isEnableNonDurableReader() {
+        return enableNonDurableReader;
+    }
+
+    /**
+     * The size in bytes of the message id ranges which a partition is divided into. Zero means the
+     * partitions are not divided.
+     */
+    public long getRangeSplitSize() {
+        return rangeSplitSize;
+    }
+
     /** Convert the subscription into a readable str. */
     public String getSubscriptionDesc() {
         return getSubscriptionName() + "(Exclusive," + getSubscriptionMode() + ")";
@@ -228,13 +304,20 @@ public class SourceConfiguration extends PulsarConfiguration {
                 && fetchOneMessageTime == that.fetchOneMessageTime
                 && Objects.equals(maxFetchTime, that.maxFetchTime)
                 && maxFetchRecords == that.maxFetchRecords
+                && maxFetcherThreads == that.maxFetcherThreads
                 && verifyInitialOffsets == that.verifyInitialOffsets
                 && Objects.equals(subscriptionName, that.subscriptionName)
                 && subscriptionMode == that.subscriptionMode
                 && allowKeySharedOutOfOrderDelivery == that.allowKeySharedOutOfOrderDelivery
                 && enableSchemaEvolution == that.enableSchemaEvolution
                 && enableMetrics == that.enableMetrics
-                && resetSubscriptionCursor == that.resetSubscriptionCursor;
+                && resetSubscriptionCursor == that.resetSubscriptionCursor
+                && enableBatchReceive == that.enableBatchReceive
+                && enableAdaptiveFetch == that.enableAdaptiveFetch
+                && splitIdleTimeout == that.splitIdleTimeout
+                && enableLagAwareSplitAssignment == that.enableLagAwareSplitAssignment
+                && enableNonDurableReader == that.enableNonDurableReader
+                && rangeSplitSize == that.rangeSplitSize;
     }
 
     @Override
@@ -248,12 +331,19 @@ public class SourceConfiguration extends PulsarConfiguration {
                 fetchOneMessageTime,
                 maxFetchTime,
                 maxFetchRecords,
+                maxFetcherThreads,
                 verifyInitialOffsets,
                 subscriptionName,
                 subscriptionMode,
                 allowKeySharedOutOfOrderDelivery,
                 enableSchemaEvolution,
                 enableMetrics,
-                resetSubscriptionCursor);
+                resetSubscriptionCursor,
+                enableBatchReceive,
+                enableAdaptiveFetch,
+                splitIdleTimeout,
+                enableLagAwareSplitAssignment,
+                enableNonDurableReader,
+                rangeSplitSize);
     }
 }
@@ -20,8 +20,8 @@ package org.apache.flink.connector.pulsar.source.enumerator;
 
 import org.apache.flink.connector.pulsar.source.enumerator.assigner.SplitAssigner;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
+import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartitionSet;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -30,19 +30,25 @@ import java.util.Set;
  */
 public class PulsarSourceEnumState {
 
-    /** The topic partitions that have been appended to this source. */
-    private final Set<TopicPartition> appendedPartitions;
+    /**
+     * The topic partitions that have been appended to this source. They are kept in a {@link
+     * TopicPartitionSet} for reducing the memory of the large partition sets.
+     */
+    private final TopicPartitionSet appendedPartitions;
 
     public PulsarSourceEnumState(Set<TopicPartition> appendedPartitions) {
-        this.appendedPartitions = appendedPartitions;
+        this.appendedPartitions =
+                appendedPartitions instanceof TopicPartitionSet
+                        ? (TopicPartitionSet) appendedPartitions
+                        : new TopicPartitionSet(appendedPartitions);
     }
 
-    public Set<TopicPartition> getAppendedPartitions() {
+    public TopicPartitionSet getAppendedPartitions() {
         return appendedPartitions;
     }
 
     /** The initial assignment state for Pulsar. */
     public static PulsarSourceEnumState initialState() {
-        return new PulsarSourceEnumState(new HashSet<>());
+        return new PulsarSourceEnumState(new TopicPartitionSet());
     }
 }
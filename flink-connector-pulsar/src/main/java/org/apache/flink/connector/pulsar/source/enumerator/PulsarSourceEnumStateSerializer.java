@@ -19,6 +19,8 @@
 package org.apache.flink.connector.pulsar.source.enumerator;
 
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
+import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartitionSet;
+import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicRange;
 import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
 import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplitSerializer;
 import org.apache.flink.core.io.SimpleVersionedSerializer;
@@ -30,18 +32,23 @@ import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.apache.flink.connector.pulsar.common.utils.PulsarSerdeUtils.deserializeMap;
 import static org.apache.flink.connector.pulsar.common.utils.PulsarSerdeUtils.deserializeSet;
-import static org.apache.flink.connector.pulsar.common.utils.PulsarSerdeUtils.serializeSet;
+import static org.apache.flink.connector.pulsar.common.utils.PulsarSerdeUtils.deserializeVarInt;
+import static org.apache.flink.connector.pulsar.common.utils.PulsarSerdeUtils.serializeVarInt;
+import static org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition.NON_PARTITION_ID;
 
 /** The {@link SimpleVersionedSerializer Serializer} for the enumerator state of Pulsar source. */
 public class PulsarSourceEnumStateSerializer
         implements SimpleVersionedSerializer<PulsarSourceEnumState> {
 
     // This version should be bumped after modifying the PulsarSourceEnumState.
-    public static final int CURRENT_VERSION = 3;
+    public static final int CURRENT_VERSION = 4;
 
     public static final PulsarSourceEnumStateSerializer INSTANCE =
             new PulsarSourceEnumStateSerializer();
@@ -62,8 +69,7 @@ public class PulsarSourceEnumStateSerializer
     public byte[] serialize(PulsarSourceEnumState obj) throws IOException {
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
                 DataOutputStream out = new DataOutputStream(baos)) {
-            serializeSet(
-                    out, obj.getAppendedPartitions(), SPLIT_SERIALIZER::serializeTopicPartition);
+            serializePartitions(out, obj.getAppendedPartitions());
             out.flush();
             return baos.toByteArray();
         }
@@ -71,11 +77,13 @@ public class PulsarSourceEnumStateSerializer
 
     @Override
     public PulsarSourceEnumState deserialize(int version, byte[] serialized) throws IOException {
-        // VERSION 2 deserialization, support VERSION 0 and 1 deserialization in the meantime.
+        // VERSION 4 deserialization, support VERSION 0 to 3 deserialization in the meantime.
         try (ByteArrayInputStream bais = new ByteArrayInputStream(serialized);
                 DataInputStream in = new DataInputStream(bais)) {
             Set<TopicPartition> partitions = null;
-            if (version == 3) {
+            if (version == 4) {
+                partitions = deserializePartitions(in);
+            } else if (version == 3) {
                 partitions = deserializeSet(in, deserializePartition(2));
             } else if (version == 2) {
                 partitions = deserializeSet(in, deserializePartition(1));
@@ -97,6 +105,68 @@ public class PulsarSourceEnumStateSerializer
 
     // ----------------- private methods -------------------
 
+    /**
+     * The topic names are written once, the partitions of a topic are grouped by their ranges. The
+     * partition ids in a group are sorted and written as the deltas in variable-length integers.
+     */
+    private void serializePartitions(DataOutputStream out, TopicPartitionSet partitions)
+            throws IOException {
+        Set<String> topics = partitions.getTopics();
+        serializeVarInt(out, topics.size());
+
+        for (String topic : topics) {
+            out.writeUTF(topic);
+            Map<List<TopicRange>, int[]> groups = partitions.getPartitionIds(topic);
+            serializeVarInt(out, groups.size());
+
+            for (Map.Entry<List<TopicRange>, int[]> group : groups.entrySet()) {
+                List<TopicRange> ranges = group.getKey();
+                serializeVarInt(out, ranges.size());
+                for (TopicRange range : ranges) {
+                    serializeVarInt(out, range.getStart());
+                    serializeVarInt(out, range.getEnd());
+                }
+
+                int[] partitionIds = group.getValue();
+                serializeVarInt(out, partitionIds.length);
+                int previous = NON_PARTITION_ID;
+                for (int partitionId : partitionIds) {
+                    serializeVarInt(out, partitionId - previous);
+                    previous = partitionId;
+                }
+            }
+        }
+    }
+
+    private TopicPartitionSet deserializePartitions(DataInputStream in) throws IOException {
+        TopicPartitionSet partitions = new TopicPartitionSet();
+        int topics = deserializeVarInt(in);
+
+        for (int i = 0; i < topics; i++) {
+            String topic = in.readUTF();
+            int groups = deserializeVarInt(in);
+
+            for (int j = 0; j < groups; j++) {
+                int rangeSize = deserializeVarInt(in);
+                List<TopicRange> ranges = new ArrayList<>(rangeSize);
+                for (int k = 0; k < rangeSize; k++) {
+                    int start = deserializeVarInt(in);
+                    int end = deserializeVarInt(in);
+                    ranges.add(new TopicRange(start, end));
+                }
+
+                int partitionSize = deserializeVarInt(in);
+                int partitionId = NON_PARTITION_ID;
+                for (int k = 0; k < partitionSize; k++) {
+                    partitionId += deserializeVarInt(in);
+                    partitions.add(new TopicPartition(topic, partitionId, ranges));
+                }
+            }
+        }
+
+        return partitions;
+    }
+
     private FunctionWithException<DataInputStream, TopicPartition, IOException>
             deserializePartition(int version) {
         return in -> SPLIT_SERIALIZER.deserializeTopicPartition(version, in);
@@ -19,6 +19,7 @@
 package org.apache.flink.connector.pulsar.source.enumerator;
 
 import org.apache.flink.annotation.Internal;
+import org.apache.flink.annotation.VisibleForTesting;
 import org.apache.flink.api.connector.source.SplitEnumerator;
 import org.apache.flink.api.connector.source.SplitEnumeratorContext;
 import org.apache.flink.connector.pulsar.source.config.SourceConfiguration;
@@ -28,6 +29,7 @@ import org.apache.flink.connector.pulsar.source.enumerator.cursor.StartCursor;
 import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
 import org.apache.flink.connector.pulsar.source.enumerator.subscriber.PulsarSubscriber;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
+import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartitionSet;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.range.RangeGenerator;
 import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
 import org.apache.flink.metrics.groups.SplitEnumeratorMetricGroup;
@@ -35,6 +37,7 @@ import org.apache.flink.util.FlinkRuntimeException;
 
 import org.apache.pulsar.client.admin.PulsarAdmin;
 import org.apache.pulsar.client.admin.PulsarAdminException;
+import org.apache.pulsar.client.api.MessageId;
 import org.apache.pulsar.client.api.PulsarClient;
 import org.apache.pulsar.client.api.PulsarClientException;
 import org.slf4j.Logger;
@@ -43,13 +46,21 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.apache.flink.connector.pulsar.common.config.PulsarClientFactory.createAdmin;
 import static org.apache.flink.connector.pulsar.common.config.PulsarClientFactory.createClient;
 import static org.apache.flink.connector.pulsar.source.enumerator.PulsarSourceEnumState.initialState;
+import static org.apache.flink.connector.pulsar.source.enumerator.RangeSplitPlanner.rangeBoundaries;
 import static org.apache.flink.connector.pulsar.source.enumerator.assigner.SplitAssigner.createAssigner;
 
 /** The enumerator class for the pulsar source. */
@@ -59,6 +70,9 @@ public class PulsarSourceEnumerator
 
     private static final Logger LOG = LoggerFactory.getLogger(PulsarSourceEnumerator.class);
 
+    /** The max number of the partitions which are requested concurrently by the async admin API. */
+    private static final int MAX_CONCURRENT_ADMIN_REQUESTS = 32;
+
     private final PulsarClient pulsarClient;
     private final PulsarAdmin pulsarAdmin;
     private final PulsarSubscriber subscriber;
@@ -69,6 +83,12 @@ public class PulsarSourceEnumerator
     private final SplitAssigner splitAssigner;
     private final SplitEnumeratorMetricGroup metricGroup;
 
+    /**
+     * The restored partitions and the partitions pushed to the split assigner. It's only accessed
+     * in the worker thread.
+     */
+    private final Set<TopicPartition> discoveredPartitions;
+
     public PulsarSourceEnumerator(
             PulsarSubscriber subscriber,
             StartCursor startCursor,
@@ -96,15 +116,39 @@ public class PulsarSourceEnumerator
             SplitEnumeratorContext<PulsarPartitionSplit> context,
             PulsarSourceEnumState enumState)
             throws PulsarClientException {
+        this(
+                subscriber,
+                startCursor,
+                stopCursor,
+                rangeGenerator,
+                sourceConfiguration,
+                context,
+                enumState,
+                createAdmin(sourceConfiguration));
+    }
+
+    @VisibleForTesting
+    PulsarSourceEnumerator(
+            PulsarSubscriber subscriber,
+            StartCursor startCursor,
+            StopCursor stopCursor,
+            RangeGenerator rangeGenerator,
+            SourceConfiguration sourceConfiguration,
+            SplitEnumeratorContext<PulsarPartitionSplit> context,
+            PulsarSourceEnumState enumState,
+            PulsarAdmin pulsarAdmin)
+            throws PulsarClientException {
         this.pulsarClient = createClient(sourceConfiguration);
-        this.pulsarAdmin = createAdmin(sourceConfiguration);
+        this.pulsarAdmin = pulsarAdmin;
         this.subscriber = subscriber;
         this.startCursor = startCursor;
         this.rangeGenerator = rangeGenerator;
         this.sourceConfiguration = sourceConfiguration;
         this.context = context;
-        this.splitAssigner = createAssigner(stopCursor, sourceConfiguration, context, enumState);
+        this.splitAssigner =
+                createAssigner(stopCursor, sourceConfiguration, context, enumState, pulsarAdmin);
         this.metricGroup = context.metricGroup();
+        this.discoveredPartitions = new TopicPartitionSet(enumState.getAppendedPartitions());
     }
 
     @Override
@@ -186,16 +230,182 @@ public class PulsarSourceEnumerator
     // ----------------- private methods -------------------
 
     /**
-     * List subscribed topic partitions on Pulsar cluster.
+     * List subscribed topic partitions on Pulsar cluster. Only the partitions which haven't been
+     * discovered are returned.
      *
      * <p>NOTE: This method should only be invoked in the worker executor thread, because it
      * requires network I/O with Pulsar cluster.
      *
-     * @return Set of subscribed {@link TopicPartition}s
+     * @return The newly subscribed {@link TopicPartition}s with their range boundaries and weights.
      */
-    private Set<TopicPartition> getSubscribedTopicPartitions() throws Exception {
+    private DiscoveredPartitions getSubscribedTopicPartitions() throws Exception {
         int parallelism = context.currentParallelism();
-        return subscriber.getSubscribedTopicPartitions(rangeGenerator, parallelism);
+        Set<TopicPartition> partitions =
+                subscriber.getSubscribedTopicPartitions(rangeGenerator, parallelism);
+
+        Set<TopicPartition> newPartitions = new HashSet<>(partitions);
+        newPartitions.removeAll(discoveredPartitions);
+
+        // Create the subscriptions before the partitions are assigned to the readers.
+        // The non-durable readers start from the start cursor without any subscription.
+        if (!sourceConfiguration.isEnableNonDurableReader()) {
+            initializeCursors(newPartitions);
+        }
+
+        // The range splits are only consumed by the non-durable readers.
+        Map<TopicPartition, List<MessageId>> boundaries;
+        if (sourceConfiguration.getRangeSplitSize() > 0) {
+            boundaries = planRangeSplits(newPartitions);
+        } else {
+            boundaries = new HashMap<>(newPartitions.size());
+            for (TopicPartition partition : newPartitions) {
+                boundaries.put(partition, emptyList());
+            }
+        }
+
+        // Weigh the partitions here for not blocking the coordinator thread on the admin API.
+        Map<TopicPartition, Long> weights = splitAssigner.weighTopicPartitions(newPartitions);
+        discoveredPartitions.addAll(newPartitions);
+
+        return new DiscoveredPartitions(boundaries, weights);
+    }
+
+    /**
+     * Divide the newly discovered partitions into the ranges by their ledgers. The internal stats
+     * are queried with the async admin API, at most {@link #MAX_CONCURRENT_ADMIN_REQUESTS}
+     * partitions are queried concurrently. The partition which failed to be queried is consumed as
+     * a whole.
+     *
+     * <p>NOTE: This method should only be invoked in the worker executor thread.
+     */
+    private Map<TopicPartition, List<MessageId>> planRangeSplits(Set<TopicPartition> partitions)
+            throws PulsarAdminException {
+        long rangeSplitSize = sourceConfiguration.getRangeSplitSize();
+        Map<TopicPartition, CompletableFuture<List<MessageId>>> futures =
+                new HashMap<>(partitions.size());
+        Semaphore permits = new Semaphore(MAX_CONCURRENT_ADMIN_REQUESTS);
+
+        for (TopicPartition partition : partitions) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PulsarAdminException(e);
+            }
+
+            String topic = partition.getFullTopicName();
+            CursorPosition position =
+                    startCursor.position(partition.getTopic(), partition.getPartitionId());
+            CompletableFuture<List<MessageId>> future =
+                    position.getMessageIdAsync(pulsarAdmin, topic)
+                            .thenCombine(
+                                    pulsarAdmin.topics().getInternalStatsAsync(topic),
+                                    (startMessageId, stats) ->
+                                            rangeBoundaries(
+                                                    stats,
+                                                    startMessageId,
+                                                    partition.getPartitionId(),
+                                                    rangeSplitSize));
+            future.whenComplete((r, e) -> permits.release());
+            futures.put(partition, future);
+        }
+
+        Map<TopicPartition, List<MessageId>> boundaries = new HashMap<>(partitions.size());
+        for (Map.Entry<TopicPartition, CompletableFuture<List<MessageId>>> entry :
+                futures.entrySet()) {
+            try {
+                boundaries.put(entry.getKey(), entry.getValue().join());
+            } catch (CompletionException e) {
+                LOG.warn(
+                        "Failed to plan the range splits of {}, consume it as a whole.",
+                        entry.getKey(),
+                        e.getCause());
+                boundaries.put(entry.getKey(), emptyList());
+            }
+        }
+
+        return boundaries;
+    }
+
+    /**
+     * Create the subscriptions on the newly discovered partitions with the async admin API, at most
+     * {@link #MAX_CONCURRENT_ADMIN_REQUESTS} partitions are initialized concurrently. The failed
+     * initialization is retried with the synchronous admin API. If the subscription has been
+     * created, only the cursor reset is retried.
+     *
+     * <p>NOTE: This method should only be invoked in the worker executor thread.
+     */
+    private void initializeCursors(Set<TopicPartition> partitions) throws PulsarAdminException {
+        Map<TopicPartition, CompletableFuture<Boolean>> subscriptions =
+                new HashMap<>(partitions.size());
+        Map<TopicPartition, CompletableFuture<?>> futures = new HashMap<>(partitions.size());
+        Semaphore permits = new Semaphore(MAX_CONCURRENT_ADMIN_REQUESTS);
+        String subscriptionName = sourceConfiguration.getSubscriptionName();
+        boolean resetSubscriptionCursor = sourceConfiguration.isResetSubscriptionCursor();
+
+        for (TopicPartition partition : partitions) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PulsarAdminException(e);
+            }
+
+            String topic = partition.getFullTopicName();
+            CursorPosition position =
+                    startCursor.position(partition.getTopic(), partition.getPartitionId());
+            CompletableFuture<Boolean> created =
+                    position.createSubscriptionAsync(pulsarAdmin, topic, subscriptionName);
+            CompletableFuture<?> future =
+                    created.thenCompose(
+                            c ->
+                                    c || resetSubscriptionCursor
+                                            ? position.resetCursorAsync(
+                                                    pulsarAdmin, topic, subscriptionName)
+                                            : CompletableFuture.completedFuture(null));
+            future.whenComplete((r, e) -> permits.release());
+            subscriptions.put(partition, created);
+            futures.put(partition, future);
+        }
+
+        for (Map.Entry<TopicPartition, CompletableFuture<?>> entry : futures.entrySet()) {
+            TopicPartition partition = entry.getKey();
+            try {
+                entry.getValue().join();
+            } catch (CompletionException e) {
+                if (subscriptions.get(partition).isCompletedExceptionally()) {
+                    LOG.warn(
+                            "Failed to create the subscription on {}, retry it.",
+                            partition,
+                            e.getCause());
+                    initializeCursor(partition);
+                } else {
+                    // The subscription exists, the cursor should be reset even if it's created
+                    // by the failed initialization.
+                    LOG.warn(
+                            "Failed to reset the cursor of {}, retry it.", partition, e.getCause());
+                    CursorPosition position =
+                            startCursor.position(
+                                    partition.getTopic(), partition.getPartitionId());
+                    position.resetCursor(
+                            pulsarAdmin, partition.getFullTopicName(), subscriptionName);
+                }
+            }
+        }
+    }
+
+    /** Create the subscription on the partition if it doesn't contain related subscription. */
+    private void initializeCursor(TopicPartition partition) throws PulsarAdminException {
+        String topic = partition.getFullTopicName();
+        String subscriptionName = sourceConfiguration.getSubscriptionName();
+        CursorPosition position =
+                startCursor.position(partition.getTopic(), partition.getPartitionId());
+
+        if (sourceConfiguration.isResetSubscriptionCursor()) {
+            position.seekPosition(pulsarAdmin, topic, subscriptionName);
+        } else {
+            position.createInitialPosition(pulsarAdmin, topic, subscriptionName);
+        }
     }
 
     /**
@@ -204,10 +414,11 @@ public class PulsarSourceEnumerator
      *
      * <p>NOTE: This method should only be invoked in the coordinator executor thread.
      *
-     * @param fetchedPartitions Map from topic name to its description
+     * @param fetchedPartitions The new partitions with their range boundaries and weights
      * @param throwable Exception in worker thread
      */
-    private void checkPartitionChanges(Set<TopicPartition> fetchedPartitions, Throwable throwable) {
+    private void checkPartitionChanges(
+            DiscoveredPartitions fetchedPartitions, Throwable throwable) {
         if (throwable != null) {
             throw new FlinkRuntimeException(
                     "Failed to list subscribed topic partitions due to: " + throwable.getMessage(),
@@ -216,27 +427,10 @@ public class PulsarSourceEnumerator
 
         // Append the partitions into current assignment state twice,
         // because the getSubscribedTopicPartitions method is executed in another thread.
-        List<TopicPartition> newPartitions =
-                splitAssigner.registerTopicPartitions(fetchedPartitions);
-
-        // Create subscription on newly discovered topic partitions if it doesn't contain related
-        // subscription.
-        for (TopicPartition partition : newPartitions) {
-            String topic = partition.getFullTopicName();
-            String subscriptionName = sourceConfiguration.getSubscriptionName();
-            CursorPosition position =
-                    startCursor.position(partition.getTopic(), partition.getPartitionId());
-
-            try {
-                if (sourceConfiguration.isResetSubscriptionCursor()) {
-                    position.seekPosition(pulsarAdmin, topic, subscriptionName);
-                } else {
-                    position.createInitialPosition(pulsarAdmin, topic, subscriptionName);
-                }
-            } catch (PulsarAdminException e) {
-                throw new FlinkRuntimeException(e);
-            }
-        }
+        // The subscriptions on these partitions have been created in the worker thread.
+        Map<TopicPartition, List<MessageId>> boundaries = fetchedPartitions.boundaries;
+        splitAssigner.registerTopicPartitions(
+                boundaries.keySet(), boundaries, fetchedPartitions.weights);
 
         // Assign the new readers.
         List<Integer> registeredReaders = new ArrayList<>(context.registeredReaders().keySet());
@@ -282,4 +476,21 @@ public class PulsarSourceEnumerator
             }
         }
     }
+
+    /** The newly discovered partitions queried in the worker thread. */
+    private static final class DiscoveredPartitions {
+
+        /** The new partitions with the boundaries of their ranges. */
+        private final Map<TopicPartition, List<MessageId>> boundaries;
+
+        /** The weights of the new partitions, it's empty if the assigner doesn't weigh them. */
+        private final Map<TopicPartition, Long> weights;
+
+        private DiscoveredPartitions(
+                Map<TopicPartition, List<MessageId>> boundaries,
+                Map<TopicPartition, Long> weights) {
+            this.boundaries = boundaries;
+            this.weights = weights;
+        }
+    }
 }
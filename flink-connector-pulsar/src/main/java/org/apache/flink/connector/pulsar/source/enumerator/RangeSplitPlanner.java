@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.enumerator;
+
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
+
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.impl.MessageIdImpl;
+import org.apache.pulsar.common.policies.data.ManagedLedgerInternalStats.LedgerInfo;
+import org.apache.pulsar.common.policies.data.PersistentTopicInternalStats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Divide a partition into the message id ranges by its ledgers. The ledgers from the start position
+ * are grouped in order until their size reaches the given range size, a new range starts from the
+ * first entry of the next ledger. The open ledger and the empty ledgers are always grouped into the
+ * range before them. Every range is consumed as a {@link PulsarPartitionSplit}.
+ */
+@Internal
+public final class RangeSplitPlanner {
+
+    private RangeSplitPlanner() {
+        // No public constructor.
+    }
+
+    /**
+     * Plan the ranges of a partition with its internal stats.
+     *
+     * @param stats The internal stats of the partition.
+     * @param startMessageId The resolved start position of the source on this partition.
+     * @param partitionId The partition id, it's the partition index of the message ids.
+     * @param rangeSize The size in bytes of every range.
+     * @return The ascending start message ids of the ranges except the first one. It's empty if the
+     *     partition shouldn't be divided.
+     */
+    public static List<MessageId> rangeBoundaries(
+            PersistentTopicInternalStats stats,
+            MessageId startMessageId,
+            int partitionId,
+            long rangeSize) {
+        List<LedgerInfo> ledgers = stats.ledgers;
+        if (rangeSize <= 0 || ledgers == null || ledgers.size() < 2) {
+            return emptyList();
+        }
+
+        long startLedgerId;
+        if (MessageId.earliest.equals(startMessageId)) {
+            startLedgerId = -1;
+        } else if (startMessageId instanceof MessageIdImpl
+                && !MessageId.latest.equals(startMessageId)) {
+            startLedgerId = ((MessageIdImpl) startMessageId).getLedgerId();
+        } else {
+            // Nothing is left to divide from the latest position.
+            return emptyList();
+        }
+
+        List<MessageId> boundaries = new ArrayList<>();
+        int lastIndex = ledgers.size() - 1;
+        long size = 0;
+        boolean started = false;
+        for (int i = 0; i <= lastIndex; i++) {
+            LedgerInfo ledger = ledgers.get(i);
+            if (ledger.ledgerId < startLedgerId) {
+                continue;
+            }
+            // The reader of a range which starts at the open ledger or at an empty ledger may
+            // receive nothing and never meet a stop cursor. Such a ledger stays in the last range.
+            if (started && size >= rangeSize && i < lastIndex && ledger.entries > 0) {
+                boundaries.add(new MessageIdImpl(ledger.ledgerId, 0, partitionId));
+                size = 0;
+            }
+
+            started = true;
+            // The ledger list reports no size for the open ledger.
+            size += i == lastIndex ? stats.currentLedgerSize : ledger.size;
+        }
+
+        return boundaries;
+    }
+}
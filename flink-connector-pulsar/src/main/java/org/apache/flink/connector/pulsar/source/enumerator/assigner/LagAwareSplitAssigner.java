@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.enumerator.assigner;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.connector.pulsar.source.enumerator.PulsarSourceEnumState;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
+import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
+import org.apache.flink.metrics.groups.SplitEnumeratorMetricGroup;
+
+import org.apache.pulsar.client.admin.PulsarAdmin;
+import org.apache.pulsar.common.policies.data.SubscriptionStats;
+import org.apache.pulsar.common.policies.data.TopicStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import static org.apache.flink.connector.pulsar.common.metrics.MetricNames.SPLIT_ASSIGNMENT_IMBALANCE;
+
+/**
+ * A split assigner which balances the load of the partitions across the readers. The load of a
+ * partition is weighed by its subscription backlog and message rate, the new partitions are
+ * assigned in the descending order of their weights, every partition goes to the least loaded
+ * reader. The partitions are weighed in the worker thread before they are registered.
+ *
+ * <p>The weights of the assigned partitions are refreshed periodically. The imbalance of the
+ * assignment, the max load of a reader divided by the average load, is exposed as an enumerator
+ * metric. The assigned splits wouldn't be moved between the readers. The owners of the restored
+ * partitions are not checkpointed, they are counted on their default readers after failover.
+ */
+class LagAwareSplitAssigner extends SplitAssignerImpl {
+    private static final Logger LOG = LoggerFactory.getLogger(LagAwareSplitAssigner.class);
+
+    /** The messages produced in this period are counted as the backlog of the partition. */
+    private static final long RATE_WINDOW_SECONDS = 60;
+
+    /** The max number of the topics whose stats are queried concurrently. */
+    private static final int MAX_CONCURRENT_STATS_QUERIES = 32;
+
+    private final SplitEnumeratorContext<PulsarPartitionSplit> context;
+    private final PartitionWeigher weigher;
+
+    /** The owner of the partitions assigned by this assigner and the restored partitions. */
+    private final Map<TopicPartition, Integer> owners;
+
+    /** The latest weights of the assigned partitions. */
+    private final Map<TopicPartition, Long> weights;
+
+    /** The partitions to weigh in the periodic refreshing, it's accessed in the worker thread. */
+    private final Set<TopicPartition> weighedPartitions;
+
+    private volatile double imbalance;
+
+    LagAwareSplitAssigner(
+            StopCursor stopCursor,
+            boolean enablePartitionDiscovery,
+            SplitEnumeratorContext<PulsarPartitionSplit> context,
+            PulsarSourceEnumState enumState,
+            PartitionWeigher weigher,
+            long refreshIntervalMs) {
+        super(stopCursor, enablePartitionDiscovery, context, enumState);
+        this.context = context;
+        this.weigher = weigher;
+        this.owners = new HashMap<>();
+        this.weights = new HashMap<>();
+        this.weighedPartitions = ConcurrentHashMap.newKeySet();
+
+        // Count the restored partitions in the reader loads, their weights are refreshed later.
+        for (TopicPartition partition : enumState.getAppendedPartitions()) {
+            owners.put(partition, super.partitionOwner(partition));
+            weighedPartitions.add(partition);
+        }
+        this.imbalance = imbalance(readerLoads());
+
+        SplitEnumeratorMetricGroup metricGroup = context.metricGroup();
+        if (metricGroup != null) {
+            metricGroup.gauge(SPLIT_ASSIGNMENT_IMBALANCE, () -> imbalance);
+        }
+        // Refresh at once for weighing the restored partitions.
+        context.callAsync(
+                () -> weigher.weigh(new ArrayList<>(weighedPartitions)),
+                this::refreshWeights,
+                0,
+                refreshIntervalMs);
+    }
+
+    @Override
+    public Map<TopicPartition, Long> weighTopicPartitions(Set<TopicPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return weigher.weigh(partitions);
+    }
+
+    @Override
+    protected Map<TopicPartition, Integer> partitionOwners(
+            List<TopicPartition> partitions, Map<TopicPartition, Long> newWeights) {
+        if (partitions.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        weights.putAll(newWeights);
+        weighedPartitions.addAll(partitions);
+
+        // Place the heaviest partitions first, it gives a better balance in the greedy packing.
+        List<TopicPartition> sortedPartitions = new ArrayList<>(partitions);
+        sortedPartitions.sort(
+                Comparator.comparingLong((TopicPartition p) -> weights.getOrDefault(p, 1L))
+                        .reversed());
+
+        long[] loads = readerLoads();
+        Map<TopicPartition, Integer> newOwners = new HashMap<>(partitions.size());
+        for (TopicPartition partition : sortedPartitions) {
+            int owner = 0;
+            for (int reader = 1; reader < loads.length; reader++) {
+                if (loads[reader] < loads[owner]) {
+                    owner = reader;
+                }
+            }
+
+            loads[owner] += weights.getOrDefault(partition, 1L);
+            newOwners.put(partition, owner);
+        }
+        owners.putAll(newOwners);
+        this.imbalance = imbalance(loads);
+
+        return newOwners;
+    }
+
+    @Override
+    protected int partitionOwner(TopicPartition partition) {
+        Integer owner = owners.get(partition);
+        if (owner != null && owner < context.currentParallelism()) {
+            return owner;
+        }
+
+        return super.partitionOwner(partition);
+    }
+
+    @VisibleForTesting
+    double getImbalance() {
+        return imbalance;
+    }
+
+    /** Update the weights queried in the worker thread, this is executed in the main thread. */
+    @VisibleForTesting
+    void refreshWeights(Map<TopicPartition, Long> newWeights, Throwable throwable) {
+        if (throwable != null) {
+            LOG.warn("Failed to refresh the weights of the assigned partitions.", throwable);
+            return;
+        }
+
+        weights.putAll(newWeights);
+        this.imbalance = imbalance(readerLoads());
+    }
+
+    private long[] readerLoads() {
+        long[] loads = new long[context.currentParallelism()];
+        for (Map.Entry<TopicPartition, Integer> entry : owners.entrySet()) {
+            int owner = entry.getValue();
+            if (owner < loads.length) {
+                loads[owner] += weights.getOrDefault(entry.getKey(), 1L);
+            }
+        }
+
+        return loads;
+    }
+
+    private static double imbalance(long[] loads) {
+        long total = 0;
+        long max = 0;
+        for (long load : loads) {
+            total += load;
+            max = Math.max(max, load);
+        }
+
+        return total == 0 ? 0 : (double) max * loads.length / total;
+    }
+
+    /** Weigh the load of the partitions. */
+    @FunctionalInterface
+    interface PartitionWeigher {
+
+        /** This method is executed in the worker thread. */
+        Map<TopicPartition, Long> weigh(Collection<TopicPartition> partitions);
+    }
+
+    /**
+     * Weigh the partitions by the topic stats. The weight of a topic is the backlog of the given
+     * subscription plus the messages produced in {@link #RATE_WINDOW_SECONDS}. The weight of a
+     * topic is shared evenly by its key-hash {@link TopicPartition}s. At most {@link
+     * #MAX_CONCURRENT_STATS_QUERIES} topics are queried concurrently.
+     */
+    static PartitionWeigher topicStatsWeigher(PulsarAdmin pulsarAdmin, String subscriptionName) {
+        return partitions -> {
+            Map<String, List<TopicPartition>> topics = new HashMap<>();
+            for (TopicPartition partition : partitions) {
+                topics.computeIfAbsent(partition.getFullTopicName(), t -> new ArrayList<>())
+                        .add(partition);
+            }
+
+            Map<String, CompletableFuture<TopicStats>> futures = new HashMap<>(topics.size());
+            Semaphore permits = new Semaphore(MAX_CONCURRENT_STATS_QUERIES);
+            for (String topic : topics.keySet()) {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    // The topics which haven't been queried are weighed by the default weight.
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                CompletableFuture<TopicStats> future = pulsarAdmin.topics().getStatsAsync(topic);
+                future.whenComplete((r, e) -> permits.release());
+                futures.put(topic, future);
+            }
+
+            Map<TopicPartition, Long> weights = new HashMap<>(partitions.size());
+            for (Map.Entry<String, List<TopicPartition>> entry : topics.entrySet()) {
+                long weight = 1;
+                CompletableFuture<TopicStats> future = futures.get(entry.getKey());
+                try {
+                    if (future != null) {
+                        TopicStats stats = future.join();
+                        SubscriptionStats subscription =
+                                stats.getSubscriptions().get(subscriptionName);
+                        long backlog = subscription == null ? 0 : subscription.getMsgBacklog();
+                        weight += backlog + (long) (stats.getMsgRateIn() * RATE_WINDOW_SECONDS);
+                    }
+                } catch (Exception e) {
+                    LOG.warn("Failed to query the stats of topic {}", entry.getKey(), e);
+                }
+
+                List<TopicPartition> splits = entry.getValue();
+                for (TopicPartition partition : splits) {
+                    weights.put(partition, Math.max(1, weight / splits.size()));
+                }
+            }
+
+            return weights;
+        };
+    }
+}
@@ -27,10 +27,18 @@ import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
 import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
 
+import org.apache.pulsar.client.admin.PulsarAdmin;
+import org.apache.pulsar.client.api.MessageId;
+
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import static java.util.Collections.emptyMap;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_PARTITION_DISCOVERY_INTERVAL_MS;
+import static org.apache.flink.connector.pulsar.source.enumerator.assigner.LagAwareSplitAssigner.topicStatsWeigher;
+
 /**
  * The split assigner for different subscription. We would spread all the splits to different
  * readers and store all the state into checkpoint.
@@ -44,7 +52,35 @@ public interface SplitAssigner {
      * @param fetchedPartitions The available partitions queried from Pulsar broker.
      * @return New topic partitions compare to previous registered partitions.
      */
-    List<TopicPartition> registerTopicPartitions(Set<TopicPartition> fetchedPartitions);
+    default List<TopicPartition> registerTopicPartitions(Set<TopicPartition> fetchedPartitions) {
+        return registerTopicPartitions(fetchedPartitions, emptyMap(), emptyMap());
+    }
+
+    /**
+     * Add the current available partitions into assigner. The new partitions which have range
+     * boundaries are divided into multiple range splits, the splits of a partition are spread to
+     * different readers.
+     *
+     * @param fetchedPartitions The available partitions queried from Pulsar broker.
+     * @param rangeBoundaries The ascending start message ids of the ranges except the first one.
+     * @param weights The weights of the new partitions from {@link #weighTopicPartitions}.
+     * @return New topic partitions compare to previous registered partitions.
+     */
+    List<TopicPartition> registerTopicPartitions(
+            Set<TopicPartition> fetchedPartitions,
+            Map<TopicPartition, List<MessageId>> rangeBoundaries,
+            Map<TopicPartition, Long> weights);
+
+    /**
+     * Weigh the load of the newly discovered partitions. The assigner which doesn't balance the
+     * load returns an empty map.
+     *
+     * <p>NOTE: This method should only be invoked in the worker executor thread, because it may
+     * require network I/O with Pulsar cluster.
+     */
+    default Map<TopicPartition, Long> weighTopicPartitions(Set<TopicPartition> partitions) {
+        return emptyMap();
+    }
 
     /**
      * Add a split back to the split assigner if the reader fails. We would try to reassign the
@@ -72,8 +108,24 @@ public interface SplitAssigner {
             StopCursor stopCursor,
             SourceConfiguration sourceConfiguration,
             SplitEnumeratorContext<PulsarPartitionSplit> context,
-            PulsarSourceEnumState enumState) {
+            PulsarSourceEnumState enumState,
+            PulsarAdmin pulsarAdmin) {
         boolean enablePartitionDiscovery = sourceConfiguration.isEnablePartitionDiscovery();
-        return new SplitAssignerImpl(stopCursor, enablePartitionDiscovery, context, enumState);
+        if (!sourceConfiguration.isEnableLagAwareSplitAssignment()) {
+            return new SplitAssignerImpl(stopCursor, enablePartitionDiscovery, context, enumState);
+        }
+
+        // Refresh the partition weights along with the partition discovery.
+        long refreshIntervalMs =
+                enablePartitionDiscovery
+                        ? sourceConfiguration.getPartitionDiscoveryIntervalMs()
+                        : PULSAR_PARTITION_DISCOVERY_INTERVAL_MS.defaultValue();
+        return new LagAwareSplitAssigner(
+                stopCursor,
+                enablePartitionDiscovery,
+                context,
+                enumState,
+                topicStatsWeigher(pulsarAdmin, sourceConfiguration.getSubscriptionName()),
+                refreshIntervalMs);
     }
 }
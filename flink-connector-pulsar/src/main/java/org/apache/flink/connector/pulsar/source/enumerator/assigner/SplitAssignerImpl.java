@@ -26,6 +26,8 @@ import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
 import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
 
+import org.apache.pulsar.client.api.MessageId;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -59,18 +61,28 @@ class SplitAssignerImpl implements SplitAssigner {
     }
 
     @Override
-    public List<TopicPartition> registerTopicPartitions(Set<TopicPartition> fetchedPartitions) {
+    public List<TopicPartition> registerTopicPartitions(
+            Set<TopicPartition> fetchedPartitions,
+            Map<TopicPartition, List<MessageId>> rangeBoundaries,
+            Map<TopicPartition, Long> weights) {
         List<TopicPartition> newPartitions = new ArrayList<>();
 
         for (TopicPartition partition : fetchedPartitions) {
             if (!appendedPartitions.contains(partition)) {
                 appendedPartitions.add(partition);
                 newPartitions.add(partition);
+            }
+        }
 
-                // Calculate the reader id by the current parallelism.
-                int readerId = partitionOwner(partition);
+        // Calculate the reader id by the current parallelism.
+        Map<TopicPartition, Integer> owners = partitionOwners(newPartitions, weights);
+        for (TopicPartition partition : newPartitions) {
+            List<MessageId> boundaries = rangeBoundaries.get(partition);
+            if (boundaries == null || boundaries.isEmpty()) {
                 PulsarPartitionSplit split = new PulsarPartitionSplit(partition, stopCursor);
-                addSplitToPendingList(readerId, split);
+                addSplitToPendingList(owners.get(partition), split);
+            } else {
+                addRangeSplitsToPendingList(owners.get(partition), partition, boundaries);
             }
         }
 
@@ -84,7 +96,14 @@ class SplitAssignerImpl implements SplitAssigner {
     @Override
     public void addSplitsBack(List<PulsarPartitionSplit> splits, int subtaskId) {
         for (PulsarPartitionSplit split : splits) {
-            int readerId = partitionOwner(split.getPartition());
+            // The range splits of a partition are spread to different readers, they are put back
+            // to the reader which they were assigned to.
+            boolean rangeSplit =
+                    split.getStartMessageId() != null || split.getEndMessageId() != null;
+            int readerId =
+                    rangeSplit && subtaskId < context.currentParallelism()
+                            ? subtaskId
+                            : partitionOwner(split.getPartition());
             addSplitToPendingList(readerId, split);
         }
     }
@@ -137,6 +156,40 @@ class SplitAssignerImpl implements SplitAssigner {
         splits.add(split);
     }
 
+    /**
+     * Divide the partition into the ranges by the given boundaries. The range splits are assigned
+     * to the readers in a round-robin manner, starting from the owner of the partition.
+     */
+    private void addRangeSplitsToPendingList(
+            int owner, TopicPartition partition, List<MessageId> boundaries) {
+        int parallelism = context.currentParallelism();
+        MessageId startMessageId = null;
+        for (int i = 0; i <= boundaries.size(); i++) {
+            MessageId endMessageId = i < boundaries.size() ? boundaries.get(i) : null;
+            PulsarPartitionSplit split =
+                    new PulsarPartitionSplit(
+                            partition, stopCursor, startMessageId, endMessageId, null, null);
+            addSplitToPendingList((owner + i) % parallelism, split);
+            startMessageId = endMessageId;
+        }
+    }
+
+    /**
+     * Choose the readers of the newly registered partitions.
+     *
+     * @param partitions The newly registered partitions.
+     * @param weights The weights of the new partitions, it could be empty.
+     */
+    protected Map<TopicPartition, Integer> partitionOwners(
+            List<TopicPartition> partitions, Map<TopicPartition, Long> weights) {
+        Map<TopicPartition, Integer> owners = new HashMap<>(partitions.size());
+        for (TopicPartition partition : partitions) {
+            owners.put(partition, partitionOwner(partition));
+        }
+
+        return owners;
+    }
+
     /**
      * Returns the index of the target subtask that a specific partition should be assigned to. It's
      * inspired by the {@code KafkaSourceEnumerator.getSplitOwner()}
@@ -154,7 +207,7 @@ class SplitAssignerImpl implements SplitAssigner {
      * @param partition The Pulsar partition to assign.
      * @return The id of the reader that owns this partition.
      */
-    private int partitionOwner(TopicPartition partition) {
+    protected int partitionOwner(TopicPartition partition) {
         return calculatePartitionOwner(
                 partition.getTopic(), partition.getPartitionId(), context.currentParallelism());
     }
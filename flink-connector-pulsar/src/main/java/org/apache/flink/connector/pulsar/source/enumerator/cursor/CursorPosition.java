@@ -30,6 +30,7 @@ import org.apache.pulsar.client.impl.ChunkMessageIdImpl;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.flink.util.Preconditions.checkNotNull;
 
@@ -89,10 +90,7 @@ public final class CursorPosition implements Serializable {
                     .createSubscription(topicName, subscriptionName, MessageId.earliest);
 
             // Reset cursor to desired position.
-            MessageId initialPosition = getMessageId(pulsarAdmin, topicName);
-            pulsarAdmin
-                    .topics()
-                    .resetCursor(topicName, subscriptionName, initialPosition, !include);
+            resetCursor(pulsarAdmin, topicName, subscriptionName);
 
             return true;
         }
@@ -108,14 +106,83 @@ public final class CursorPosition implements Serializable {
             throws PulsarAdminException {
         if (!createInitialPosition(pulsarAdmin, topicName, subscriptionName)) {
             // Reset cursor to desired position.
-            MessageId initialPosition = getMessageId(pulsarAdmin, topicName);
-            pulsarAdmin
-                    .topics()
-                    .resetCursor(topicName, subscriptionName, initialPosition, !include);
+            resetCursor(pulsarAdmin, topicName, subscriptionName);
+        }
+    }
+
+    /** Reset the cursor of an existing subscription to this position. */
+    @Internal
+    public void resetCursor(PulsarAdmin pulsarAdmin, String topicName, String subscriptionName)
+            throws PulsarAdminException {
+        MessageId initialPosition = getMessageId(pulsarAdmin, topicName);
+        pulsarAdmin.topics().resetCursor(topicName, subscriptionName, initialPosition, !include);
+    }
+
+    /**
+     * Create the subscription on the earliest position if the topic doesn't contain it. It's used
+     * for initializing the subscriptions on a batch of partitions in {@link
+     * PulsarSourceEnumerator}, the cursor of the new subscription should be reset by {@link
+     * #resetCursorAsync(PulsarAdmin, String, String)}. The failed admin requests aren't retried.
+     *
+     * @return Whether the subscription is created by this call.
+     */
+    @Internal
+    public CompletableFuture<Boolean> createSubscriptionAsync(
+            PulsarAdmin pulsarAdmin, String topicName, String subscriptionName) {
+        return pulsarAdmin
+                .topics()
+                .getSubscriptionsAsync(topicName)
+                .thenCompose(
+                        subscriptions -> {
+                            if (subscriptions.contains(subscriptionName)) {
+                                return CompletableFuture.completedFuture(false);
+                            }
+
+                            return pulsarAdmin
+                                    .topics()
+                                    .createSubscriptionAsync(
+                                            topicName, subscriptionName, MessageId.earliest)
+                                    .thenApply(v -> true);
+                        });
+    }
+
+    /** The async version of {@link #resetCursor(PulsarAdmin, String, String)}. */
+    @Internal
+    public CompletableFuture<Void> resetCursorAsync(
+            PulsarAdmin pulsarAdmin, String topicName, String subscriptionName) {
+        return getMessageIdAsync(pulsarAdmin, topicName)
+                .thenCompose(
+                        position ->
+                                pulsarAdmin
+                                        .topics()
+                                        .resetCursorAsync(
+                                                topicName, subscriptionName, position, !include));
+    }
+
+    /**
+     * The async version of {@link #getMessageId(PulsarAdmin, String)}, it's used for planning the
+     * range splits of a batch of partitions in {@link PulsarSourceEnumerator}.
+     */
+    @Internal
+    public CompletableFuture<MessageId> getMessageIdAsync(
+            PulsarAdmin pulsarAdmin, String topicName) {
+        if (type == Type.TIMESTAMP) {
+            return pulsarAdmin.topics().getMessageIdByTimestampAsync(topicName, timestamp);
+        } else if (messageId instanceof ChunkMessageIdImpl) {
+            return CompletableFuture.completedFuture(
+                    ((ChunkMessageIdImpl) messageId).getFirstChunkMessageId());
+        } else {
+            return CompletableFuture.completedFuture(messageId);
         }
     }
 
-    private MessageId getMessageId(PulsarAdmin pulsarAdmin, String topicName)
+    /**
+     * Resolve the message id of this position on the given topic, the timestamp is converted into
+     * a message id by the admin API. It's used by the non-durable reader in {@link
+     * PulsarPartitionSplitReader}.
+     */
+    @Internal
+    public MessageId getMessageId(PulsarAdmin pulsarAdmin, String topicName)
             throws PulsarAdminException {
         if (type == Type.TIMESTAMP) {
             return pulsarAdmin.topics().getMessageIdByTimestamp(topicName, timestamp);
@@ -126,6 +193,12 @@ public final class CursorPosition implements Serializable {
         }
     }
 
+    /** Whether the message on this position is included in the consuming result. */
+    @Internal
+    public boolean isInclude() {
+        return include;
+    }
+
     @Override
     public String toString() {
         if (type == Type.TIMESTAMP) {
@@ -47,6 +47,14 @@ public interface StopCursor extends Serializable {
     /** Determine whether to pause consumption on the current message by the returned enum. */
     StopCondition shouldStop(Message<?> message);
 
+    /**
+     * Whether this cursor never stops the consumption. The split reader skips {@link
+     * #shouldStop(Message)} on the messages if it returns {@code true}.
+     */
+    default boolean isUnbounded() {
+        return false;
+    }
+
     /** The conditional for control the stop behavior of the pulsar source. */
     @PublicEvolving
     enum StopCondition {
@@ -67,9 +75,10 @@ public interface StopCursor extends Serializable {
          */
         public static StopCondition compare(
                 MessageId desired, MessageId current, boolean inclusive) {
-            if (current.compareTo(desired) < 0) {
+            int result = current.compareTo(desired);
+            if (result < 0) {
                 return StopCondition.CONTINUE;
-            } else if (current.compareTo(desired) == 0) {
+            } else if (result == 0) {
                 return inclusive ? StopCondition.EXACTLY : StopCondition.TERMINATE;
             } else {
                 return StopCondition.TERMINATE;
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.enumerator.cursor;
+
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.stop.EventTimestampStopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.stop.LatestMessageStopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.stop.MessageIdStopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.stop.NeverStopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.stop.PublishTimestampStopCursor;
+
+import org.apache.pulsar.client.api.MessageId;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.apache.flink.connector.pulsar.common.utils.PulsarSerdeUtils.deserializeBytes;
+import static org.apache.flink.connector.pulsar.common.utils.PulsarSerdeUtils.deserializeObject;
+import static org.apache.flink.connector.pulsar.common.utils.PulsarSerdeUtils.serializeBytes;
+import static org.apache.flink.connector.pulsar.common.utils.PulsarSerdeUtils.serializeObject;
+
+/**
+ * The binary codec for the built-in {@link StopCursor} implementations. Every cursor is written
+ * with a type tag and its fields. The user-defined cursors and the subclasses of the built-in
+ * cursors fall back to the Java serialization.
+ */
+@Internal
+public final class StopCursorSerializer {
+
+    private static final byte JAVA_SERIALIZED = 0;
+    private static final byte NEVER = 1;
+    private static final byte LATEST_MESSAGE = 2;
+    private static final byte MESSAGE_ID = 3;
+    private static final byte EVENT_TIMESTAMP = 4;
+    private static final byte PUBLISH_TIMESTAMP = 5;
+
+    private StopCursorSerializer() {
+        // No public constructor.
+    }
+
+    public static void serializeStopCursor(DataOutputStream out, StopCursor cursor)
+            throws IOException {
+        Class<?> clazz = cursor.getClass();
+        if (clazz == NeverStopCursor.class) {
+            out.writeByte(NEVER);
+        } else if (clazz == LatestMessageStopCursor.class) {
+            LatestMessageStopCursor latest = (LatestMessageStopCursor) cursor;
+            out.writeByte(LATEST_MESSAGE);
+            out.writeBoolean(latest.isInclusive());
+            MessageId messageId = latest.getMessageId();
+            if (messageId == null) {
+                out.writeBoolean(false);
+            } else {
+                out.writeBoolean(true);
+                serializeBytes(out, messageId.toByteArray());
+            }
+        } else if (clazz == MessageIdStopCursor.class) {
+            MessageIdStopCursor messageId = (MessageIdStopCursor) cursor;
+            out.writeByte(MESSAGE_ID);
+            out.writeBoolean(messageId.isInclusive());
+            serializeBytes(out, messageId.getMessageId().toByteArray());
+        } else if (clazz == EventTimestampStopCursor.class) {
+            EventTimestampStopCursor timestamp = (EventTimestampStopCursor) cursor;
+            out.writeByte(EVENT_TIMESTAMP);
+            out.writeBoolean(timestamp.isInclusive());
+            out.writeLong(timestamp.getTimestamp());
+        } else if (clazz == PublishTimestampStopCursor.class) {
+            PublishTimestampStopCursor timestamp = (PublishTimestampStopCursor) cursor;
+            out.writeByte(PUBLISH_TIMESTAMP);
+            out.writeBoolean(timestamp.isInclusive());
+            out.writeLong(timestamp.getTimestamp());
+        } else {
+            out.writeByte(JAVA_SERIALIZED);
+            serializeObject(out, cursor);
+        }
+    }
+
+    public static StopCursor deserializeStopCursor(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        if (type == JAVA_SERIALIZED) {
+            return deserializeObject(in);
+        } else if (type == NEVER) {
+            return new NeverStopCursor();
+        }
+
+        boolean inclusive = in.readBoolean();
+        if (type == LATEST_MESSAGE) {
+            MessageId messageId = null;
+            if (in.readBoolean()) {
+                messageId = MessageId.fromByteArray(deserializeBytes(in));
+            }
+            return new LatestMessageStopCursor(messageId, inclusive);
+        } else if (type == MESSAGE_ID) {
+            MessageId messageId = MessageId.fromByteArray(deserializeBytes(in));
+            return new MessageIdStopCursor(messageId, inclusive);
+        } else if (type == EVENT_TIMESTAMP) {
+            return new EventTimestampStopCursor(in.readLong(), inclusive);
+        } else if (type == PUBLISH_TIMESTAMP) {
+            return new PublishTimestampStopCursor(in.readLong(), inclusive);
+        } else {
+            throw new IOException("Unknown stop cursor type " + type);
+        }
+    }
+}
@@ -39,4 +39,12 @@ public class EventTimestampStopCursor implements StopCursor {
         long eventTime = message.getEventTime();
         return StopCondition.compare(timestamp, eventTime, inclusive);
     }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public boolean isInclusive() {
+        return inclusive;
+    }
 }
@@ -18,6 +18,7 @@
 
 package org.apache.flink.connector.pulsar.source.enumerator.cursor.stop;
 
+import org.apache.flink.annotation.Internal;
 import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
 
@@ -26,6 +27,8 @@ import org.apache.pulsar.client.admin.PulsarAdminException;
 import org.apache.pulsar.client.api.Message;
 import org.apache.pulsar.client.api.MessageId;
 
+import javax.annotation.Nullable;
+
 /**
  * A stop cursor that initialize the position to the latest message id. The offsets initialization
  * are taken care of by the {@code PulsarPartitionSplitReaderBase} instead of by the {@code
@@ -37,14 +40,26 @@ public class LatestMessageStopCursor implements StopCursor {
     private MessageId messageId;
     private final boolean inclusive;
 
+    /** The stop position is created on the first message, it's not serialized. */
+    private transient StopPosition position;
+
     public LatestMessageStopCursor(boolean inclusive) {
+        this(null, inclusive);
+    }
+
+    /** Create the cursor with the last message id which has been queried. */
+    @Internal
+    public LatestMessageStopCursor(@Nullable MessageId messageId, boolean inclusive) {
+        this.messageId = messageId;
         this.inclusive = inclusive;
     }
 
     @Override
     public StopCondition shouldStop(Message<?> message) {
-        MessageId current = message.getMessageId();
-        return StopCondition.compare(messageId, current, inclusive);
+        if (position == null || position.getMessageId() != messageId) {
+            this.position = new StopPosition(messageId);
+        }
+        return position.compare(message.getMessageId(), inclusive);
     }
 
     @Override
@@ -54,4 +69,14 @@ public class LatestMessageStopCursor implements StopCursor {
             this.messageId = admin.topics().getLastMessageId(topic);
         }
     }
+
+    /** The last message id of the partition, it's {@code null} before the cursor is opened. */
+    @Nullable
+    public MessageId getMessageId() {
+        return messageId;
+    }
+
+    public boolean isInclusive() {
+        return inclusive;
+    }
 }
@@ -38,6 +38,9 @@ public class MessageIdStopCursor implements StopCursor {
 
     private final boolean inclusive;
 
+    /** The stop position is created on the first message, it's not serialized. */
+    private transient StopPosition position;
+
     public MessageIdStopCursor(MessageId messageId, boolean inclusive) {
         checkArgument(!earliest.equals(messageId), "MessageId.earliest is not supported.");
         checkArgument(!latest.equals(messageId), "Use LatestMessageStopCursor instead.");
@@ -48,7 +51,17 @@ public class MessageIdStopCursor implements StopCursor {
 
     @Override
     public StopCondition shouldStop(Message<?> message) {
-        MessageId current = message.getMessageId();
-        return StopCondition.compare(messageId, current, inclusive);
+        if (position == null) {
+            this.position = new StopPosition(messageId);
+        }
+        return position.compare(message.getMessageId(), inclusive);
+    }
+
+    public MessageId getMessageId() {
+        return messageId;
+    }
+
+    public boolean isInclusive() {
+        return inclusive;
     }
 }
@@ -30,4 +30,9 @@ public class NeverStopCursor implements StopCursor {
     public StopCondition shouldStop(Message<?> message) {
         return StopCondition.CONTINUE;
     }
+
+    @Override
+    public boolean isUnbounded() {
+        return true;
+    }
 }
@@ -39,4 +39,12 @@ public class PublishTimestampStopCursor implements StopCursor {
         long publishTime = message.getPublishTime();
         return StopCondition.compare(timestamp, publishTime, inclusive);
     }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public boolean isInclusive() {
+        return inclusive;
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.enumerator.cursor.stop;
+
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor.StopCondition;
+
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.impl.BatchMessageIdImpl;
+import org.apache.pulsar.client.impl.MessageIdImpl;
+
+/**
+ * The stop message id of a cursor in primitive fields. The message ids from the consumer are
+ * compared on their ledger id, entry id, partition index and batch index, which is the same order
+ * as {@link MessageId#compareTo(Object)}. The other message ids fall back to {@link
+ * StopCondition#compare(MessageId, MessageId, boolean)}.
+ */
+final class StopPosition {
+
+    private static final int NO_BATCH = -1;
+
+    private final MessageId messageId;
+    private final boolean primitive;
+    private final long ledgerId;
+    private final long entryId;
+    private final int partitionIndex;
+    private final int batchIndex;
+
+    StopPosition(MessageId messageId) {
+        this.messageId = messageId;
+        this.primitive = isPrimitive(messageId);
+        if (primitive) {
+            MessageIdImpl id = (MessageIdImpl) messageId;
+            this.ledgerId = id.getLedgerId();
+            this.entryId = id.getEntryId();
+            this.partitionIndex = id.getPartitionIndex();
+            this.batchIndex = batchIndex(id);
+        } else {
+            this.ledgerId = 0;
+            this.entryId = 0;
+            this.partitionIndex = 0;
+            this.batchIndex = NO_BATCH;
+        }
+    }
+
+    MessageId getMessageId() {
+        return messageId;
+    }
+
+    StopCondition compare(MessageId current, boolean inclusive) {
+        if (!primitive || !isPrimitive(current)) {
+            return StopCondition.compare(messageId, current, inclusive);
+        }
+
+        MessageIdImpl id = (MessageIdImpl) current;
+        int result = Long.compare(id.getLedgerId(), ledgerId);
+        if (result == 0) {
+            result = Long.compare(id.getEntryId(), entryId);
+        }
+        if (result == 0) {
+            result = Integer.compare(id.getPartitionIndex(), partitionIndex);
+        }
+        if (result == 0) {
+            result = Integer.compare(batchIndex(id), batchIndex);
+        }
+
+        if (result < 0) {
+            return StopCondition.CONTINUE;
+        } else if (result == 0) {
+            return inclusive ? StopCondition.EXACTLY : StopCondition.TERMINATE;
+        } else {
+            return StopCondition.TERMINATE;
+        }
+    }
+
+    private static boolean isPrimitive(MessageId messageId) {
+        if (messageId == null) {
+            return false;
+        }
+
+        Class<?> clazz = messageId.getClass();
+        return clazz == MessageIdImpl.class || clazz == BatchMessageIdImpl.class;
+    }
+
+    private static int batchIndex(MessageIdImpl messageId) {
+        return messageId instanceof BatchMessageIdImpl
+                ? ((BatchMessageIdImpl) messageId).getBatchIndex()
+                : NO_BATCH;
+    }
+}
@@ -29,10 +29,16 @@ import org.apache.pulsar.client.admin.PulsarAdminException;
 import org.apache.pulsar.client.api.PulsarClient;
 import org.apache.pulsar.common.partition.PartitionedTopicMetadata;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 
 import static org.apache.pulsar.common.partition.PartitionedTopicMetadata.NON_PARTITIONED;
 
@@ -44,9 +50,15 @@ public abstract class BasePulsarSubscriber implements PulsarSubscriber {
     // So we can just cache all the non-partitioned topics here for speeding up the query time.
     private static final Set<String> NON_PARTITIONED_TOPICS = ConcurrentHashMap.newKeySet();
 
+    /** The max number of the in-flight metadata queries in a partition discovery. */
+    private static final int MAX_CONCURRENT_METADATA_QUERIES = 32;
+
     protected transient PulsarClient client;
     protected transient PulsarAdmin admin;
 
+    /** The topic partitions created in the last discovery, keyed by the topic name. */
+    private transient Map<String, CreatedTopicPartitions> createdPartitions;
+
     protected TopicMetadata queryTopicMetadata(String topic) throws PulsarAdminException {
         if (NON_PARTITIONED_TOPICS.contains(topic)) {
             return new TopicMetadata(topic, NON_PARTITIONED);
@@ -54,10 +66,7 @@ public abstract class BasePulsarSubscriber implements PulsarSubscriber {
 
         try {
             PartitionedTopicMetadata metadata = admin.topics().getPartitionedTopicMetadata(topic);
-            if (metadata.partitions == NON_PARTITIONED) {
-                NON_PARTITIONED_TOPICS.add(topic);
-            }
-            return new TopicMetadata(topic, metadata.partitions);
+            return topicMetadata(topic, metadata);
         } catch (PulsarAdminException e) {
             if (e.getStatusCode() == 404) {
                 // Return null for skipping the topic metadata query.
@@ -69,33 +78,134 @@ public abstract class BasePulsarSubscriber implements PulsarSubscriber {
         }
     }
 
+    /**
+     * Query the metadata of the given topics concurrently by using the async admin API, at most
+     * {@link #MAX_CONCURRENT_METADATA_QUERIES} queries are in flight. A failed query is retried by
+     * {@link #queryTopicMetadata(String)}. The non-existent topics are skipped in the results.
+     */
+    protected Map<String, TopicMetadata> queryTopicMetadata(Collection<String> topics)
+            throws PulsarAdminException {
+        Map<String, TopicMetadata> results = new HashMap<>(topics.size());
+        Map<String, CompletableFuture<PartitionedTopicMetadata>> futures = new HashMap<>();
+        Semaphore permits = new Semaphore(MAX_CONCURRENT_METADATA_QUERIES);
+
+        for (String topic : topics) {
+            if (NON_PARTITIONED_TOPICS.contains(topic)) {
+                results.put(topic, new TopicMetadata(topic, NON_PARTITIONED));
+                continue;
+            }
+
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PulsarAdminException(e);
+            }
+            CompletableFuture<PartitionedTopicMetadata> future =
+                    admin.topics().getPartitionedTopicMetadataAsync(topic);
+            future.whenComplete((metadata, throwable) -> permits.release());
+            futures.put(topic, future);
+        }
+
+        for (Map.Entry<String, CompletableFuture<PartitionedTopicMetadata>> entry :
+                futures.entrySet()) {
+            String topic = entry.getKey();
+            TopicMetadata metadata;
+            try {
+                metadata = topicMetadata(topic, entry.getValue().join());
+            } catch (CompletionException e) {
+                metadata = isNotFound(e.getCause()) ? null : queryTopicMetadata(topic);
+            }
+
+            if (metadata != null) {
+                results.put(topic, metadata);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Create the partitions of the given topics. The partitions created in the last discovery are
+     * reused if the partition size of the topic isn't changed.
+     */
     protected Set<TopicPartition> createTopicPartitions(
             Set<String> topics, RangeGenerator generator, int parallelism)
             throws PulsarAdminException {
+        Map<String, TopicMetadata> metadata = queryTopicMetadata(topics);
+        Map<String, CreatedTopicPartitions> created = new HashMap<>(metadata.size());
         Set<TopicPartition> results = new HashSet<>();
 
-        for (String topic : topics) {
-            TopicMetadata metadata = queryTopicMetadata(topic);
-            if (metadata != null) {
-                List<TopicRange> ranges = generator.range(metadata, parallelism);
-                if (!metadata.isPartitioned()) {
-                    // For non-partitioned topic.
-                    results.add(new TopicPartition(metadata.getName(), ranges));
-                } else {
-                    // For partitioned topic.
-                    for (int i = 0; i < metadata.getPartitionSize(); i++) {
-                        results.add(new TopicPartition(metadata.getName(), i, ranges));
-                    }
-                }
+        for (TopicMetadata topicMetadata : metadata.values()) {
+            String topic = topicMetadata.getName();
+            CreatedTopicPartitions partitions =
+                    createdPartitions == null ? null : createdPartitions.get(topic);
+            if (partitions == null
+                    || partitions.partitionSize != topicMetadata.getPartitionSize()
+                    || partitions.parallelism != parallelism) {
+                partitions =
+                        new CreatedTopicPartitions(
+                                topicMetadata.getPartitionSize(),
+                                parallelism,
+                                createTopicPartitions(topicMetadata, generator, parallelism));
+            }
+
+            created.put(topic, partitions);
+            results.addAll(partitions.partitions);
+        }
+        this.createdPartitions = created;
+
+        return results;
+    }
+
+    private Set<TopicPartition> createTopicPartitions(
+            TopicMetadata metadata, RangeGenerator generator, int parallelism) {
+        Set<TopicPartition> results = new HashSet<>();
+        List<TopicRange> ranges = generator.range(metadata, parallelism);
+        if (!metadata.isPartitioned()) {
+            // For non-partitioned topic.
+            results.add(new TopicPartition(metadata.getName(), ranges));
+        } else {
+            // For partitioned topic.
+            for (int i = 0; i < metadata.getPartitionSize(); i++) {
+                results.add(new TopicPartition(metadata.getName(), i, ranges));
             }
         }
 
         return results;
     }
 
+    private static TopicMetadata topicMetadata(String topic, PartitionedTopicMetadata metadata) {
+        if (metadata.partitions == NON_PARTITIONED) {
+            NON_PARTITIONED_TOPICS.add(topic);
+        }
+        return new TopicMetadata(topic, metadata.partitions);
+    }
+
+    private static boolean isNotFound(Throwable throwable) {
+        return throwable instanceof PulsarAdminException
+                && ((PulsarAdminException) throwable).getStatusCode() == 404;
+    }
+
     @Override
     public void open(PulsarClient client, PulsarAdmin admin) {
         this.client = client;
         this.admin = admin;
+        this.createdPartitions = null;
+    }
+
+    /** The partitions of a topic which are created in the partition discovery. */
+    private static final class CreatedTopicPartitions {
+
+        private final int partitionSize;
+        private final int parallelism;
+        private final Set<TopicPartition> partitions;
+
+        private CreatedTopicPartitions(
+                int partitionSize, int parallelism, Set<TopicPartition> partitions) {
+            this.partitionSize = partitionSize;
+            this.parallelism = parallelism;
+            this.partitions = partitions;
+        }
     }
 }
@@ -28,6 +28,7 @@ import org.apache.pulsar.common.naming.TopicName;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.apache.flink.connector.pulsar.source.enumerator.topic.TopicNameUtils.isPartition;
@@ -60,15 +61,13 @@ public class TopicListSubscriber extends BasePulsarSubscriber {
         Set<TopicPartition> results = createTopicPartitions(fullTopicNames, generator, parallelism);
 
         // Query partitions from Pulsar.
-        for (String partition : partitions) {
-            TopicName topicName = TopicName.get(partition);
+        Map<String, TopicMetadata> partitionMetadata = queryTopicMetadata(partitions);
+        for (TopicMetadata metadata : partitionMetadata.values()) {
+            TopicName topicName = TopicName.get(metadata.getName());
             String name = topicName.getPartitionedTopicName();
             int index = topicName.getPartitionIndex();
-            TopicMetadata metadata = queryTopicMetadata(partition);
-            if (metadata != null) {
-                List<TopicRange> ranges = generator.range(metadata, parallelism);
-                results.add(new TopicPartition(name, index, ranges));
-            }
+            List<TopicRange> ranges = generator.range(metadata, parallelism);
+            results.add(new TopicPartition(name, index, ranges));
         }
 
         return results;
@@ -21,6 +21,9 @@ package org.apache.flink.connector.pulsar.source.enumerator.subscriber.impl;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.range.RangeGenerator;
 
+import org.apache.pulsar.client.admin.PulsarAdmin;
+import org.apache.pulsar.client.admin.PulsarAdminException;
+import org.apache.pulsar.client.api.PulsarClient;
 import org.apache.pulsar.client.api.PulsarClientException;
 import org.apache.pulsar.client.api.RegexSubscriptionMode;
 import org.apache.pulsar.client.impl.LookupService;
@@ -31,8 +34,11 @@ import org.apache.pulsar.common.naming.NamespaceName;
 import org.apache.pulsar.common.naming.TopicName;
 import org.apache.pulsar.common.topics.TopicList;
 
+import javax.annotation.Nullable;
+
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.regex.Pattern;
@@ -48,6 +54,14 @@ public class TopicPatternSubscriber extends BasePulsarSubscriber {
     private final String namespace;
     private final Mode subscriptionMode;
 
+    /** The hash of the topic list in the last discovery, it's used for detecting changes. */
+    private transient String topicsHash;
+
+    /** The partitions discovered from the topic list of {@link #topicsHash}. */
+    private transient Set<TopicPartition> topicPartitions;
+
+    private transient int topicPartitionsParallelism;
+
     public TopicPatternSubscriber(Pattern topicPattern, RegexSubscriptionMode subscriptionMode) {
         TopicName destination = TopicName.get(topicPattern.pattern());
         String pattern = destination.toString();
@@ -61,13 +75,47 @@ public class TopicPatternSubscriber extends BasePulsarSubscriber {
     public Set<TopicPartition> getSubscribedTopicPartitions(
             RangeGenerator generator, int parallelism) throws Exception {
         Set<String> topics = queryTopicsByInternalProtocols();
-        return createTopicPartitions(topics, generator, parallelism);
+        if (topics == null
+                && topicPartitions != null
+                && topicPartitionsParallelism == parallelism) {
+            // The topic list isn't changed, skip the metadata queries.
+            return topicPartitions;
+        }
+
+        if (topics == null) {
+            // Query the full topic list without the hash.
+            this.topicsHash = null;
+            topics = queryTopicsByInternalProtocols();
+        }
+
+        try {
+            this.topicPartitions = createTopicPartitions(topics, generator, parallelism);
+            this.topicPartitionsParallelism = parallelism;
+        } catch (PulsarAdminException e) {
+            // Query the full topic list in the next discovery.
+            this.topicsHash = null;
+            throw e;
+        }
+
+        return topicPartitions;
+    }
+
+    @Override
+    public void open(PulsarClient client, PulsarAdmin admin) {
+        super.open(client, admin);
+        this.topicsHash = null;
+        this.topicPartitions = null;
     }
 
     /**
      * We reuse this internal protocol in the Pulsar client for achieving the same behavior as
      * directly using the client to consume the topic pattern.
+     *
+     * <p>The hash of the last topic list is sent to the broker, the broker wouldn't return the
+     * topics if the hash is matched. The hash is also checked on the client side for the brokers
+     * which don't support it. {@code null} is returned if the topic list isn't changed.
      */
+    @Nullable
     private Set<String> queryTopicsByInternalProtocols() throws PulsarClientException {
         checkNotNull(client, "This subscriber doesn't initialize properly.");
 
@@ -84,9 +132,22 @@ public class TopicPatternSubscriber extends BasePulsarSubscriber {
             GetTopicsResult topicsResult =
                     lookupService
                             .getTopicsUnderNamespace(
-                                    namespaceName, subscriptionMode, queryPattern, null)
+                                    namespaceName, subscriptionMode, queryPattern, topicsHash)
                             .get();
+            if (!topicsResult.isChanged()) {
+                return null;
+            }
+
             List<String> topics = topicsResult.getTopics();
+            String hash = topicsResult.getTopicsHash();
+            if (hash == null) {
+                hash = TopicList.calculateHash(topics);
+            }
+            if (Objects.equals(hash, topicsHash)) {
+                return null;
+            }
+            this.topicsHash = hash;
+
             Set<String> results = new HashSet<>(topics.size());
 
             // The regular expression filter may not be enabled in broker.
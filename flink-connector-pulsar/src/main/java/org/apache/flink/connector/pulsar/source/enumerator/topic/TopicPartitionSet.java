@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.enumerator.topic;
+
+import org.apache.flink.annotation.Internal;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition.NON_PARTITION_ID;
+
+/**
+ * A compact {@link Set} of {@link TopicPartition}s. The partitions are grouped by the topic name
+ * and the key hash ranges, the partition ids of a group are kept in a {@link BitSet}. The
+ * partitions of a topic usually share the same ranges, so a partition takes a bit instead of an
+ * object in the memory. The {@link TopicPartition} instances are created on iteration.
+ *
+ * <p>The partition id is shifted by one in the bit set for the non-partitioned topic. This class
+ * isn't thread safe.
+ */
+@Internal
+public class TopicPartitionSet extends AbstractSet<TopicPartition> {
+
+    private final Map<String, Map<List<TopicRange>, BitSet>> partitions;
+    private int size;
+
+    public TopicPartitionSet() {
+        this.partitions = new HashMap<>();
+        this.size = 0;
+    }
+
+    public TopicPartitionSet(Collection<TopicPartition> partitions) {
+        this();
+        addAll(partitions);
+    }
+
+    @Override
+    public boolean add(TopicPartition partition) {
+        BitSet ids =
+                partitions
+                        .computeIfAbsent(partition.getTopic(), t -> new HashMap<>())
+                        .computeIfAbsent(partition.getRanges(), r -> new BitSet());
+        int index = index(partition.getPartitionId());
+        if (ids.get(index)) {
+            return false;
+        }
+
+        ids.set(index);
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof TopicPartition)) {
+            return false;
+        }
+
+        TopicPartition partition = (TopicPartition) o;
+        Map<List<TopicRange>, BitSet> groups = partitions.get(partition.getTopic());
+        if (groups == null) {
+            return false;
+        }
+        BitSet ids = groups.get(partition.getRanges());
+
+        return ids != null && ids.get(index(partition.getPartitionId()));
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!contains(o)) {
+            return false;
+        }
+
+        TopicPartition partition = (TopicPartition) o;
+        Map<List<TopicRange>, BitSet> groups = partitions.get(partition.getTopic());
+        BitSet ids = groups.get(partition.getRanges());
+        ids.clear(index(partition.getPartitionId()));
+        size--;
+
+        if (ids.isEmpty()) {
+            groups.remove(partition.getRanges());
+            if (groups.isEmpty()) {
+                partitions.remove(partition.getTopic());
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        partitions.clear();
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** The topic names in this set. */
+    public Set<String> getTopics() {
+        return partitions.keySet();
+    }
+
+    /**
+     * The partition ids of the given topic grouped by the key hash ranges. The ids are sorted in
+     * the ascending order.
+     */
+    public Map<List<TopicRange>, int[]> getPartitionIds(String topic) {
+        Map<List<TopicRange>, BitSet> groups = partitions.get(topic);
+        Map<List<TopicRange>, int[]> results = new HashMap<>();
+        if (groups != null) {
+            for (Map.Entry<List<TopicRange>, BitSet> entry : groups.entrySet()) {
+                if (!entry.getValue().isEmpty()) {
+                    int[] ids = entry.getValue().stream().map(i -> i + NON_PARTITION_ID).toArray();
+                    results.put(entry.getKey(), ids);
+                }
+            }
+        }
+
+        return results;
+    }
+
+    @Override
+    public Iterator<TopicPartition> iterator() {
+        return new TopicPartitionIterator();
+    }
+
+    private static int index(int partitionId) {
+        return partitionId - NON_PARTITION_ID;
+    }
+
+    /** Iterates the topics, then the range groups, then the partition ids in the bit sets. */
+    private class TopicPartitionIterator implements Iterator<TopicPartition> {
+
+        private final Iterator<Map.Entry<String, Map<List<TopicRange>, BitSet>>> topics;
+        private Iterator<Map.Entry<List<TopicRange>, BitSet>> groups;
+        private String topic;
+        private Map.Entry<List<TopicRange>, BitSet> group;
+        private int nextIndex = -1;
+
+        private BitSet lastIds;
+        private int lastIndex = -1;
+
+        private TopicPartitionIterator() {
+            this.topics = partitions.entrySet().iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (nextIndex < 0) {
+                if (groups != null && groups.hasNext()) {
+                    this.group = groups.next();
+                    this.nextIndex = group.getValue().nextSetBit(0);
+                } else if (topics.hasNext()) {
+                    Map.Entry<String, Map<List<TopicRange>, BitSet>> entry = topics.next();
+                    this.topic = entry.getKey();
+                    this.groups = entry.getValue().entrySet().iterator();
+                } else {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public TopicPartition next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            BitSet ids = group.getValue();
+            this.lastIds = ids;
+            this.lastIndex = nextIndex;
+            this.nextIndex = ids.nextSetBit(nextIndex + 1);
+
+            return new TopicPartition(topic, lastIndex + NON_PARTITION_ID, group.getKey());
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex < 0) {
+                throw new IllegalStateException();
+            }
+
+            // The empty bit set is kept in the set, it's skipped in the iteration.
+            lastIds.clear(lastIndex);
+            lastIndex = -1;
+            size--;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.reader;
+
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
+import org.apache.flink.connector.pulsar.source.config.SourceConfiguration;
+
+import javax.annotation.Nullable;
+
+import java.time.Duration;
+
+/**
+ * The records and time budget of a fetch in {@link PulsarPartitionSplitReader}. The budget starts
+ * from {@link SourceConfiguration#getMaxFetchRecords()} and {@link
+ * SourceConfiguration#getMaxFetchTime()}, and it's adjusted after every fetch when the adaptive
+ * fetch is enabled:
+ *
+ * <ul>
+ *   <li>The element queue is full: the downstream is the bottleneck, use the max budget to reduce
+ *       the handover costs.
+ *   <li>The fetch has exhausted its records budget or the receiver queue still has messages: the
+ *       partition has more messages than the budget, double the budget.
+ *   <li>The element queue is empty: the downstream is waiting for the records, halve the time
+ *       budget and size the records budget by the smoothed receive rate.
+ * </ul>
+ *
+ * <p>The budget is never smaller than 1/64 of the configured values. This class isn't thread safe,
+ * it should only be accessed in the fetcher thread.
+ */
+@Internal
+public class AdaptiveFetchBudget {
+
+    private static final int MIN_BUDGET_DIVISOR = 64;
+
+    /** The weight of the latest fetch in the smoothed receive rate. */
+    private static final double RATE_WEIGHT = 0.25;
+
+    private final boolean adaptive;
+    private final int maxRecords;
+    private final int minRecords;
+    private final long maxTimeMillis;
+    private final long minTimeMillis;
+    private final int queueCapacity;
+    @Nullable private final FutureCompletingBlockingQueue<?> elementsQueue;
+
+    private int records;
+    private long timeMillis;
+    private Duration time;
+
+    /** The smoothed receive rate in records per millisecond, it's negative before any records. */
+    private double receiveRate = -1;
+
+    public AdaptiveFetchBudget(
+            SourceConfiguration sourceConfiguration,
+            @Nullable FutureCompletingBlockingQueue<?> elementsQueue) {
+        this.adaptive = sourceConfiguration.isEnableAdaptiveFetch();
+        this.maxRecords = sourceConfiguration.getMaxFetchRecords();
+        this.minRecords = Math.max(1, maxRecords / MIN_BUDGET_DIVISOR);
+        this.maxTimeMillis = sourceConfiguration.getMaxFetchTime().toMillis();
+        this.minTimeMillis = Math.max(1, maxTimeMillis / MIN_BUDGET_DIVISOR);
+        this.queueCapacity = sourceConfiguration.getMessageQueueCapacity();
+        this.elementsQueue = elementsQueue;
+        this.records = maxRecords;
+        this.timeMillis = maxTimeMillis;
+        this.time = sourceConfiguration.getMaxFetchTime();
+    }
+
+    /** The max number of records in the next fetch. */
+    public int getRecords() {
+        return records;
+    }
+
+    /** The max time of the next fetch. */
+    public Duration getTime() {
+        return time;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Adjust the budget by the result of the finished fetch.
+     *
+     * @param fetchedRecords The number of records received in the fetch.
+     * @param elapsedMillis The time spent in the fetch.
+     * @param backlog The number of messages left in the receiver queues after the fetch.
+     */
+    public void update(int fetchedRecords, long elapsedMillis, int backlog) {
+        if (!adaptive) {
+            return;
+        }
+
+        if (fetchedRecords > 0 && elapsedMillis > 0) {
+            double rate = (double) fetchedRecords / elapsedMillis;
+            this.receiveRate =
+                    receiveRate < 0 ? rate : RATE_WEIGHT * rate + (1 - RATE_WEIGHT) * receiveRate;
+        }
+
+        int queued = elementsQueue == null ? 0 : elementsQueue.size();
+        if (queued >= queueCapacity) {
+            this.records = maxRecords;
+            this.timeMillis = maxTimeMillis;
+        } else if (fetchedRecords >= records || backlog > 0) {
+            this.records = (int) Math.min(maxRecords, records * 2L);
+            this.timeMillis = Math.min(maxTimeMillis, timeMillis * 2);
+        } else if (queued == 0) {
+            this.timeMillis = Math.max(minTimeMillis, timeMillis / 2);
+            if (receiveRate > 0) {
+                long expected = (long) Math.ceil(receiveRate * timeMillis);
+                this.records = (int) Math.max(minRecords, Math.min(maxRecords, expected));
+            }
+        } else {
+            return;
+        }
+
+        this.time = Duration.ofMillis(timeMillis);
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.reader;
+
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
+
+import org.apache.pulsar.client.api.MessageId;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tracks the cursors to commit across the pending checkpoints. Instead of keeping a full copy of
+ * all the cursors for every checkpoint, a cursor is only recorded when it has advanced. Completing a
+ * checkpoint commits the newest cursor of each partition which belongs to this checkpoint or the
+ * checkpoints it subsumes. The partitions which haven't advanced since the last successful
+ * acknowledgement are skipped.
+ *
+ * <p>The partitions are indexed by integers on their first appearance, all the per-partition
+ * states are stored in arrays. This class is thread safe, the committed cursors are marked in the
+ * pulsar client callback threads.
+ */
+@Internal
+public class CursorCommitCoalescer {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<TopicPartition, Integer> partitionIndexes;
+
+    private TopicPartition[] partitions;
+    private PendingCursors[] pendingCursors;
+    private MessageId[] committedCursors;
+    private int numPartitions;
+
+    /** The number of partitions which have any cursors waiting for checkpoint completion. */
+    private int numPendingPartitions;
+
+    public CursorCommitCoalescer() {
+        this.partitionIndexes = new HashMap<>();
+        this.partitions = new TopicPartition[INITIAL_CAPACITY];
+        this.pendingCursors = new PendingCursors[INITIAL_CAPACITY];
+        this.committedCursors = new MessageId[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Record the cursor of the given partition in a checkpoint.
+     *
+     * @return {@code false} if the cursor hasn't advanced and was dropped.
+     */
+    public synchronized boolean addCursor(
+            long checkpointId, TopicPartition partition, MessageId cursor) {
+        int index = indexOf(partition);
+        PendingCursors pending = pendingCursors[index];
+        MessageId latest = pending.isEmpty() ? committedCursors[index] : pending.last();
+        if (cursor.equals(latest)) {
+            return false;
+        }
+
+        if (pending.isEmpty()) {
+            numPendingPartitions++;
+        }
+        pending.add(checkpointId, cursor);
+
+        return true;
+    }
+
+    /**
+     * Remove all the cursors recorded in the given checkpoint and the checkpoints before it.
+     *
+     * @return The newest cursor of every partition which should be committed.
+     */
+    public synchronized Map<TopicPartition, MessageId> pollCursors(long checkpointId) {
+        Map<TopicPartition, MessageId> cursors = new HashMap<>();
+        for (int i = 0; i < numPartitions && numPendingPartitions > 0; i++) {
+            PendingCursors pending = pendingCursors[i];
+            if (pending.isEmpty()) {
+                continue;
+            }
+
+            MessageId cursor = pending.poll(checkpointId);
+            if (pending.isEmpty()) {
+                numPendingPartitions--;
+            }
+            if (cursor != null && !cursor.equals(committedCursors[i])) {
+                cursors.put(partitions[i], cursor);
+            }
+        }
+
+        return cursors;
+    }
+
+    /** Mark the cursors as successfully acknowledged. */
+    public synchronized void markCommitted(Map<TopicPartition, MessageId> cursors) {
+        for (Map.Entry<TopicPartition, MessageId> entry : cursors.entrySet()) {
+            int index = indexOf(entry.getKey());
+            MessageId cursor = entry.getValue();
+            MessageId committed = committedCursors[index];
+            if (committed == null || cursor.compareTo(committed) > 0) {
+                committedCursors[index] = cursor;
+            }
+        }
+    }
+
+    /** Check if the given cursor has been acknowledged for the partition. */
+    public synchronized boolean isCommitted(TopicPartition partition, MessageId cursor) {
+        Integer index = partitionIndexes.get(partition);
+        return index != null && cursor.equals(committedCursors[index]);
+    }
+
+    /** No cursors is waiting for the checkpoint completion. */
+    public synchronized boolean isEmpty() {
+        return numPendingPartitions == 0;
+    }
+
+    private int indexOf(TopicPartition partition) {
+        Integer index = partitionIndexes.get(partition);
+        if (index != null) {
+            return index;
+        }
+
+        if (numPartitions == partitions.length) {
+            int capacity = partitions.length * 2;
+            this.partitions = Arrays.copyOf(partitions, capacity);
+            this.pendingCursors = Arrays.copyOf(pendingCursors, capacity);
+            this.committedCursors = Arrays.copyOf(committedCursors, capacity);
+        }
+
+        int newIndex = numPartitions++;
+        partitions[newIndex] = partition;
+        pendingCursors[newIndex] = new PendingCursors();
+        partitionIndexes.put(partition, newIndex);
+
+        return newIndex;
+    }
+
+    /** The advanced cursors of a partition, ordered by the checkpoint id. */
+    private static final class PendingCursors {
+
+        private long[] checkpointIds = new long[2];
+        private MessageId[] cursors = new MessageId[2];
+
+        /** The valid cursors are stored in the range [head, tail). */
+        private int head;
+
+        private int tail;
+
+        private boolean isEmpty() {
+            return head == tail;
+        }
+
+        private MessageId last() {
+            return cursors[tail - 1];
+        }
+
+        private void add(long checkpointId, MessageId cursor) {
+            if (tail == cursors.length) {
+                int size = tail - head;
+                if (head > 0) {
+                    // Compact the arrays, the slots before head have been polled.
+                    System.arraycopy(checkpointIds, head, checkpointIds, 0, size);
+                    System.arraycopy(cursors, head, cursors, 0, size);
+                    Arrays.fill(cursors, size, tail, null);
+                } else {
+                    this.checkpointIds = Arrays.copyOf(checkpointIds, cursors.length * 2);
+                    this.cursors = Arrays.copyOf(cursors, cursors.length * 2);
+                }
+                this.head = 0;
+                this.tail = size;
+            }
+
+            checkpointIds[tail] = checkpointId;
+            cursors[tail] = cursor;
+            tail++;
+        }
+
+        /** Remove the cursors until the given checkpoint, return the newest removed cursor. */
+        private MessageId poll(long checkpointId) {
+            MessageId cursor = null;
+            while (head < tail && checkpointIds[head] <= checkpointId) {
+                cursor = cursors[head];
+                cursors[head] = null;
+                head++;
+            }
+            if (head == tail) {
+                this.head = 0;
+                this.tail = 0;
+            }
+
+            return cursor;
+        }
+    }
+}
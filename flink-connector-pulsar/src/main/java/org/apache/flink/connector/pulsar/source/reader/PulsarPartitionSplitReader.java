@@ -26,9 +26,11 @@ import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsChange;
+import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
 import org.apache.flink.connector.pulsar.common.crypto.PulsarCrypto;
 import org.apache.flink.connector.pulsar.source.config.SourceConfiguration;
 import org.apache.flink.connector.pulsar.source.enumerator.cursor.CursorPosition;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.StartCursor;
 import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
 import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor.StopCondition;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
@@ -36,7 +38,7 @@ import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
 import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.metrics.groups.SourceReaderMetricGroup;
 import org.apache.flink.util.FlinkRuntimeException;
-import org.apache.flink.util.Preconditions;
+import org.apache.flink.util.IOUtils;
 
 import org.apache.pulsar.client.admin.PulsarAdmin;
 import org.apache.pulsar.client.admin.PulsarAdminException;
@@ -48,18 +50,34 @@ import org.apache.pulsar.client.api.KeySharedPolicy;
 import org.apache.pulsar.client.api.Message;
 import org.apache.pulsar.client.api.MessageCrypto;
 import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.Messages;
 import org.apache.pulsar.client.api.PulsarClient;
 import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.Range;
+import org.apache.pulsar.client.api.Reader;
+import org.apache.pulsar.client.api.ReaderBuilder;
 import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.impl.ReaderImpl;
 import org.apache.pulsar.common.api.proto.MessageMetadata;
 import org.apache.pulsar.shade.com.google.common.base.Strings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -81,27 +99,69 @@ import static org.apache.flink.connector.pulsar.common.metrics.MetricNames.TOTAL
 import static org.apache.flink.connector.pulsar.common.metrics.MetricNames.TOTAL_RECEIVED_FAILED;
 import static org.apache.flink.connector.pulsar.source.config.CursorVerification.FAIL_ON_MISMATCH;
 import static org.apache.flink.connector.pulsar.source.config.PulsarSourceConfigUtils.createConsumerBuilder;
+import static org.apache.flink.connector.pulsar.source.config.PulsarSourceConfigUtils.createReaderBuilder;
 import static org.apache.flink.connector.pulsar.source.enumerator.topic.range.TopicRangeUtils.isFullTopicRanges;
 import static org.apache.pulsar.client.api.KeySharedPolicy.stickyHashRange;
 
 /**
- * The split reader a given {@link PulsarPartitionSplit}, it would be closed once the {@link
- * PulsarSourceReader} is closed.
+ * The split reader for the given {@link PulsarPartitionSplit}s, it would be closed once the {@link
+ * PulsarSourceReader} is closed. Every split is consumed by its own {@link Consumer}. A reader
+ * holds only one split by default, it would hold multiple splits when the fetchers are multiplexed
+ * and these splits would be polled in a round-robin manner.
+ *
+ * <p>The splits are consumed by the non-durable {@link Reader}s instead if it's enabled in the
+ * bounded source, no subscription is created or acknowledged in this mode.
  */
 @Internal
 public class PulsarPartitionSplitReader
         implements SplitReader<Message<byte[]>, PulsarPartitionSplit> {
     private static final Logger LOG = LoggerFactory.getLogger(PulsarPartitionSplitReader.class);
 
+    /** The time to wait on a split when none of the multiplexed splits have available messages. */
+    private static final long MULTIPLEXED_IDLE_WAIT_MILLIS = 10;
+
+    /** The time to wait before the next fetch when all the splits are paused. */
+    private static final long PAUSED_WAIT_MILLIS = 10;
+
     private final PulsarClient pulsarClient;
     private final PulsarAdmin pulsarAdmin;
     private final SourceConfiguration sourceConfiguration;
+    private final StartCursor startCursor;
     private final Schema<byte[]> schema;
     private final PulsarCrypto pulsarCrypto;
     private final SourceReaderMetricGroup metricGroup;
+    private final AdaptiveFetchBudget fetchBudget;
+    @Nullable private final SplitIdlenessTracker idlenessTracker;
+
+    /** The unfinished splits in this reader, it should only be accessed in the fetcher thread. */
+    private final Map<String, PulsarPartitionSplit> registeredSplits;
+
+    /**
+     * The consumers of the splits. The consumer of a finished split is closed, it would be recreated
+     * when its partition is acknowledged.
+     */
+    private final Map<String, Consumer<byte[]>> pulsarConsumers;
+
+    /**
+     * The stop cursors of the unfinished splits. A range split stops at the end of its range, it
+     * should only be accessed in the fetcher thread.
+     */
+    private final Map<String, StopCursor> stopCursors;
+
+    /**
+     * The splits paused by the watermark alignment, they wouldn't be polled until resumed. This set
+     * is updated outside the fetcher thread.
+     */
+    private final Set<String> pausedSplits;
+
+    /** The time since when the splits haven't received any messages. */
+    private final Map<String, Long> idleSince;
+
+    /** The splits which have received messages in the current fetch. */
+    private final Set<String> receivedSplits;
 
-    private Consumer<byte[]> pulsarConsumer;
-    private PulsarPartitionSplit registeredSplit;
+    /** The index of the split to start with in the next multiplexed polling round. */
+    private int nextSplitIndex;
 
     public PulsarPartitionSplitReader(
             PulsarClient pulsarClient,
@@ -110,53 +170,201 @@ public class PulsarPartitionSplitReader
             Schema<byte[]> schema,
             PulsarCrypto pulsarCrypto,
             SourceReaderMetricGroup metricGroup) {
+        this(
+                pulsarClient,
+                pulsarAdmin,
+                sourceConfiguration,
+                StartCursor.defaultStartCursor(),
+                schema,
+                pulsarCrypto,
+                metricGroup,
+                null,
+                null);
+    }
+
+    /**
+     * Create a split reader which adjusts its fetch budget by the fill level of the given element
+     * queue when the adaptive fetch is enabled, and reports its idle splits to the given tracker.
+     * The start cursor is only used by the non-durable readers, the subscriptions are created by
+     * the enumerator otherwise.
+     */
+    public PulsarPartitionSplitReader(
+            PulsarClient pulsarClient,
+            PulsarAdmin pulsarAdmin,
+            SourceConfiguration sourceConfiguration,
+            StartCursor startCursor,
+            Schema<byte[]> schema,
+            PulsarCrypto pulsarCrypto,
+            SourceReaderMetricGroup metricGroup,
+            @Nullable FutureCompletingBlockingQueue<?> elementsQueue,
+            @Nullable SplitIdlenessTracker idlenessTracker) {
         this.pulsarClient = pulsarClient;
         this.pulsarAdmin = pulsarAdmin;
         this.sourceConfiguration = sourceConfiguration;
+        this.startCursor = startCursor;
         this.schema = schema;
         this.pulsarCrypto = pulsarCrypto;
         this.metricGroup = metricGroup;
+        this.fetchBudget = new AdaptiveFetchBudget(sourceConfiguration, elementsQueue);
+        this.idlenessTracker = idlenessTracker;
+        this.registeredSplits = new LinkedHashMap<>();
+        this.pulsarConsumers = new ConcurrentHashMap<>();
+        this.stopCursors = new HashMap<>();
+        this.pausedSplits = ConcurrentHashMap.newKeySet();
+        this.idleSince = new HashMap<>();
+        this.receivedSplits = new HashSet<>();
     }
 
     @Override
-    @SuppressWarnings("java:S135")
     public RecordsWithSplitIds<Message<byte[]>> fetch() throws IOException {
         RecordsBySplits.Builder<Message<byte[]>> builder = new RecordsBySplits.Builder<>();
 
         // Return when no split registered to this reader.
-        if (pulsarConsumer == null || registeredSplit == null) {
+        if (registeredSplits.isEmpty()) {
             return builder.build();
         }
 
-        StopCursor stopCursor = registeredSplit.getStopCursor();
-        String splitId = registeredSplit.splitId();
-        Deadline deadline = Deadline.fromNow(sourceConfiguration.getMaxFetchTime());
+        List<PulsarPartitionSplit> splits = pollableSplits();
+        if (splits.isEmpty()) {
+            // All the splits are paused by the watermark alignment.
+            waitForResume();
+            return builder.build();
+        }
+
+        long startTime = System.nanoTime();
+        int messageNum;
+        if (registeredSplits.size() > 1) {
+            messageNum = multiplexedReceiveMessages(builder, splits);
+        } else {
+            PulsarPartitionSplit split = splits.get(0);
+            Consumer<byte[]> consumer = pulsarConsumers.get(split.splitId());
+            if (sourceConfiguration.isEnableBatchReceive()) {
+                messageNum = batchReceiveMessages(builder, split, consumer);
+            } else {
+                messageNum = receiveMessages(builder, split, consumer);
+            }
+            if (messageNum > 0) {
+                markReceived(split);
+            }
+        }
+
+        RecordsBySplits<Message<byte[]>> records = builder.build();
+        // The finished splits wouldn't be polled anymore, close their consumers for stopping the
+        // prefetching. A consumer would be recreated on acknowledging if it's still required.
+        for (String splitId : records.finishedSplits()) {
+            registeredSplits.remove(splitId);
+            stopCursors.remove(splitId);
+            closeConsumer(splitId);
+        }
+
+        if (fetchBudget.isAdaptive()) {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            fetchBudget.update(messageNum, elapsedMillis, receiverQueueBacklog());
+        }
+        if (idlenessTracker != null) {
+            updateIdleness(records.finishedSplits());
+        }
+
+        return records;
+    }
+
+    /** The registered splits which aren't paused. */
+    private List<PulsarPartitionSplit> pollableSplits() {
+        List<PulsarPartitionSplit> splits = new ArrayList<>(registeredSplits.size());
+        for (PulsarPartitionSplit split : registeredSplits.values()) {
+            if (!pausedSplits.contains(split.splitId())) {
+                splits.add(split);
+            }
+        }
+
+        return splits;
+    }
+
+    /** Wait for a while instead of spinning on the paused splits. */
+    private void waitForResume() {
+        try {
+            Thread.sleep(PAUSED_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** The number of the messages left in the receiver queues of the unfinished splits. */
+    private int receiverQueueBacklog() {
+        int backlog = 0;
+        for (PulsarPartitionSplit split : registeredSplits.values()) {
+            backlog += receiverQueueSize(split);
+        }
+
+        return backlog;
+    }
+
+    private int receiverQueueSize(PulsarPartitionSplit split) {
+        Consumer<byte[]> consumer = pulsarConsumers.get(split.splitId());
+        Integer messageNum = consumer.getStats().getMsgNumInReceiverQueue();
+        return messageNum == null ? 0 : messageNum;
+    }
+
+    private void markReceived(PulsarPartitionSplit split) {
+        if (idlenessTracker != null) {
+            receivedSplits.add(split.splitId());
+        }
+    }
+
+    /**
+     * Mark the splits which haven't received any messages for the idle timeout as idle. The idle
+     * time of the paused splits would be restarted when they are resumed.
+     */
+    private void updateIdleness(Set<String> finishedSplits) {
+        for (String splitId : finishedSplits) {
+            idleSince.remove(splitId);
+            idlenessTracker.markActive(splitId);
+        }
+
+        long now = System.currentTimeMillis();
+        for (PulsarPartitionSplit split : registeredSplits.values()) {
+            String splitId = split.splitId();
+            if (pausedSplits.contains(splitId)) {
+                idleSince.remove(splitId);
+            } else if (receivedSplits.contains(splitId) || receiverQueueSize(split) > 0) {
+                idleSince.remove(splitId);
+                idlenessTracker.markActive(splitId);
+            } else {
+                long since = idleSince.computeIfAbsent(splitId, id -> now);
+                if (now - since >= idlenessTracker.getIdleTimeoutMillis()) {
+                    idlenessTracker.markIdle(splitId);
+                }
+            }
+        }
+
+        receivedSplits.clear();
+    }
+
+    /** Consume the messages from Pulsar one by one. */
+    @SuppressWarnings("java:S135")
+    private int receiveMessages(
+            RecordsBySplits.Builder<Message<byte[]>> builder,
+            PulsarPartitionSplit split,
+            Consumer<byte[]> consumer)
+            throws IOException {
+        Deadline deadline = Deadline.fromNow(fetchBudget.getTime());
+        int maxFetchRecords = fetchBudget.getRecords();
 
         // Consume messages from pulsar until it was woken up by flink reader.
-        for (int messageNum = 0;
-                messageNum < sourceConfiguration.getMaxFetchRecords() && deadline.hasTimeLeft();
-                messageNum++) {
+        int messageNum = 0;
+        for (; messageNum < maxFetchRecords && deadline.hasTimeLeft(); messageNum++) {
             try {
                 int fetchTime = sourceConfiguration.getFetchOneMessageTime();
                 if (fetchTime <= 0) {
                     fetchTime = (int) deadline.timeLeftIfAny().toMillis();
                 }
 
-                Message<byte[]> message = pulsarConsumer.receive(fetchTime, TimeUnit.MILLISECONDS);
+                Message<byte[]> message = consumer.receive(fetchTime, TimeUnit.MILLISECONDS);
                 if (message == null) {
                     break;
                 }
 
-                StopCondition condition = stopCursor.shouldStop(message);
-
-                if (condition == StopCondition.CONTINUE || condition == StopCondition.EXACTLY) {
-                    // Collect original message.
-                    builder.add(splitId, message);
-                    LOG.debug("Finished polling message {}", message);
-                }
-
-                if (condition == StopCondition.EXACTLY || condition == StopCondition.TERMINATE) {
-                    builder.addFinishedSplit(splitId);
+                if (collectMessage(builder, split, message)) {
                     break;
                 }
             } catch (TimeoutException e) {
@@ -166,7 +374,208 @@ public class PulsarPartitionSplitReader
             }
         }
 
-        return builder.build();
+        return messageNum;
+    }
+
+    /**
+     * Drain the receiver queue by using {@link Consumer#batchReceive()}. The size of every batch is
+     * limited by the {@code BatchReceivePolicy} configured on the consumer.
+     */
+    private int batchReceiveMessages(
+            RecordsBySplits.Builder<Message<byte[]>> builder,
+            PulsarPartitionSplit split,
+            Consumer<byte[]> consumer)
+            throws IOException {
+        String splitId = split.splitId();
+        StopCursor stopCursor = stopCursors.get(splitId);
+        Deadline deadline = Deadline.fromNow(fetchBudget.getTime());
+        int maxFetchRecords = fetchBudget.getRecords();
+
+        int messageNum = 0;
+        while (messageNum < maxFetchRecords && deadline.hasTimeLeft()) {
+            Messages<byte[]> messages;
+            try {
+                messages = consumer.batchReceive();
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+
+            // The batch receive policy was timed out with no message in the receiver queue.
+            if (messages == null || messages.size() == 0) {
+                break;
+            }
+            messageNum += messages.size();
+
+            if (collectMessages(builder, splitId, stopCursor, messages)) {
+                builder.addFinishedSplit(splitId);
+                break;
+            }
+        }
+
+        return messageNum;
+    }
+
+    /**
+     * Poll the registered splits in a round-robin manner. The remaining fetch records are shared
+     * evenly by the splits in every round, and a split's messages are drained from its receiver
+     * queue without blocking. We only block on one of the splits for a short time when none of
+     * them have available messages.
+     */
+    private int multiplexedReceiveMessages(
+            RecordsBySplits.Builder<Message<byte[]>> builder, List<PulsarPartitionSplit> splits)
+            throws IOException {
+        Set<String> finishedSplits = new HashSet<>();
+        Deadline deadline = Deadline.fromNow(fetchBudget.getTime());
+        int maxFetchRecords = fetchBudget.getRecords();
+        int fetchOneMessageTime = sourceConfiguration.getFetchOneMessageTime();
+        int messageNum = 0;
+        long idleTime = 0;
+
+        try {
+            while (messageNum < maxFetchRecords
+                    && deadline.hasTimeLeft()
+                    && finishedSplits.size() < splits.size()) {
+                int quota = Math.max(1, (maxFetchRecords - messageNum) / splits.size());
+                int roundMessageNum = 0;
+
+                for (int i = 0; i < splits.size(); i++) {
+                    PulsarPartitionSplit split = splits.get((nextSplitIndex + i) % splits.size());
+                    if (finishedSplits.contains(split.splitId())) {
+                        continue;
+                    }
+
+                    Consumer<byte[]> consumer = pulsarConsumers.get(split.splitId());
+                    int previousMessageNum = roundMessageNum;
+                    for (int j = 0; j < quota; j++) {
+                        // A zero timeout wouldn't block when the receiver queue is empty.
+                        Message<byte[]> message = consumer.receive(0, TimeUnit.MILLISECONDS);
+                        if (message == null) {
+                            break;
+                        }
+
+                        roundMessageNum++;
+                        if (collectMessage(builder, split, message)) {
+                            finishedSplits.add(split.splitId());
+                            break;
+                        }
+                    }
+                    if (roundMessageNum > previousMessageNum) {
+                        markReceived(split);
+                    }
+                }
+
+                messageNum += roundMessageNum;
+                // Start from the next split in the next round, this makes the polling fair.
+                nextSplitIndex = (nextSplitIndex + 1) % splits.size();
+
+                if (roundMessageNum > 0) {
+                    idleTime = 0;
+                    continue;
+                }
+                if (messageNum > 0
+                        || (fetchOneMessageTime > 0 && idleTime >= fetchOneMessageTime)) {
+                    // Hand over the collected messages instead of waiting for the new messages.
+                    break;
+                }
+
+                // None of the splits have available messages, wait on a split for a while.
+                PulsarPartitionSplit split = splits.get(nextSplitIndex);
+                if (finishedSplits.contains(split.splitId())) {
+                    continue;
+                }
+                long timeLeft = Math.max(0, deadline.timeLeft().toMillis());
+                long waitTime = Math.min(MULTIPLEXED_IDLE_WAIT_MILLIS, timeLeft);
+                Message<byte[]> message =
+                        pulsarConsumers
+                                .get(split.splitId())
+                                .receive((int) waitTime, TimeUnit.MILLISECONDS);
+                if (message == null) {
+                    idleTime += waitTime;
+                } else {
+                    messageNum++;
+                    markReceived(split);
+                    if (collectMessage(builder, split, message)) {
+                        finishedSplits.add(split.splitId());
+                    }
+                }
+            }
+        } catch (PulsarClientException e) {
+            throw new IOException(e);
+        }
+
+        return messageNum;
+    }
+
+    /**
+     * Collect the message into the builder by evaluating the split's stop cursor.
+     *
+     * @return {@code true} if the stop cursor was met and the split is finished.
+     */
+    private boolean collectMessage(
+            RecordsBySplits.Builder<Message<byte[]>> builder,
+            PulsarPartitionSplit split,
+            Message<byte[]> message) {
+        String splitId = split.splitId();
+        StopCursor stopCursor = stopCursors.get(splitId);
+        if (stopCursor.isUnbounded()) {
+            builder.add(splitId, message);
+            return false;
+        }
+
+        StopCondition condition = stopCursor.shouldStop(message);
+
+        if (condition == StopCondition.CONTINUE || condition == StopCondition.EXACTLY) {
+            // Collect original message.
+            builder.add(splitId, message);
+            LOG.debug("Finished polling message {}", message);
+        }
+
+        if (condition == StopCondition.EXACTLY || condition == StopCondition.TERMINATE) {
+            builder.addFinishedSplit(splitId);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Collect a received batch into the builder. The stop cursor is evaluated on the batch as a
+     * whole, the remaining messages would be dropped once the cursor is met.
+     *
+     * @return {@code true} if the stop cursor was met in this batch.
+     */
+    private boolean collectMessages(
+            RecordsBySplits.Builder<Message<byte[]>> builder,
+            String splitId,
+            StopCursor stopCursor,
+            Messages<byte[]> messages) {
+        if (stopCursor.isUnbounded()) {
+            for (Message<byte[]> message : messages) {
+                builder.add(splitId, message);
+            }
+            return false;
+        }
+
+        Iterator<Message<byte[]>> iterator = messages.iterator();
+        while (iterator.hasNext()) {
+            Message<byte[]> message = iterator.next();
+            StopCondition condition = stopCursor.shouldStop(message);
+
+            if (condition == StopCondition.CONTINUE || condition == StopCondition.EXACTLY) {
+                builder.add(splitId, message);
+            } else {
+                message.release();
+            }
+
+            if (condition == StopCondition.EXACTLY || condition == StopCondition.TERMINATE) {
+                // These messages would never be emitted, release them if we use message pool.
+                iterator.forEachRemaining(Message::release);
+                return true;
+            }
+        }
+
+        LOG.debug("Finished polling {} messages in batch", messages.size());
+        return false;
     }
 
     @Override
@@ -181,26 +590,27 @@ public class PulsarPartitionSplitReader
                             splitsChanges.getClass()));
         }
 
-        if (registeredSplit != null) {
-            throw new IllegalStateException("This split reader have assigned split.");
+        for (PulsarPartitionSplit split : splitsChanges.splits()) {
+            if (registeredSplits.containsKey(split.splitId())) {
+                throw new IllegalStateException(
+                        "This split reader have assigned split " + split.splitId());
+            }
+            registerSplit(split);
         }
+    }
 
-        List<PulsarPartitionSplit> newSplits = splitsChanges.splits();
-        Preconditions.checkArgument(
-                newSplits.size() == 1, "This pulsar split reader only supports one split.");
-        this.registeredSplit = newSplits.get(0);
-
+    private void registerSplit(PulsarPartitionSplit split) {
         // Open stop cursor.
         try {
-            registeredSplit.open(pulsarAdmin);
+            split.open(pulsarAdmin);
         } catch (Exception e) {
             throw new FlinkRuntimeException(e);
         }
 
         // Reset the start position before creating the consumer.
-        MessageId latestConsumedId = registeredSplit.getLatestConsumedId();
+        MessageId latestConsumedId = split.getLatestConsumedId();
 
-        if (latestConsumedId != null) {
+        if (latestConsumedId != null && !sourceConfiguration.isEnableNonDurableReader()) {
             LOG.info("Reset subscription position by the checkpoint {}", latestConsumedId);
             try {
                 CursorPosition cursorPosition;
@@ -212,7 +622,7 @@ public class PulsarPartitionSplitReader
                     cursorPosition = new CursorPosition(latestConsumedId, false);
                 }
 
-                String topicName = registeredSplit.getPartition().getFullTopicName();
+                String topicName = split.getPartition().getFullTopicName();
                 String subscriptionName = sourceConfiguration.getSubscriptionName();
 
                 // Remove Consumer.seek() here for waiting for pulsar-client-all 2.12.0
@@ -228,35 +638,60 @@ public class PulsarPartitionSplitReader
                     LOG.warn(
                             "Failed to reset cursor to {} on partition {}",
                             latestConsumedId,
-                            registeredSplit.getPartition(),
+                            split.getPartition(),
                             e);
                 }
             }
         }
 
         // Create pulsar consumer.
+        String splitId = split.splitId();
         try {
-            this.pulsarConsumer = createPulsarConsumer(registeredSplit.getPartition());
-        } catch (PulsarClientException e) {
+            Consumer<byte[]> consumer = pulsarConsumers.remove(splitId);
+            if (consumer != null) {
+                // The consumer was created for acknowledging, recreate it after seeking.
+                consumer.close();
+            }
+            if (sourceConfiguration.isEnableNonDurableReader()) {
+                pulsarConsumers.put(splitId, createPulsarReader(split));
+            } else {
+                pulsarConsumers.put(splitId, createPulsarConsumer(split.getPartition()));
+            }
+        } catch (PulsarClientException | PulsarAdminException e) {
             throw new FlinkRuntimeException(e);
         }
 
-        LOG.info("Register split {} consumer for current reader.", registeredSplit);
+        MessageId endMessageId = split.getEndMessageId();
+        if (endMessageId == null) {
+            stopCursors.put(splitId, split.getStopCursor());
+        } else {
+            stopCursors.put(splitId, new RangeStopCursor(endMessageId, split.getStopCursor()));
+        }
+        registeredSplits.put(splitId, split);
+        LOG.info("Register split {} consumer for current reader.", split);
     }
 
+    /**
+     * Pause or resume the splits for the watermark alignment. The paused splits are skipped in the
+     * fetches, so the messages already in their receiver queues wouldn't be emitted either.
+     */
     @Override
     public void pauseOrResumeSplits(
             Collection<PulsarPartitionSplit> splitsToPause,
             Collection<PulsarPartitionSplit> splitsToResume) {
-        // This shouldn't happen but just in case...
-        Preconditions.checkState(
-                splitsToPause.size() + splitsToResume.size() <= 1,
-                "This pulsar split reader only supports one split.");
-
-        if (!splitsToPause.isEmpty()) {
-            pulsarConsumer.pause();
-        } else if (!splitsToResume.isEmpty()) {
-            pulsarConsumer.resume();
+        for (PulsarPartitionSplit split : splitsToPause) {
+            pausedSplits.add(split.splitId());
+            Consumer<byte[]> consumer = pulsarConsumers.get(split.splitId());
+            if (consumer != null) {
+                consumer.pause();
+            }
+        }
+        for (PulsarPartitionSplit split : splitsToResume) {
+            pausedSplits.remove(split.splitId());
+            Consumer<byte[]> consumer = pulsarConsumers.get(split.splitId());
+            if (consumer != null) {
+                consumer.resume();
+            }
         }
     }
 
@@ -266,23 +701,48 @@ public class PulsarPartitionSplitReader
     }
 
     @Override
-    public void close() throws PulsarClientException {
-        if (pulsarConsumer != null) {
-            pulsarConsumer.close();
-        }
+    public void close() throws Exception {
+        IOUtils.closeAll(pulsarConsumers.values());
+        pulsarConsumers.clear();
     }
 
-    public void notifyCheckpointComplete(TopicPartition partition, MessageId offsetsToCommit)
-            throws PulsarClientException {
-        if (pulsarConsumer == null) {
-            this.pulsarConsumer = createPulsarConsumer(partition);
+    /**
+     * Acknowledge the given partition cumulatively without blocking the caller. The returned future
+     * would be completed once the acknowledgement has been sent to Pulsar. The range splits are
+     * only consumed by the non-durable readers, so the id of an acknowledged split is its
+     * partition.
+     */
+    public CompletableFuture<Void> notifyCheckpointComplete(
+            TopicPartition partition, MessageId offsetsToCommit) throws PulsarClientException {
+        String splitId = partition.toString();
+        Consumer<byte[]> consumer = pulsarConsumers.get(splitId);
+        if (consumer == null) {
+            consumer = createPulsarConsumer(partition);
+            pulsarConsumers.put(splitId, consumer);
         }
 
-        pulsarConsumer.acknowledgeCumulative(offsetsToCommit);
+        return consumer.acknowledgeCumulativeAsync(offsetsToCommit);
     }
 
     // --------------------------- Helper Methods -----------------------------
 
+    /** Close the consumer of the finished split without blocking the fetch. */
+    private void closeConsumer(String splitId) {
+        Consumer<byte[]> consumer = pulsarConsumers.remove(splitId);
+        if (consumer != null) {
+            consumer.closeAsync()
+                    .whenComplete(
+                            (unused, e) -> {
+                                if (e != null) {
+                                    LOG.warn(
+                                            "Failed to close the consumer of finished split {}",
+                                            splitId,
+                                            e);
+                                }
+                            });
+        }
+    }
+
     /** Create a specified {@link Consumer} by the given topic partition. */
     private Consumer<byte[]> createPulsarConsumer(TopicPartition partition)
             throws PulsarClientException {
@@ -322,6 +782,64 @@ public class PulsarPartitionSplitReader
         return consumer;
     }
 
+    /**
+     * Create a non-durable {@link Reader} on the partition of the given split and return its
+     * internal consumer, so the messages are received in the same way as the subscription. The
+     * reader starts after the latest consumed message of the split. If the split hasn't consumed
+     * any messages, it starts from the start of its range, or from the position of the start
+     * cursor.
+     */
+    private Consumer<byte[]> createPulsarReader(PulsarPartitionSplit split)
+            throws PulsarClientException, PulsarAdminException {
+        TopicPartition partition = split.getPartition();
+        String topicName = partition.getFullTopicName();
+
+        MessageId startMessageId = split.getLatestConsumedId();
+        boolean inclusive = false;
+        if (startMessageId == null && split.getStartMessageId() != null) {
+            startMessageId = split.getStartMessageId();
+            inclusive = true;
+        } else if (startMessageId == null) {
+            CursorPosition position =
+                    startCursor.position(partition.getTopic(), partition.getPartitionId());
+            startMessageId = position.getMessageId(pulsarAdmin, topicName);
+            // The latest position is always excluded, the same as the subscription.
+            inclusive = position.isInclude() && startMessageId != MessageId.latest;
+        }
+
+        ReaderBuilder<byte[]> readerBuilder =
+                createReaderBuilder(pulsarClient, schema, sourceConfiguration);
+        readerBuilder.topic(topicName).startMessageId(startMessageId);
+        if (inclusive) {
+            readerBuilder.startMessageIdInclusive();
+        }
+
+        // The reader doesn't support the custom MessageCrypto, the default one is used.
+        CryptoKeyReader cryptoKeyReader = pulsarCrypto.cryptoKeyReader();
+        if (cryptoKeyReader != null) {
+            readerBuilder.cryptoKeyReader(cryptoKeyReader);
+        }
+
+        // Only read the messages in the partial keys.
+        if (!isFullTopicRanges(partition.getRanges())) {
+            readerBuilder.keyHashRange(partition.getPulsarRanges().toArray(new Range[0]));
+        }
+
+        Reader<byte[]> reader = readerBuilder.create();
+        if (!(reader instanceof ReaderImpl)) {
+            // The reader is useless, close it without waiting for the broker's response.
+            reader.closeAsync();
+            throw new IllegalStateException(
+                    "The non-durable reader on " + topicName + " isn't a single topic reader.");
+        }
+        Consumer<byte[]> consumer = ((ReaderImpl<byte[]>) reader).getConsumer();
+
+        // Exposing the consumer metrics.
+        exposeConsumerMetrics(consumer);
+
+        return consumer;
+    }
+
     private void exposeConsumerMetrics(Consumer<byte[]> consumer) {
         if (sourceConfiguration.isEnableMetrics()) {
             String consumerIdentity = consumer.getConsumerName();
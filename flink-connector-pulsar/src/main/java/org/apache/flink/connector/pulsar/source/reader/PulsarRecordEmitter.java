@@ -25,6 +25,10 @@ import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplitState;
 import org.apache.flink.util.Collector;
 
 import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.impl.MessageImpl;
+import org.apache.pulsar.client.impl.TopicMessageImpl;
+
+import java.nio.ByteBuffer;
 
 /**
  * The {@link RecordEmitter} implementation for {@link PulsarSourceReader}. We would always update
@@ -35,10 +39,12 @@ public class PulsarRecordEmitter<T>
 
     private final PulsarDeserializationSchema<T> deserializationSchema;
     private final SourceOutputWrapper<T> sourceOutputWrapper;
+    private final boolean payloadBufferSupported;
 
     public PulsarRecordEmitter(PulsarDeserializationSchema<T> deserializationSchema) {
         this.deserializationSchema = deserializationSchema;
         this.sourceOutputWrapper = new SourceOutputWrapper<>();
+        this.payloadBufferSupported = deserializationSchema.supportsPayloadBuffer();
     }
 
     @Override
@@ -50,13 +56,34 @@ public class PulsarRecordEmitter<T>
         sourceOutputWrapper.setTimestamp(element);
 
         // Deserialize the message and since it to output.
-        deserializationSchema.deserialize(element, sourceOutputWrapper);
+        if (payloadBufferSupported) {
+            // The payload should be consumed before the message is released.
+            deserializationSchema.deserialize(element, payload(element), sourceOutputWrapper);
+        } else {
+            deserializationSchema.deserialize(element, sourceOutputWrapper);
+        }
         splitState.setLatestConsumedId(element.getMessageId());
 
         // Release the messages if we use message pool in Pulsar.
         element.release();
     }
 
+    /**
+     * Get the message payload without copying it. The messages created by pulsar client hold the
+     * payload in a netty buffer, other messages fall back to {@link Message#getData()}.
+     */
+    private static ByteBuffer payload(Message<byte[]> message) {
+        Message<byte[]> msg = message;
+        if (msg instanceof TopicMessageImpl) {
+            msg = ((TopicMessageImpl<byte[]>) msg).getMessage();
+        }
+        if (msg instanceof MessageImpl) {
+            return ((MessageImpl<byte[]>) msg).getDataBuffer().nioBuffer();
+        }
+
+        return ByteBuffer.wrap(message.getData());
+    }
+
     private static class SourceOutputWrapper<T> implements Collector<T> {
 
         private SourceOutput<T> sourceOutput;
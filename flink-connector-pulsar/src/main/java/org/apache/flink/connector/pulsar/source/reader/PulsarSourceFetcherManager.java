@@ -26,6 +26,7 @@ import org.apache.flink.connector.base.source.reader.fetcher.SplitFetcher;
 import org.apache.flink.connector.base.source.reader.fetcher.SplitFetcherManager;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
 import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
+import org.apache.flink.connector.pulsar.source.config.SourceConfiguration;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
 import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
 
@@ -36,17 +37,24 @@ import org.apache.pulsar.client.api.PulsarClientException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import static java.util.Collections.singletonList;
+import static java.util.Comparator.comparingInt;
 
 /**
  * Pulsar's FetcherManager implementation for ordered consuming. This class is needed to help
  * acknowledge the message to Pulsar using the {@link Consumer} inside the {@link
  * PulsarPartitionSplitReader}.
+ *
+ * <p>Every split has its own fetcher thread by default. The splits would be multiplexed on a
+ * bounded number of fetchers if {@link SourceConfiguration#getMaxFetcherThreads()} is positive.
  */
 @Internal
 public class PulsarSourceFetcherManager
@@ -55,6 +63,9 @@ public class PulsarSourceFetcherManager
 
     private final Map<String, Integer> splitFetcherMapping = new HashMap<>();
     private final Map<Integer, Boolean> fetcherStatus = new HashMap<>();
+    // The number of unfinished splits in every fetcher, only used for the multiplexed fetchers.
+    private final Map<Integer, Integer> fetcherLoads = new HashMap<>();
+    private final int maxFetcherThreads;
 
     /**
      * Creates a new SplitFetcherManager with multiple I/O threads.
@@ -63,25 +74,49 @@ public class PulsarSourceFetcherManager
      *     fetchers) to the reader, which emits the records and book-keeps the state. This must be
      *     the same queue instance that is also passed to the {@link SourceReaderBase}.
      * @param splitReaderSupplier The factory for the split reader that connects to the source
+     * @param sourceConfiguration The source configuration which decides the number of fetchers.
      */
     public PulsarSourceFetcherManager(
             FutureCompletingBlockingQueue<RecordsWithSplitIds<Message<byte[]>>> elementsQueue,
             Supplier<SplitReader<Message<byte[]>, PulsarPartitionSplit>> splitReaderSupplier,
-            Configuration configuration) {
+            Configuration configuration,
+            SourceConfiguration sourceConfiguration) {
         super(elementsQueue, splitReaderSupplier, configuration);
+        this.maxFetcherThreads = sourceConfiguration.getMaxFetcherThreads();
     }
 
     /**
      * Override this method for supporting multiple thread fetching, one fetcher thread for one
-     * split.
+     * split. The splits would be grouped and added to the least loaded fetchers if the fetchers
+     * are multiplexed.
      */
     @Override
     public void addSplits(List<PulsarPartitionSplit> splitsToAdd) {
+        if (!isMultiplexed()) {
+            for (PulsarPartitionSplit split : splitsToAdd) {
+                SplitFetcher<Message<byte[]>, PulsarPartitionSplit> fetcher =
+                        getOrCreateFetcher(split.splitId());
+                fetcher.addSplits(singletonList(split));
+                // This method could be executed multiple times.
+                startFetcher(fetcher);
+            }
+            return;
+        }
+
+        Map<Integer, List<PulsarPartitionSplit>> fetcherSplits = new LinkedHashMap<>();
         for (PulsarPartitionSplit split : splitsToAdd) {
             SplitFetcher<Message<byte[]>, PulsarPartitionSplit> fetcher =
                     getOrCreateFetcher(split.splitId());
-            fetcher.addSplits(singletonList(split));
-            // This method could be executed multiple times.
+            fetcherLoads.merge(fetcher.fetcherId(), 1, Integer::sum);
+            fetcherSplits
+                    .computeIfAbsent(fetcher.fetcherId(), id -> new ArrayList<>())
+                    .add(split);
+        }
+
+        for (Map.Entry<Integer, List<PulsarPartitionSplit>> entry : fetcherSplits.entrySet()) {
+            SplitFetcher<Message<byte[]>, PulsarPartitionSplit> fetcher =
+                    fetchers.get(entry.getKey());
+            fetcher.addSplits(entry.getValue());
             startFetcher(fetcher);
         }
     }
@@ -99,8 +134,20 @@ public class PulsarSourceFetcherManager
         }
     }
 
-    /** Close the finished split related fetcher. */
+    /**
+     * Close the finished split related fetcher. The multiplexed fetcher is shared with other
+     * splits, so it wouldn't be closed here. Its split reader has already dropped the finished
+     * split and closed its consumer, the consumer would be recreated on acknowledging.
+     */
     public void closeFetcher(String splitId) {
+        if (isMultiplexed()) {
+            Integer fetchId = splitFetcherMapping.get(splitId);
+            if (fetchId != null) {
+                fetcherLoads.computeIfPresent(fetchId, (id, load) -> load > 1 ? load - 1 : null);
+            }
+            return;
+        }
+
         Integer fetchId = splitFetcherMapping.remove(splitId);
         if (fetchId != null) {
             fetcherStatus.remove(fetchId);
@@ -111,29 +158,39 @@ public class PulsarSourceFetcherManager
         }
     }
 
-    public void acknowledgeMessages(Map<TopicPartition, MessageId> cursorsToCommit)
-            throws PulsarClientException {
+    /**
+     * Acknowledge the cursors of all the partitions asynchronously. The returned future would be
+     * completed once all the acknowledgements are finished, or be completed exceptionally when any
+     * of them failed.
+     */
+    public CompletableFuture<Void> acknowledgeMessages(
+            Map<TopicPartition, MessageId> cursorsToCommit) throws PulsarClientException {
         LOG.debug("Acknowledge messages {}", cursorsToCommit);
 
+        List<CompletableFuture<Void>> futures = new ArrayList<>(cursorsToCommit.size());
         for (Map.Entry<TopicPartition, MessageId> entry : cursorsToCommit.entrySet()) {
             TopicPartition partition = entry.getKey();
             MessageId messageId = entry.getValue();
 
             SplitFetcher<Message<byte[]>, PulsarPartitionSplit> fetcher =
                     getOrCreateFetcher(partition.toString());
-            triggerAcknowledge(fetcher, partition, messageId);
+            futures.add(triggerAcknowledge(fetcher, partition, messageId));
         }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
     }
 
-    private void triggerAcknowledge(
+    private CompletableFuture<Void> triggerAcknowledge(
             SplitFetcher<Message<byte[]>, PulsarPartitionSplit> splitFetcher,
             TopicPartition partition,
             MessageId messageId)
             throws PulsarClientException {
         PulsarPartitionSplitReader splitReader =
                 (PulsarPartitionSplitReader) splitFetcher.getSplitReader();
-        splitReader.notifyCheckpointComplete(partition, messageId);
+        CompletableFuture<Void> future = splitReader.notifyCheckpointComplete(partition, messageId);
         startFetcher(splitFetcher);
+
+        return future;
     }
 
     private SplitFetcher<Message<byte[]>, PulsarPartitionSplit> getOrCreateFetcher(String splitId) {
@@ -141,17 +198,36 @@ public class PulsarSourceFetcherManager
         Integer fetcherId = splitFetcherMapping.get(splitId);
 
         if (fetcherId == null) {
-            fetcher = createSplitFetcher();
+            fetcher = createOrSelectFetcher();
         } else {
             fetcher = fetchers.get(fetcherId);
             // This fetcher has been stopped.
             if (fetcher == null) {
                 fetcherStatus.remove(fetcherId);
-                fetcher = createSplitFetcher();
+                fetcherLoads.remove(fetcherId);
+                fetcher = createOrSelectFetcher();
             }
         }
         splitFetcherMapping.put(splitId, fetcher.fetcherId());
 
         return fetcher;
     }
+
+    /**
+     * Create a new fetcher for the split. The least loaded fetcher would be reused if the number
+     * of the multiplexed fetchers has reached the limit.
+     */
+    private SplitFetcher<Message<byte[]>, PulsarPartitionSplit> createOrSelectFetcher() {
+        if (!isMultiplexed() || fetchers.size() < maxFetcherThreads) {
+            return createSplitFetcher();
+        }
+
+        return fetchers.values().stream()
+                .min(comparingInt(f -> fetcherLoads.getOrDefault(f.fetcherId(), 0)))
+                .orElseGet(this::createSplitFetcher);
+    }
+
+    private boolean isMultiplexed() {
+        return maxFetcherThreads > 0;
+    }
 }
@@ -30,6 +30,7 @@ import org.apache.flink.connector.pulsar.common.crypto.PulsarCrypto;
 import org.apache.flink.connector.pulsar.common.schema.BytesSchema;
 import org.apache.flink.connector.pulsar.common.schema.PulsarSchema;
 import org.apache.flink.connector.pulsar.source.config.SourceConfiguration;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.StartCursor;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
 import org.apache.flink.connector.pulsar.source.reader.deserializer.PulsarDeserializationSchema;
 import org.apache.flink.connector.pulsar.source.reader.deserializer.PulsarDeserializationSchemaInitializationContext;
@@ -47,13 +48,13 @@ import org.apache.pulsar.client.api.Schema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
@@ -62,8 +63,11 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
+import static org.apache.flink.configuration.PipelineOptions.AUTO_WATERMARK_INTERVAL;
 import static org.apache.flink.connector.pulsar.common.config.PulsarClientFactory.createAdmin;
 import static org.apache.flink.connector.pulsar.common.config.PulsarClientFactory.createClient;
+import static org.apache.flink.connector.pulsar.common.metrics.MetricNames.CHECKPOINT_ACK_LATENCY;
+import static org.apache.flink.util.ExceptionUtils.stripCompletionException;
 
 /**
  * The source reader for pulsar subscription Failover and Exclusive, which consumes the ordered
@@ -80,9 +84,13 @@ public class PulsarSourceReader<OUT>
     private final SourceConfiguration sourceConfiguration;
     private final PulsarClient pulsarClient;
     private final PulsarAdmin pulsarAdmin;
-    @VisibleForTesting final SortedMap<Long, Map<TopicPartition, MessageId>> cursorsToCommit;
+    @VisibleForTesting final CursorCommitCoalescer cursorsToCommit;
     private final ConcurrentMap<TopicPartition, MessageId> cursorsOfFinishedSplits;
     private final AtomicReference<Throwable> cursorCommitThrowable;
+    @Nullable private final SplitIdlenessTracker idlenessTracker;
+
+    /** The time in millis for acknowledging the cursors of the latest completed checkpoint. */
+    private volatile long checkpointAckLatency;
 
     private ScheduledExecutorService cursorScheduler;
 
@@ -93,6 +101,7 @@ public class PulsarSourceReader<OUT>
             SourceConfiguration sourceConfiguration,
             PulsarClient pulsarClient,
             PulsarAdmin pulsarAdmin,
+            @Nullable SplitIdlenessTracker idlenessTracker,
             SourceReaderContext context) {
         super(
                 elementsQueue,
@@ -105,15 +114,18 @@ public class PulsarSourceReader<OUT>
         this.pulsarClient = pulsarClient;
         this.pulsarAdmin = pulsarAdmin;
 
-        this.cursorsToCommit = Collections.synchronizedSortedMap(new TreeMap<>());
+        this.cursorsToCommit = new CursorCommitCoalescer();
         this.cursorsOfFinishedSplits = new ConcurrentHashMap<>();
         this.cursorCommitThrowable = new AtomicReference<>();
+        this.idlenessTracker = idlenessTracker;
+
+        context.metricGroup().gauge(CHECKPOINT_ACK_LATENCY, () -> checkpointAckLatency);
     }
 
     @Override
     public void start() {
         super.start();
-        if (sourceConfiguration.isEnableAutoAcknowledgeMessage()) {
+        if (sourceConfiguration.isEnableAutoAcknowledgeMessage() && isAcknowledgeEnabled()) {
             this.cursorScheduler = Executors.newSingleThreadScheduledExecutor();
 
             // Auto commit cursor, this could be enabled when checkpoint is also enabled.
@@ -132,7 +144,12 @@ public class PulsarSourceReader<OUT>
             throw new FlinkRuntimeException("An error occurred in acknowledge message.", cause);
         }
 
-        return super.pollNext(output);
+        InputStatus status = super.pollNext(output);
+        if (idlenessTracker != null) {
+            idlenessTracker.emitIdleness(output);
+        }
+
+        return status;
     }
 
     @Override
@@ -140,6 +157,10 @@ public class PulsarSourceReader<OUT>
         // Close all the finished splits.
         for (String splitId : finishedSplitIds.keySet()) {
             ((PulsarSourceFetcherManager) splitFetcherManager).closeFetcher(splitId);
+            if (idlenessTracker != null) {
+                // The output of the finished split has been released.
+                idlenessTracker.markFinished(splitId);
+            }
         }
 
         // We don't require new splits, all the splits are pre-assigned by source enumerator.
@@ -147,6 +168,9 @@ public class PulsarSourceReader<OUT>
             LOG.debug("onSplitFinished event: {}", finishedSplitIds);
         }
 
+        if (!isAcknowledgeEnabled()) {
+            return;
+        }
         for (Map.Entry<String, PulsarPartitionSplitState> entry : finishedSplitIds.entrySet()) {
             PulsarPartitionSplitState state = entry.getValue();
             MessageId latestConsumedId = state.getLatestConsumedId();
@@ -176,19 +200,23 @@ public class PulsarSourceReader<OUT>
     @Override
     public List<PulsarPartitionSplit> snapshotState(long checkpointId) {
         List<PulsarPartitionSplit> splits = super.snapshotState(checkpointId);
+        if (!isAcknowledgeEnabled()) {
+            return splits;
+        }
 
-        // Perform a snapshot for these splits.
-        Map<TopicPartition, MessageId> cursors =
-                cursorsToCommit.computeIfAbsent(checkpointId, id -> new HashMap<>());
-        // Put the cursors of the active splits.
+        // Perform a snapshot for these splits, only the advanced cursors are recorded.
         for (PulsarPartitionSplit split : splits) {
             MessageId latestConsumedId = split.getLatestConsumedId();
             if (latestConsumedId != null) {
-                cursors.put(split.getPartition(), latestConsumedId);
+                cursorsToCommit.addCursor(checkpointId, split.getPartition(), latestConsumedId);
             }
         }
-        // Put cursors of all the finished splits.
-        cursors.putAll(cursorsOfFinishedSplits);
+        // Put cursors of all the finished splits, drop the ones which have been acknowledged.
+        cursorsOfFinishedSplits
+                .entrySet()
+                .removeIf(e -> cursorsToCommit.isCommitted(e.getKey(), e.getValue()));
+        cursorsOfFinishedSplits.forEach(
+                (partition, cursor) -> cursorsToCommit.addCursor(checkpointId, partition, cursor));
 
         return splits;
     }
@@ -196,18 +224,43 @@ public class PulsarSourceReader<OUT>
     @Override
     public void notifyCheckpointComplete(long checkpointId) {
         LOG.debug("Committing cursors for checkpoint {}", checkpointId);
-        Map<TopicPartition, MessageId> cursors = cursorsToCommit.get(checkpointId);
-        try {
-            ((PulsarSourceFetcherManager) splitFetcherManager).acknowledgeMessages(cursors);
-            LOG.debug("Successfully acknowledge cursors for checkpoint {}", checkpointId);
+        // The cursors of the subsumed checkpoints are also committed with this checkpoint.
+        Map<TopicPartition, MessageId> cursors = cursorsToCommit.pollCursors(checkpointId);
+        if (cursors.isEmpty()) {
+            LOG.debug("No cursors to commit for checkpoint {}", checkpointId);
+            return;
+        }
 
-            // Clean up the cursors.
-            cursorsOfFinishedSplits.keySet().removeAll(cursors.keySet());
-            cursorsToCommit.headMap(checkpointId + 1).clear();
+        long startTime = System.currentTimeMillis();
+        CompletableFuture<Void> future;
+        try {
+            future =
+                    ((PulsarSourceFetcherManager) splitFetcherManager)
+                            .acknowledgeMessages(cursors);
         } catch (Exception e) {
             LOG.error("Failed to acknowledge cursors for checkpoint {}", checkpointId, e);
             cursorCommitThrowable.compareAndSet(null, e);
+            return;
         }
+
+        // Don't block the task thread, the failure would be thrown in the next pollNext.
+        future.whenComplete(
+                (unused, throwable) -> {
+                    if (throwable == null) {
+                        checkpointAckLatency = System.currentTimeMillis() - startTime;
+                        LOG.debug(
+                                "Successfully acknowledge cursors for checkpoint {}", checkpointId);
+                        cursorsToCommit.markCommitted(cursors);
+                        cursorsOfFinishedSplits.keySet().removeAll(cursors.keySet());
+                    } else {
+                        Throwable cause = stripCompletionException(throwable);
+                        LOG.error(
+                                "Failed to acknowledge cursors for checkpoint {}",
+                                checkpointId,
+                                cause);
+                        cursorCommitThrowable.compareAndSet(null, cause);
+                    }
+                });
     }
 
     @Override
@@ -226,6 +279,11 @@ public class PulsarSourceReader<OUT>
 
     // ----------------- helper methods --------------
 
+    /** The non-durable readers have no subscription, their cursors are only kept in the splits. */
+    private boolean isAcknowledgeEnabled() {
+        return !sourceConfiguration.isEnableNonDurableReader();
+    }
+
     /** Acknowledge the pulsar topic partition cursor by the last consumed message id. */
     private void cumulativeAcknowledgmentMessage() {
         Map<TopicPartition, MessageId> cursors = new HashMap<>(cursorsOfFinishedSplits);
@@ -241,9 +299,19 @@ public class PulsarSourceReader<OUT>
         }
 
         try {
-            ((PulsarSourceFetcherManager) splitFetcherManager).acknowledgeMessages(cursors);
-            // Clean up the finish splits.
-            cursorsOfFinishedSplits.keySet().removeAll(cursors.keySet());
+            ((PulsarSourceFetcherManager) splitFetcherManager)
+                    .acknowledgeMessages(cursors)
+                    .whenComplete(
+                            (unused, throwable) -> {
+                                if (throwable == null) {
+                                    // Clean up the finish splits.
+                                    cursorsOfFinishedSplits.keySet().removeAll(cursors.keySet());
+                                } else {
+                                    Throwable cause = stripCompletionException(throwable);
+                                    LOG.error("Fail in auto cursor commit.", cause);
+                                    cursorCommitThrowable.compareAndSet(null, cause);
+                                }
+                            });
         } catch (Exception e) {
             LOG.error("Fail in auto cursor commit.", e);
             cursorCommitThrowable.compareAndSet(null, e);
@@ -253,18 +321,50 @@ public class PulsarSourceReader<OUT>
     /** Factory method for creating PulsarSourceReader. */
     public static <OUT> PulsarSourceReader<OUT> create(
             SourceConfiguration sourceConfiguration,
+            StartCursor startCursor,
             PulsarDeserializationSchema<OUT> deserializationSchema,
             PulsarCrypto pulsarCrypto,
             SourceReaderContext readerContext)
             throws Exception {
+        PulsarClient pulsarClient = createClient(sourceConfiguration);
+        PulsarAdmin pulsarAdmin = createAdmin(sourceConfiguration);
+
+        return create(
+                sourceConfiguration,
+                startCursor,
+                deserializationSchema,
+                pulsarCrypto,
+                readerContext,
+                pulsarClient,
+                pulsarAdmin);
+    }
 
+    /** Create the reader with the given Pulsar clients, they are closed with the reader. */
+    @VisibleForTesting
+    static <OUT> PulsarSourceReader<OUT> create(
+            SourceConfiguration sourceConfiguration,
+            StartCursor startCursor,
+            PulsarDeserializationSchema<OUT> deserializationSchema,
+            PulsarCrypto pulsarCrypto,
+            SourceReaderContext readerContext,
+            PulsarClient pulsarClient,
+            PulsarAdmin pulsarAdmin)
+            throws Exception {
         // Create a message queue with the predefined source option.
         int queueCapacity = sourceConfiguration.getMessageQueueCapacity();
         FutureCompletingBlockingQueue<RecordsWithSplitIds<Message<byte[]>>> elementsQueue =
                 new FutureCompletingBlockingQueue<>(queueCapacity);
 
-        PulsarClient pulsarClient = createClient(sourceConfiguration);
-        PulsarAdmin pulsarAdmin = createAdmin(sourceConfiguration);
+        // Track the idle splits, the reader is woken up to mark their outputs as idle.
+        // The idle outputs are marked again after the periodic watermarks have activated them.
+        long splitIdleTimeout = sourceConfiguration.getSplitIdleTimeout();
+        long watermarkInterval =
+                readerContext.getConfiguration().get(AUTO_WATERMARK_INTERVAL).toMillis();
+        SplitIdlenessTracker idlenessTracker =
+                splitIdleTimeout > 0
+                        ? new SplitIdlenessTracker(
+                                splitIdleTimeout, watermarkInterval, elementsQueue::notifyAvailable)
+                        : null;
 
         // Initialize the deserialization schema before creating the pulsar reader.
         PulsarDeserializationSchemaInitializationContext initializationContext =
@@ -289,13 +389,19 @@ public class PulsarSourceReader<OUT>
                                 pulsarClient,
                                 pulsarAdmin,
                                 sourceConfiguration,
+                                startCursor,
                                 schema,
                                 pulsarCrypto,
-                                readerContext.metricGroup());
+                                readerContext.metricGroup(),
+                                elementsQueue,
+                                idlenessTracker);
 
         PulsarSourceFetcherManager fetcherManager =
                 new PulsarSourceFetcherManager(
-                        elementsQueue, splitReaderSupplier, readerContext.getConfiguration());
+                        elementsQueue,
+                        splitReaderSupplier,
+                        readerContext.getConfiguration(),
+                        sourceConfiguration);
 
         return new PulsarSourceReader<>(
                 elementsQueue,
@@ -304,6 +410,7 @@ public class PulsarSourceReader<OUT>
                 sourceConfiguration,
                 pulsarClient,
                 pulsarAdmin,
+                idlenessTracker,
                 readerContext);
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.reader;
+
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.stop.MessageIdStopCursor;
+
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.MessageId;
+
+/**
+ * The stop cursor of a range split. The split is finished before the end message id of its range,
+ * or by the stop cursor of the source if it's met first.
+ */
+final class RangeStopCursor implements StopCursor {
+    private static final long serialVersionUID = 2467362853924451587L;
+
+    private final StopCursor rangeEnd;
+    private final StopCursor stopCursor;
+
+    RangeStopCursor(MessageId endMessageId, StopCursor stopCursor) {
+        this.rangeEnd = new MessageIdStopCursor(endMessageId, false);
+        this.stopCursor = stopCursor;
+    }
+
+    @Override
+    public StopCondition shouldStop(Message<?> message) {
+        StopCondition condition = rangeEnd.shouldStop(message);
+        if (condition != StopCondition.CONTINUE || stopCursor.isUnbounded()) {
+            return condition;
+        }
+
+        return stopCursor.shouldStop(message);
+    }
+}
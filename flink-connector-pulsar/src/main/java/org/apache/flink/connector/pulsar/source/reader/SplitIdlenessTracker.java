@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.reader;
+
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.api.connector.source.ReaderOutput;
+import org.apache.flink.util.clock.Clock;
+import org.apache.flink.util.clock.SystemClock;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Shares the idle splits detected by {@link PulsarPartitionSplitReader} with {@link
+ * PulsarSourceReader}. A split is idle when none of its messages have been received in the fetches
+ * for the given timeout and its receiver queue is empty. The source reader marks the output of an
+ * idle split as idle, so the split wouldn't hold back the watermark of the source.
+ *
+ * <p>The idle splits are updated in the fetcher threads and emitted in the task thread. The output
+ * of a split is marked as idle once the split becomes idle. The periodic watermark generators emit
+ * a watermark on every auto watermark interval even if the split has no new messages, which makes
+ * the output of the split active again. So the outputs of the idle splits are marked again at most
+ * once per auto watermark interval until the splits receive messages again.
+ */
+@Internal
+public class SplitIdlenessTracker {
+
+    private final long idleTimeoutMillis;
+    private final long remarkIntervalMillis;
+    private final Runnable idleNotifier;
+    private final Clock clock;
+
+    /** The splits which are idle and not finished. */
+    private final Set<String> idleSplits;
+
+    /** The splits which have become idle since the last emission. */
+    private final Queue<String> newIdleSplits;
+
+    /** The splits whose outputs have been marked as idle, only accessed in the task thread. */
+    private final Set<String> markedSplits;
+
+    private long lastRemarkTime;
+
+    /**
+     * Create a tracker with the given timeout.
+     *
+     * @param remarkIntervalMillis The auto watermark interval of the source. The idle outputs are
+     *     never marked again if it's not positive.
+     * @param idleNotifier Wakes up the source reader when a split becomes idle.
+     */
+    public SplitIdlenessTracker(
+            long idleTimeoutMillis, long remarkIntervalMillis, Runnable idleNotifier) {
+        this(idleTimeoutMillis, remarkIntervalMillis, idleNotifier, SystemClock.getInstance());
+    }
+
+    @VisibleForTesting
+    SplitIdlenessTracker(
+            long idleTimeoutMillis, long remarkIntervalMillis, Runnable idleNotifier, Clock clock) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.remarkIntervalMillis = remarkIntervalMillis;
+        this.idleNotifier = idleNotifier;
+        this.clock = clock;
+        this.idleSplits = ConcurrentHashMap.newKeySet();
+        this.newIdleSplits = new ConcurrentLinkedQueue<>();
+        this.markedSplits = new HashSet<>();
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    /** The split has no messages for the timeout. This should be called in the fetcher thread. */
+    public void markIdle(String splitId) {
+        if (idleSplits.add(splitId)) {
+            newIdleSplits.add(splitId);
+            idleNotifier.run();
+        }
+    }
+
+    /**
+     * The split has received messages or has been finished. This should be called in the fetcher
+     * thread.
+     */
+    public void markActive(String splitId) {
+        idleSplits.remove(splitId);
+    }
+
+    /**
+     * The output of the split has been released by the source reader, it shouldn't be marked
+     * anymore. This should be called in the task thread.
+     */
+    public void markFinished(String splitId) {
+        idleSplits.remove(splitId);
+        markedSplits.remove(splitId);
+    }
+
+    public boolean isIdle(String splitId) {
+        return idleSplits.contains(splitId);
+    }
+
+    /**
+     * Mark the outputs of the newly idle splits as idle, and mark the outputs of the other idle
+     * splits again if the auto watermark interval has passed. This should be called in the task
+     * thread after the finished splits have been released.
+     */
+    public void emitIdleness(ReaderOutput<?> output) {
+        boolean noMarkedSplits = markedSplits.isEmpty();
+        String splitId;
+        while ((splitId = newIdleSplits.poll()) != null) {
+            // The split may have received messages or been finished after becoming idle.
+            if (idleSplits.contains(splitId)) {
+                markedSplits.add(splitId);
+                output.createOutputForSplit(splitId).markIdle();
+            }
+        }
+        if (markedSplits.isEmpty() || remarkIntervalMillis <= 0) {
+            return;
+        }
+
+        long now = clock.absoluteTimeMillis();
+        if (noMarkedSplits) {
+            // The first idle splits start the interval, they have just been marked.
+            lastRemarkTime = now;
+            return;
+        }
+        if (now - lastRemarkTime < remarkIntervalMillis) {
+            return;
+        }
+        lastRemarkTime = now;
+
+        for (Iterator<String> iterator = markedSplits.iterator(); iterator.hasNext(); ) {
+            String markedSplit = iterator.next();
+            if (idleSplits.contains(markedSplit)) {
+                output.createOutputForSplit(markedSplit).markIdle();
+            } else {
+                // The split is active again, its output has been activated by its messages.
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.pulsar.client.api.PulsarClient;
 import org.apache.pulsar.client.api.Schema;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 
 /**
  * A schema bridge for deserializing the pulsar's {@code Message<byte[]>} into a flink managed
@@ -68,6 +69,32 @@ public interface PulsarDeserializationSchema<T> extends Serializable, ResultType
      */
     void deserialize(Message<byte[]> message, Collector<T> out) throws Exception;
 
+    /**
+     * Deserializes the pulsar message by reading its payload in place. This method is only called
+     * when {@link #supportsPayloadBuffer()} returns {@code true}, which saves the allocation and
+     * copy of {@link Message#getData()}. The payload is usually a direct buffer, the schemas which
+     * copy it into a byte array wouldn't benefit from this method.
+     *
+     * <p>The payload buffer may share the memory of a pooled message, it is only valid inside this
+     * method call. Don't keep any references to it after the method returns.
+     *
+     * @param message The message decoded by pulsar.
+     * @param payload The view of the message payload, it shouldn't be modified.
+     * @param out The collector to put the resulting messages.
+     */
+    default void deserialize(Message<byte[]> message, ByteBuffer payload, Collector<T> out)
+            throws Exception {
+        deserialize(message, out);
+    }
+
+    /**
+     * Whether this schema could decode the message from {@link #deserialize(Message, ByteBuffer,
+     * Collector)} instead of the byte array based method.
+     */
+    default boolean supportsPayloadBuffer() {
+        return false;
+    }
+
     /** An interface for providing extra schema initial context for users. */
     @PublicEvolving
     public interface PulsarInitializationContext extends InitializationContext {
@@ -35,7 +35,12 @@ import java.util.Objects;
 
 import static org.apache.flink.util.Preconditions.checkNotNull;
 
-/** A {@link SourceSplit} implementation for a Pulsar's partition. */
+/**
+ * A {@link SourceSplit} implementation for a Pulsar's partition. A split may only cover the message
+ * id range {@code [startMessageId, endMessageId)} of the partition, the missing start is decided by
+ * the start cursor and the missing end is decided by the stop cursor. The ranges of a partition
+ * are consumed by the non-durable readers independently.
+ */
 @Internal
 public class PulsarPartitionSplit implements SourceSplit, Serializable {
     private static final long serialVersionUID = -6857317360756062625L;
@@ -44,6 +49,12 @@ public class PulsarPartitionSplit implements SourceSplit, Serializable {
 
     private final StopCursor stopCursor;
 
+    /** The inclusive start of the message id range covered by this split. */
+    @Nullable private final MessageId startMessageId;
+
+    /** The exclusive end of the message id range covered by this split. */
+    @Nullable private final MessageId endMessageId;
+
     /**
      * Since this field in only used in {@link PulsarSourceReader#snapshotState(long)}, it's no need
      * to serialize this field into flink checkpoint state.
@@ -53,10 +64,7 @@ public class PulsarPartitionSplit implements SourceSplit, Serializable {
     @Nullable private final TxnID uncommittedTransactionId;
 
     public PulsarPartitionSplit(TopicPartition partition, StopCursor stopCursor) {
-        this.partition = checkNotNull(partition);
-        this.stopCursor = checkNotNull(stopCursor);
-        this.latestConsumedId = null;
-        this.uncommittedTransactionId = null;
+        this(partition, stopCursor, null, null);
     }
 
     public PulsarPartitionSplit(
@@ -64,15 +72,32 @@ public class PulsarPartitionSplit implements SourceSplit, Serializable {
             StopCursor stopCursor,
             @Nullable MessageId latestConsumedId,
             @Nullable TxnID uncommittedTransactionId) {
+        this(partition, stopCursor, null, null, latestConsumedId, uncommittedTransactionId);
+    }
+
+    public PulsarPartitionSplit(
+            TopicPartition partition,
+            StopCursor stopCursor,
+            @Nullable MessageId startMessageId,
+            @Nullable MessageId endMessageId,
+            @Nullable MessageId latestConsumedId,
+            @Nullable TxnID uncommittedTransactionId) {
         this.partition = checkNotNull(partition);
         this.stopCursor = checkNotNull(stopCursor);
+        this.startMessageId = startMessageId;
+        this.endMessageId = endMessageId;
         this.latestConsumedId = latestConsumedId;
         this.uncommittedTransactionId = uncommittedTransactionId;
     }
 
+    /** The ranges which start from the given message id are identified by their start. */
     @Override
     public String splitId() {
-        return partition.toString();
+        if (startMessageId == null) {
+            return partition.toString();
+        } else {
+            return partition + "@" + startMessageId;
+        }
     }
 
     public TopicPartition getPartition() {
@@ -83,6 +108,16 @@ public class PulsarPartitionSplit implements SourceSplit, Serializable {
         return stopCursor;
     }
 
+    @Nullable
+    public MessageId getStartMessageId() {
+        return startMessageId;
+    }
+
+    @Nullable
+    public MessageId getEndMessageId() {
+        return endMessageId;
+    }
+
     @Nullable
     public MessageId getLatestConsumedId() {
         return latestConsumedId;
@@ -107,16 +142,27 @@ public class PulsarPartitionSplit implements SourceSplit, Serializable {
             return false;
         }
         PulsarPartitionSplit that = (PulsarPartitionSplit) o;
-        return partition.equals(that.partition);
+        return partition.equals(that.partition)
+                && Objects.equals(startMessageId, that.startMessageId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(partition);
+        return Objects.hash(partition, startMessageId);
     }
 
     @Override
     public String toString() {
-        return "PulsarPartitionSplit{partition=" + partition + '}';
+        if (startMessageId == null && endMessageId == null) {
+            return "PulsarPartitionSplit{partition=" + partition + '}';
+        }
+
+        return "PulsarPartitionSplit{partition="
+                + partition
+                + ", startMessageId="
+                + startMessageId
+                + ", endMessageId="
+                + endMessageId
+                + '}';
     }
 }
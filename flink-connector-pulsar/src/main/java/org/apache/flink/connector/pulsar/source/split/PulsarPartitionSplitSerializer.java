@@ -25,6 +25,9 @@ import org.apache.flink.core.io.SimpleVersionedSerializer;
 
 import org.apache.pulsar.client.api.MessageId;
 import org.apache.pulsar.client.api.transaction.TxnID;
+import org.apache.pulsar.client.impl.MessageIdImpl;
+
+import javax.annotation.Nullable;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -39,7 +42,9 @@ import static org.apache.flink.connector.pulsar.common.utils.PulsarSerdeUtils.de
 import static org.apache.flink.connector.pulsar.common.utils.PulsarSerdeUtils.deserializeObject;
 import static org.apache.flink.connector.pulsar.common.utils.PulsarSerdeUtils.serializeBytes;
 import static org.apache.flink.connector.pulsar.common.utils.PulsarSerdeUtils.serializeList;
-import static org.apache.flink.connector.pulsar.common.utils.PulsarSerdeUtils.serializeObject;
+import static org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursorSerializer.deserializeStopCursor;
+import static org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursorSerializer.serializeStopCursor;
+import static org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplitState.isPosition;
 
 /** The {@link SimpleVersionedSerializer serializer} for {@link PulsarPartitionSplit}. */
 public class PulsarPartitionSplitSerializer
@@ -49,7 +54,11 @@ public class PulsarPartitionSplitSerializer
             new PulsarPartitionSplitSerializer();
 
     // This version should be bumped after modifying the PulsarPartitionSplit.
-    public static final int CURRENT_VERSION = 2;
+    public static final int CURRENT_VERSION = 5;
+
+    private static final byte NO_MESSAGE_ID = 0;
+    private static final byte POSITION_MESSAGE_ID = 1;
+    private static final byte SERIALIZED_MESSAGE_ID = 2;
 
     private PulsarPartitionSplitSerializer() {
         // Singleton instance.
@@ -86,16 +95,14 @@ public class PulsarPartitionSplitSerializer
         serializeTopicPartition(out, split.getPartition());
 
         // stopCursor
-        serializeObject(out, split.getStopCursor());
+        serializeStopCursor(out, split.getStopCursor());
+
+        // startMessageId and endMessageId
+        serializeMessageId(out, split.getStartMessageId());
+        serializeMessageId(out, split.getEndMessageId());
 
         // latestConsumedId
-        MessageId latestConsumedId = split.getLatestConsumedId();
-        if (latestConsumedId == null) {
-            out.writeBoolean(false);
-        } else {
-            out.writeBoolean(true);
-            serializeBytes(out, latestConsumedId.toByteArray());
-        }
+        serializeMessageId(out, split.getLatestConsumedId());
 
         // uncommittedTransactionId
         TxnID uncommittedTransactionId = split.getUncommittedTransactionId();
@@ -113,12 +120,22 @@ public class PulsarPartitionSplitSerializer
         // partition
         TopicPartition partition = deserializeTopicPartition(version, in);
 
-        // stopCursor
-        StopCursor stopCursor = deserializeObject(in);
+        // stopCursor, the built-in cursors have been written in the binary codec since VERSION 3.
+        StopCursor stopCursor = version >= 3 ? deserializeStopCursor(in) : deserializeObject(in);
+
+        // startMessageId and endMessageId, the ranges have been added since VERSION 5.
+        MessageId startMessageId = null;
+        MessageId endMessageId = null;
+        if (version >= 5) {
+            startMessageId = deserializeMessageId(in);
+            endMessageId = deserializeMessageId(in);
+        }
 
         // latestConsumedId
         MessageId latestConsumedId = null;
-        if (in.readBoolean()) {
+        if (version >= 4) {
+            latestConsumedId = deserializeMessageId(in);
+        } else if (in.readBoolean()) {
             byte[] messageIdBytes = deserializeBytes(in);
             latestConsumedId = MessageId.fromByteArray(messageIdBytes);
         }
@@ -133,7 +150,44 @@ public class PulsarPartitionSplitSerializer
 
         // Creation
         return new PulsarPartitionSplit(
-                partition, stopCursor, latestConsumedId, uncommittedTransactionId);
+                partition,
+                stopCursor,
+                startMessageId,
+                endMessageId,
+                latestConsumedId,
+                uncommittedTransactionId);
+    }
+
+    /** The position of a non-batched message is written directly. */
+    private static void serializeMessageId(DataOutputStream out, @Nullable MessageId messageId)
+            throws IOException {
+        if (messageId == null) {
+            out.writeByte(NO_MESSAGE_ID);
+        } else if (isPosition(messageId)) {
+            MessageIdImpl position = (MessageIdImpl) messageId;
+            out.writeByte(POSITION_MESSAGE_ID);
+            out.writeLong(position.getLedgerId());
+            out.writeLong(position.getEntryId());
+            out.writeInt(position.getPartitionIndex());
+        } else {
+            out.writeByte(SERIALIZED_MESSAGE_ID);
+            serializeBytes(out, messageId.toByteArray());
+        }
+    }
+
+    @Nullable
+    private static MessageId deserializeMessageId(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        if (type == POSITION_MESSAGE_ID) {
+            long ledgerId = in.readLong();
+            long entryId = in.readLong();
+            int partitionIndex = in.readInt();
+            return new MessageIdImpl(ledgerId, entryId, partitionIndex);
+        } else if (type == SERIALIZED_MESSAGE_ID) {
+            return MessageId.fromByteArray(deserializeBytes(in));
+        } else {
+            return null;
+        }
     }
 
     public void serializeTopicPartition(DataOutputStream out, TopicPartition partition)
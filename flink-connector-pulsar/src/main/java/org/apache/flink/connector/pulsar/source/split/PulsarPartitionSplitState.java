@@ -22,16 +22,30 @@ import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
 
 import org.apache.pulsar.client.api.MessageId;
 import org.apache.pulsar.client.api.transaction.TxnID;
+import org.apache.pulsar.client.impl.MessageIdImpl;
 
 import javax.annotation.Nullable;
 
-/** Pulsar partition split state. */
+/**
+ * Pulsar partition split state. The id of the latest consumed non-batched message is kept in the
+ * primitive fields, and the {@link MessageId} is only created on snapshot and acknowledgement.
+ * The other message ids are kept as they are, the batched message ids share an ack set with the
+ * other messages in the batch, which is required by the cumulative acknowledgement.
+ */
 public class PulsarPartitionSplitState {
 
     private final PulsarPartitionSplit split;
 
     @Nullable private TxnID uncommittedTransactionId;
 
+    /** The latest consumed message id is kept in the primitive fields. */
+    private boolean consumedPosition;
+
+    private long ledgerId;
+    private long entryId;
+    private int partitionIndex;
+
+    /** The latest consumed message id which isn't kept in the primitive fields. */
     @Nullable private MessageId latestConsumedId;
 
     public PulsarPartitionSplitState(PulsarPartitionSplit split) {
@@ -45,7 +59,9 @@ public class PulsarPartitionSplitState {
         return new PulsarPartitionSplit(
                 split.getPartition(),
                 split.getStopCursor(),
-                latestConsumedId,
+                split.getStartMessageId(),
+                split.getEndMessageId(),
+                getLatestConsumedId(),
                 uncommittedTransactionId);
     }
 
@@ -64,10 +80,36 @@ public class PulsarPartitionSplitState {
 
     @Nullable
     public MessageId getLatestConsumedId() {
-        return latestConsumedId;
+        if (consumedPosition) {
+            return new MessageIdImpl(ledgerId, entryId, partitionIndex);
+        } else {
+            return latestConsumedId;
+        }
     }
 
     public void setLatestConsumedId(@Nullable MessageId latestConsumedId) {
-        this.latestConsumedId = latestConsumedId;
+        if (isPosition(latestConsumedId)) {
+            MessageIdImpl messageId = (MessageIdImpl) latestConsumedId;
+            this.consumedPosition = true;
+            this.ledgerId = messageId.getLedgerId();
+            this.entryId = messageId.getEntryId();
+            this.partitionIndex = messageId.getPartitionIndex();
+            this.latestConsumedId = null;
+        } else {
+            this.consumedPosition = false;
+            this.latestConsumedId = latestConsumedId;
+        }
+    }
+
+    /**
+     * The message id which only contains the position of a non-batched message. {@link
+     * MessageId#earliest} and {@link MessageId#latest} are excluded, they are compared by the
+     * reference.
+     */
+    public static boolean isPosition(@Nullable MessageId messageId) {
+        return messageId != null
+                && messageId.getClass() == MessageIdImpl.class
+                && messageId != MessageId.earliest
+                && messageId != MessageId.latest;
     }
 }
@@ -21,6 +21,8 @@ package org.apache.flink.connector.pulsar.sink.committer;
 import org.apache.pulsar.client.api.transaction.TxnID;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -50,4 +52,40 @@ class PulsarCommittableSerializerTest {
 
         assertThat(committable1).isEqualTo(committable);
     }
+
+    @Test
+    void sharedTransactionCommittableSerDe() throws IOException {
+        TxnID txnID =
+                new TxnID(
+                        ThreadLocalRandom.current().nextLong(),
+                        ThreadLocalRandom.current().nextLong());
+
+        PulsarCommittable committable = new PulsarCommittable(txnID, null);
+
+        byte[] bytes = INSTANCE.serialize(committable);
+        PulsarCommittable committable1 = INSTANCE.deserialize(INSTANCE.getVersion(), bytes);
+
+        assertThat(committable1).isEqualTo(committable);
+        assertThat(committable1.getTopic()).isNull();
+    }
+
+    @Test
+    void deserializeVersion1Committable() throws IOException {
+        String topic = randomAlphabetic(10);
+        TxnID txnID =
+                new TxnID(
+                        ThreadLocalRandom.current().nextLong(),
+                        ThreadLocalRandom.current().nextLong());
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(baos)) {
+            out.writeLong(txnID.getMostSigBits());
+            out.writeLong(txnID.getLeastSigBits());
+            out.writeUTF(topic);
+        }
+
+        PulsarCommittable committable = INSTANCE.deserialize(1, baos.toByteArray());
+
+        assertThat(committable).isEqualTo(new PulsarCommittable(txnID, topic));
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.sink.committer;
+
+import org.apache.flink.api.connector.sink2.Committer.CommitRequest;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.pulsar.sink.config.SinkConfiguration;
+
+import org.apache.pulsar.client.api.transaction.TransactionCoordinatorClient;
+import org.apache.pulsar.client.api.transaction.TransactionCoordinatorClientException;
+import org.apache.pulsar.client.api.transaction.TransactionCoordinatorClientException.InvalidTxnStatusException;
+import org.apache.pulsar.client.api.transaction.TransactionCoordinatorClientException.TransactionNotFoundException;
+import org.apache.pulsar.client.api.transaction.TxnID;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.time.Duration.ofSeconds;
+import static org.apache.flink.core.testutils.CommonTestUtils.waitUtil;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link PulsarCommitter}. */
+class PulsarCommitterTest {
+
+    @Test
+    void commitAllTransactionsBeforeWaitingForThem() throws Exception {
+        Map<TxnID, CompletableFuture<Void>> commits = new ConcurrentHashMap<>();
+        PulsarCommitter committer =
+                new PulsarCommitter(
+                        new SinkConfiguration(new Configuration()), coordinatorClient(commits));
+
+        List<TestCommitRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            requests.add(new TestCommitRequest(new TxnID(1, i)));
+        }
+        CompletableFuture<Void> committing =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                committer.commit(new ArrayList<>(requests));
+                            } catch (Exception e) {
+                                throw new IllegalStateException(e);
+                            }
+                        });
+
+        // No commit is finished, so all the transactions are committed without waiting.
+        waitUtil(
+                () -> commits.size() == requests.size(),
+                ofSeconds(30),
+                "All the transactions should be committed before waiting for any of them.");
+        assertThat(committing).isNotDone();
+
+        // Finish the commits in the reverse order of the requests.
+        fail(commits, requests.get(3), new TransactionCoordinatorClientException("retriable"));
+        fail(commits, requests.get(2), new InvalidTxnStatusException("aborted"));
+        fail(commits, requests.get(1), new TransactionNotFoundException("not found"));
+        commits.get(requests.get(0).txnID).complete(null);
+        committing.get();
+
+        assertThat(requests.get(0).outcome).isNull();
+        assertThat(requests.get(1).outcome).isEqualTo("signalFailedWithKnownReason");
+        assertThat(requests.get(2).outcome).isEqualTo("signalAlreadyCommitted");
+        assertThat(requests.get(3).outcome).isEqualTo("retryLater");
+        committer.close();
+    }
+
+    private void fail(
+            Map<TxnID, CompletableFuture<Void>> commits,
+            TestCommitRequest request,
+            Throwable cause) {
+        commits.get(request.txnID).completeExceptionally(cause);
+    }
+
+    /** The coordinator client which only records the async commits, they are finished by tests. */
+    private TransactionCoordinatorClient coordinatorClient(
+            Map<TxnID, CompletableFuture<Void>> commits) {
+        return (TransactionCoordinatorClient)
+                Proxy.newProxyInstance(
+                        TransactionCoordinatorClient.class.getClassLoader(),
+                        new Class[] {TransactionCoordinatorClient.class},
+                        (proxy, method, args) -> {
+                            if (method.getName().equals("commitAsync") && args.length == 1) {
+                                return commits.computeIfAbsent(
+                                        (TxnID) args[0], k -> new CompletableFuture<>());
+                            }
+                            throw new UnsupportedOperationException(method.getName());
+                        });
+    }
+
+    /** The commit request which records how it's finished. */
+    private static class TestCommitRequest implements CommitRequest<PulsarCommittable> {
+
+        private final TxnID txnID;
+        private final PulsarCommittable committable;
+        private String outcome;
+
+        private TestCommitRequest(TxnID txnID) {
+            this.txnID = txnID;
+            this.committable = new PulsarCommittable(txnID, null);
+        }
+
+        @Override
+        public PulsarCommittable getCommittable() {
+            return committable;
+        }
+
+        @Override
+        public int getNumberOfRetries() {
+            return 0;
+        }
+
+        @Override
+        public void signalFailedWithKnownReason(Throwable t) {
+            this.outcome = "signalFailedWithKnownReason";
+        }
+
+        @Override
+        public void signalFailedWithUnknownReason(Throwable t) {
+            this.outcome = "signalFailedWithUnknownReason";
+        }
+
+        @Override
+        public void retryLater() {
+            this.outcome = "retryLater";
+        }
+
+        @Override
+        public void updateAndRetryLater(PulsarCommittable committable) {
+            this.outcome = "updateAndRetryLater";
+        }
+
+        @Override
+        public void signalAlreadyCommitted() {
+            this.outcome = "signalAlreadyCommitted";
+        }
+    }
+}
@@ -48,23 +48,41 @@ import org.apache.flink.runtime.mailbox.SyncMailboxExecutor;
 import org.apache.flink.runtime.metrics.groups.InternalSinkWriterMetricGroup;
 import org.apache.flink.runtime.metrics.groups.UnregisteredMetricGroups;
 import org.apache.flink.streaming.runtime.tasks.TestProcessingTimeService;
+import org.apache.flink.util.FlinkRuntimeException;
 import org.apache.flink.util.UserCodeClassLoader;
+import org.apache.flink.util.function.ThrowingRunnable;
 
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.MessageId;
 import org.apache.pulsar.client.api.transaction.TransactionCoordinatorClient;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.OptionalLong;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.apache.flink.connector.base.DeliveryGuarantee.EXACTLY_ONCE;
+import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_MAX_INFLIGHT_BYTES;
+import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_MAX_INFLIGHT_MESSAGES;
+import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_FLUSH_TIMEOUT;
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_SCHEMA_EVOLUTION;
 import static org.apache.pulsar.client.api.Schema.STRING;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Unit tests for {@link PulsarWriter}. */
 class PulsarWriterTest extends PulsarTestSuiteBase {
@@ -89,6 +107,97 @@ class PulsarWriterTest extends PulsarTestSuiteBase {
         writeMessageAndVerify(DeliveryGuarantee.AT_LEAST_ONCE, listener, topic);
     }
 
+    @ParameterizedTest
+    @EnumSource(
+            value = DeliveryGuarantee.class,
+            names = {"AT_LEAST_ONCE", "NONE"})
+    void writeMessagesWithInflightLimits(DeliveryGuarantee guarantee) throws Exception {
+        String topic = "writer-" + randomAlphabetic(10);
+        operator().createTopic(topic, 0);
+
+        Configuration configuration = operator().sinkConfig(guarantee);
+        configuration.set(PULSAR_MAX_INFLIGHT_MESSAGES, 2);
+        configuration.set(PULSAR_MAX_INFLIGHT_BYTES, 16L);
+        SinkConfiguration sinkConfiguration = new SinkConfiguration(configuration);
+        InitContext initContext =
+                new MockInitContext() {
+                    @Override
+                    public MailboxExecutor getMailboxExecutor() {
+                        return new QueuedMailboxExecutor();
+                    }
+                };
+
+        PulsarWriter<String> writer =
+                new PulsarWriter<>(
+                        sinkConfiguration,
+                        new PulsarSchemaWrapper<>(STRING),
+                        new MetadataListener(singletonList(topic)),
+                        new DynamicTopicRouter<>(sinkConfiguration, topic),
+                        MessageDelayer.never(),
+                        PulsarCrypto.disabled(),
+                        initContext);
+
+        List<String> messages = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String message = randomAlphabetic(10);
+            messages.add(message);
+            writer.write(message, CONTEXT);
+        }
+        writer.flush(false);
+
+        List<String> consumedMessages =
+                operator().receiveMessages(topic, STRING, messages.size()).stream()
+                        .map(Message::getValue)
+                        .collect(Collectors.toList());
+        assertThat(consumedMessages).containsExactlyElementsOf(messages);
+
+        writer.close();
+    }
+
+    @Test
+    void flushWaitsForLastPendingMessage() throws Exception {
+        PulsarWriter<String> writer = flushingWriter(Duration.ofMinutes(1));
+        CompletableFuture<MessageId> first = new CompletableFuture<>();
+        CompletableFuture<MessageId> last = new CompletableFuture<>();
+        writer.addPendingMessage(first);
+        writer.addPendingMessage(last);
+
+        CompletableFuture<Void> flushing = flushAsync(writer);
+        first.complete(MessageId.earliest);
+        assertThatThrownBy(() -> flushing.get(500, TimeUnit.MILLISECONDS))
+                .isInstanceOf(TimeoutException.class);
+
+        last.complete(MessageId.earliest);
+        assertThat(flushing).succeedsWithin(Duration.ofSeconds(10));
+
+        writer.close();
+    }
+
+    @Test
+    void flushFailsWhenPendingMessagesTimeout() throws Exception {
+        PulsarWriter<String> writer = flushingWriter(Duration.ofMillis(200));
+        CompletableFuture<MessageId> pending = new CompletableFuture<>();
+        writer.addPendingMessage(pending);
+
+        assertThatThrownBy(() -> writer.flush(false))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("1 pending messages");
+
+        pending.complete(MessageId.earliest);
+        writer.close();
+    }
+
+    @Test
+    void flushWithoutPendingMessages() throws Exception {
+        // A blocked flush would fail with the timeout.
+        PulsarWriter<String> writer = flushingWriter(Duration.ofSeconds(1));
+
+        writer.flush(false);
+        writer.flush(false);
+
+        writer.close();
+    }
+
     private void writeMessageAndVerify(
             DeliveryGuarantee guarantee, MetadataListener listener, String topic) throws Exception {
         SinkConfiguration configuration = sinkConfiguration(guarantee);
@@ -131,6 +240,34 @@ class PulsarWriterTest extends PulsarTestSuiteBase {
         assertThat(consumedMessage).isEqualTo(message);
     }
 
+    /** Create an at-least-once writer, it has no producers until messages are written. */
+    private PulsarWriter<String> flushingWriter(Duration flushTimeout) throws Exception {
+        String topic = "writer-" + randomAlphabetic(10);
+        Configuration configuration = operator().sinkConfig(DeliveryGuarantee.AT_LEAST_ONCE);
+        configuration.set(PULSAR_WRITE_FLUSH_TIMEOUT, flushTimeout.toMillis());
+        SinkConfiguration sinkConfiguration = new SinkConfiguration(configuration);
+
+        return new PulsarWriter<>(
+                sinkConfiguration,
+                new PulsarSchemaWrapper<>(STRING),
+                new MetadataListener(singletonList(topic)),
+                new DynamicTopicRouter<>(sinkConfiguration, topic),
+                MessageDelayer.never(),
+                PulsarCrypto.disabled(),
+                new MockInitContext());
+    }
+
+    private CompletableFuture<Void> flushAsync(PulsarWriter<String> writer) {
+        return CompletableFuture.runAsync(
+                () -> {
+                    try {
+                        writer.flush(false);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+
     private SinkConfiguration sinkConfiguration(DeliveryGuarantee deliveryGuarantee) {
         Configuration configuration = operator().sinkConfig(deliveryGuarantee);
         configuration.set(PULSAR_WRITE_SCHEMA_EVOLUTION, true);
@@ -253,6 +390,44 @@ class PulsarWriterTest extends PulsarTestSuiteBase {
         }
     }
 
+    /** The mails are queued and only executed by yielding, like the mailbox of a task. */
+    private static class QueuedMailboxExecutor extends SyncMailboxExecutor {
+
+        private final BlockingQueue<ThrowingRunnable<? extends Exception>> mails =
+                new LinkedBlockingQueue<>();
+
+        @Override
+        public void execute(
+                ThrowingRunnable<? extends Exception> command,
+                String descriptionFormat,
+                Object... descriptionArgs) {
+            mails.add(command);
+        }
+
+        @Override
+        public void yield() throws InterruptedException {
+            runMail(mails.take());
+        }
+
+        @Override
+        public boolean tryYield() {
+            ThrowingRunnable<? extends Exception> mail = mails.poll();
+            if (mail == null) {
+                return false;
+            }
+            runMail(mail);
+            return true;
+        }
+
+        private static void runMail(ThrowingRunnable<? extends Exception> mail) {
+            try {
+                mail.run();
+            } catch (Exception e) {
+                throw new FlinkRuntimeException(e);
+            }
+        }
+    }
+
     private static class MockSinkWriterContext implements SinkWriter.Context {
         @Override
         public long currentWatermark() {
@@ -31,6 +31,7 @@ import org.apache.pulsar.client.api.SchemaSerializationException;
 import org.apache.pulsar.client.api.TypedMessageBuilder;
 import org.apache.pulsar.client.api.transaction.TransactionCoordinatorClient;
 import org.apache.pulsar.client.api.transaction.TxnID;
+import org.apache.pulsar.client.impl.schema.StringSchema;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -41,6 +42,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.apache.flink.connector.base.DeliveryGuarantee.EXACTLY_ONCE;
 import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_VALIDATE_SINK_MESSAGE_BYTES;
+import static org.apache.flink.connector.pulsar.sink.PulsarSinkOptions.PULSAR_WRITE_SHARED_TRANSACTION;
 import static org.apache.flink.metrics.groups.UnregisteredMetricsGroup.createSinkWriterMetricGroup;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -118,4 +120,62 @@ class ProducerRegisterTest extends PulsarTestSuiteBase {
         assertThatThrownBy(() -> builder.value(Schema.INT64.encode(message)))
                 .isInstanceOf(SchemaSerializationException.class);
     }
+
+    @Test
+    void reuseProducerForEqualSchemaInstances() throws Exception {
+        String topic = randomAlphabetic(10);
+        operator().createTopic(topic, 0);
+
+        SinkConfiguration configuration =
+                new SinkConfiguration(operator().sinkConfig(DeliveryGuarantee.AT_LEAST_ONCE));
+        ProducerRegister register =
+                new ProducerRegister(
+                        configuration, PulsarCrypto.disabled(), createSinkWriterMetricGroup());
+
+        String message1 = randomAlphabetic(10);
+        String message2 = randomAlphabetic(10);
+        register.createMessageBuilder(topic, Schema.STRING).value(message1).send();
+        register.createMessageBuilder(topic, new StringSchema()).value(message2).send();
+
+        List<Message<String>> messages = operator().receiveMessages(topic, Schema.STRING, 2);
+        assertThat(messages.get(0).getValue()).isEqualTo(message1);
+        assertThat(messages.get(1).getValue()).isEqualTo(message2);
+        assertThat(messages.get(0).getProducerName())
+                .isEqualTo(messages.get(1).getProducerName());
+
+        register.close();
+    }
+
+    @Test
+    void shareTransactionAcrossTopics() throws Exception {
+        String topic1 = randomAlphabetic(10);
+        String topic2 = randomAlphabetic(10);
+        operator().createTopic(topic1, 0);
+        operator().createTopic(topic2, 0);
+
+        Configuration configuration = operator().sinkConfig(EXACTLY_ONCE);
+        configuration.set(PULSAR_WRITE_SHARED_TRANSACTION, true);
+        SinkConfiguration sinkConfiguration = new SinkConfiguration(configuration);
+        ProducerRegister register =
+                new ProducerRegister(
+                        sinkConfiguration, PulsarCrypto.disabled(), createSinkWriterMetricGroup());
+
+        String message1 = randomAlphabetic(10);
+        String message2 = randomAlphabetic(10);
+        register.createMessageBuilder(topic1, Schema.STRING).value(message1).send();
+        register.createMessageBuilder(topic2, Schema.STRING).value(message2).send();
+
+        List<PulsarCommittable> committables = register.prepareCommit();
+        assertThat(committables).hasSize(1);
+        PulsarCommittable committable = committables.get(0);
+        assertThat(committable.getTopic()).isNull();
+        operator().coordinatorClient().commit(committable.getTxnID());
+
+        assertThat(operator().receiveMessage(topic1, Schema.STRING).getValue())
+                .isEqualTo(message1);
+        assertThat(operator().receiveMessage(topic2, Schema.STRING).getValue())
+                .isEqualTo(message2);
+
+        register.close();
+    }
 }
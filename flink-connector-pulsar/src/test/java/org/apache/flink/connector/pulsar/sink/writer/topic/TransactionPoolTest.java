@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.sink.writer.topic;
+
+import org.apache.flink.connector.pulsar.testutils.PulsarTestSuiteBase;
+import org.apache.flink.util.clock.ManualClock;
+
+import org.apache.pulsar.client.api.transaction.Transaction;
+import org.apache.pulsar.client.api.transaction.TxnID;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link TransactionPool}. */
+class TransactionPoolTest extends PulsarTestSuiteBase {
+
+    @Test
+    void takeTransactionsFromPool() throws Exception {
+        TransactionPool pool =
+                new TransactionPool(
+                        operator().client(),
+                        operator().coordinatorClient(),
+                        Duration.ofMinutes(10).toMillis());
+
+        pool.fill(3);
+        assertThat(pool.size()).isEqualTo(3);
+
+        Set<TxnID> txnIDs = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            Transaction transaction = pool.take();
+            assertThat(transaction.getState()).isEqualTo(Transaction.State.OPEN);
+            txnIDs.add(transaction.getTxnID());
+        }
+        assertThat(pool.size()).isZero();
+
+        // Create a new transaction if the pool is empty.
+        txnIDs.add(pool.take().getTxnID());
+        assertThat(txnIDs).hasSize(4);
+
+        // Only request the missing transactions.
+        pool.fill(2);
+        pool.fill(2);
+        assertThat(pool.size()).isEqualTo(2);
+
+        pool.clear();
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    void keepTransactionsForCheckpointInterval() {
+        ManualClock clock = new ManualClock();
+        TransactionPool pool =
+                new TransactionPool(
+                        operator().client(),
+                        operator().coordinatorClient(),
+                        Duration.ofMinutes(10).toMillis(),
+                        clock);
+
+        // The checkpoint interval is one minute.
+        pool.fill(1);
+        clock.advanceTime(1, TimeUnit.MINUTES);
+        pool.fill(1);
+        assertThat(pool.size()).isEqualTo(1);
+
+        // The transaction is kept after half of the timeout, it could live through a checkpoint.
+        clock.advanceTime(7, TimeUnit.MINUTES);
+        pool.abortExpiredTransactions();
+        assertThat(pool.size()).isEqualTo(1);
+
+        clock.advanceTime(90, TimeUnit.SECONDS);
+        pool.abortExpiredTransactions();
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    void skipFillingWhenCheckpointOutlivesTimeout() {
+        ManualClock clock = new ManualClock();
+        TransactionPool pool =
+                new TransactionPool(
+                        operator().client(),
+                        operator().coordinatorClient(),
+                        Duration.ofMinutes(1).toMillis(),
+                        clock);
+
+        pool.fill(2);
+        assertThat(pool.size()).isEqualTo(2);
+
+        // The checkpoint interval is longer than the transaction timeout.
+        clock.advanceTime(2, TimeUnit.MINUTES);
+        pool.fill(2);
+        assertThat(pool.size()).isZero();
+
+        // Fill the pool again once the checkpoint interval is shorter than the timeout.
+        clock.advanceTime(20, TimeUnit.SECONDS);
+        pool.fill(2);
+        assertThat(pool.size()).isEqualTo(2);
+
+        pool.clear();
+    }
+}
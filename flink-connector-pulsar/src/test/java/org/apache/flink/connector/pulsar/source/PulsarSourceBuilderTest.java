@@ -18,9 +18,14 @@
 
 package org.apache.flink.connector.pulsar.source;
 
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
+
 import org.apache.pulsar.client.api.Schema;
 import org.junit.jupiter.api.Test;
 
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_BATCH_RECEIVE;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_NON_DURABLE_READER;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_MAX_FETCHER_THREADS;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Unit tests for {@link PulsarSourceBuilder}. */
@@ -49,6 +54,31 @@ class PulsarSourceBuilderTest {
                 .isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void batchReceiveCouldNotBeEnabledWithNonDurableReader() {
+        PulsarSourceBuilder<String> builder = new PulsarSourceBuilder<>();
+        fillRequiredFields(builder);
+        builder.setBoundedStopCursor(StopCursor.latest());
+        builder.setConfig(PULSAR_ENABLE_NON_DURABLE_READER, true);
+        builder.setConfig(PULSAR_ENABLE_BATCH_RECEIVE, true);
+
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("batch receive");
+    }
+
+    @Test
+    void batchReceiveCouldNotBeEnabledWithMultiplexedFetchers() {
+        PulsarSourceBuilder<String> builder = new PulsarSourceBuilder<>();
+        fillRequiredFields(builder);
+        builder.setConfig(PULSAR_MAX_FETCHER_THREADS, 2);
+        builder.setConfig(PULSAR_ENABLE_BATCH_RECEIVE, true);
+
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("batch receive");
+    }
+
     private void fillRequiredFields(PulsarSourceBuilder<String> builder) {
         builder.setAdminUrl("admin-url");
         builder.setServiceUrl("service-url");
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.config;
+
+import org.apache.flink.configuration.Configuration;
+
+import org.apache.pulsar.client.api.BatchReceivePolicy;
+import org.apache.pulsar.client.api.PulsarClient;
+import org.apache.pulsar.client.api.Schema;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_BATCH_RECEIVE_MAX_NUM_MESSAGES;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_BATCH_RECEIVE_TIMEOUT_MILLIS;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_BATCH_RECEIVE;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_MAX_FETCH_RECORDS;
+import static org.apache.flink.connector.pulsar.source.config.PulsarSourceConfigUtils.createConsumerBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link PulsarSourceConfigUtils}. */
+class PulsarSourceConfigUtilsTest {
+
+    @Test
+    void createConsumerWithBatchReceivePolicy() throws Exception {
+        Configuration config = new Configuration();
+        config.set(PULSAR_ENABLE_BATCH_RECEIVE, true);
+        config.set(PULSAR_MAX_FETCH_RECORDS, 50);
+        config.set(PULSAR_BATCH_RECEIVE_TIMEOUT_MILLIS, 200);
+        SourceConfiguration configuration = new SourceConfiguration(config);
+
+        // The client connects to the broker lazily, no broker is required for the builder.
+        try (PulsarClient client =
+                PulsarClient.builder().serviceUrl("pulsar://localhost:6650").build()) {
+            PulsarConsumerBuilder<byte[]> builder =
+                    (PulsarConsumerBuilder<byte[]>)
+                            createConsumerBuilder(client, Schema.BYTES, configuration);
+            BatchReceivePolicy policy = builder.getConf().getBatchReceivePolicy();
+
+            assertThat(policy.getTimeoutMs()).isEqualTo(200);
+            assertThat(policy.getMaxNumMessages()).isEqualTo(50);
+        }
+    }
+
+    @Test
+    void createConsumerWithExplicitBatchSize() throws Exception {
+        Configuration config = new Configuration();
+        config.set(PULSAR_ENABLE_BATCH_RECEIVE, true);
+        config.set(PULSAR_BATCH_RECEIVE_MAX_NUM_MESSAGES, 20);
+        SourceConfiguration configuration = new SourceConfiguration(config);
+
+        try (PulsarClient client =
+                PulsarClient.builder().serviceUrl("pulsar://localhost:6650").build()) {
+            PulsarConsumerBuilder<byte[]> builder =
+                    (PulsarConsumerBuilder<byte[]>)
+                            createConsumerBuilder(client, Schema.BYTES, configuration);
+            BatchReceivePolicy policy = builder.getConf().getBatchReceivePolicy();
+
+            assertThat(policy.getTimeoutMs())
+                    .isEqualTo(PULSAR_BATCH_RECEIVE_TIMEOUT_MILLIS.defaultValue());
+            assertThat(policy.getMaxNumMessages()).isEqualTo(20);
+        }
+    }
+}
@@ -42,23 +42,56 @@ import static org.assertj.core.api.Assertions.assertThat;
 class PulsarSourceEnumStateSerializerTest {
 
     @Test
-    void version3SerializeAndDeserialize() throws Exception {
+    void version4SerializeAndDeserialize() throws Exception {
+        String topic = randomAlphabetic(10);
         Set<TopicPartition> partitions =
                 Sets.newHashSet(
                         new TopicPartition(
                                 randomAlphabetic(10), 2, singletonList(new TopicRange(1, 30))),
                         new TopicPartition(
-                                randomAlphabetic(10), 1, singletonList(createFullRange())));
+                                randomAlphabetic(10), 1, singletonList(createFullRange())),
+                        new TopicPartition(randomAlphabetic(10)));
+        for (int i = 0; i < 1000; i += 3) {
+            partitions.add(new TopicPartition(topic, i, singletonList(createFullRange())));
+        }
 
         PulsarSourceEnumState state = new PulsarSourceEnumState(partitions);
 
         byte[] bytes = INSTANCE.serialize(state);
-        PulsarSourceEnumState state1 = INSTANCE.deserialize(3, bytes);
+        PulsarSourceEnumState state1 = INSTANCE.deserialize(4, bytes);
 
         assertThat(state1.getAppendedPartitions()).isEqualTo(state.getAppendedPartitions());
         assertThat(state1).isNotSameAs(state);
     }
 
+    @Test
+    void version3Deserialize() throws Exception {
+        // Serialize in version 3 logic.
+        DataOutputSerializer serializer = new DataOutputSerializer(4096);
+        serializer.writeInt(2);
+        serializer.writeUTF("topic55");
+        serializer.writeInt(3);
+        serializer.writeInt(1);
+        serializer.writeInt(10);
+        serializer.writeInt(200);
+        serializer.writeUTF("topic66");
+        serializer.writeInt(-1);
+        serializer.writeInt(1);
+        serializer.writeInt(0);
+        serializer.writeInt(65535);
+        byte[] bytes = serializer.getSharedBuffer();
+
+        PulsarSourceEnumState state = INSTANCE.deserialize(3, bytes);
+        Set<TopicPartition> partitions = state.getAppendedPartitions();
+        Set<TopicPartition> expectedPartitions =
+                Sets.newHashSet(
+                        new TopicPartition("topic55", 3, singletonList(new TopicRange(10, 200))),
+                        new TopicPartition(
+                                "topic66", -1, singletonList(new TopicRange(0, 65535))));
+
+        assertThat(partitions).isEqualTo(expectedPartitions);
+    }
+
     @Test
     void version2Deserialize() throws Exception {
         // Serialize in version 2 logic.
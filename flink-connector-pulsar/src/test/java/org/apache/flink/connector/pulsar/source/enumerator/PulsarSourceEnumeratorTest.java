@@ -31,15 +31,24 @@ import org.apache.flink.connector.pulsar.source.enumerator.topic.range.FullRange
 import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
 import org.apache.flink.connector.pulsar.testutils.PulsarTestSuiteBase;
 
+import org.apache.pulsar.client.admin.PulsarAdmin;
+import org.apache.pulsar.client.admin.PulsarAdminException;
+import org.apache.pulsar.client.admin.Topics;
 import org.apache.pulsar.client.api.RegexSubscriptionMode;
+import org.apache.pulsar.common.policies.data.TopicStats;
 import org.apache.pulsar.shade.com.google.common.collect.ImmutableSet;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
@@ -125,6 +134,65 @@ class PulsarSourceEnumeratorTest extends PulsarTestSuiteBase {
         }
     }
 
+    @Test
+    void createSubscriptionsBeforeAssignments() throws Throwable {
+        Set<String> preexistingTopics = setupPreexistingTopics();
+        try (MockSplitEnumeratorContext<PulsarPartitionSplit> context =
+                        new MockSplitEnumeratorContext<>(NUM_SUBTASKS);
+                PulsarSourceEnumerator enumerator =
+                        createEnumerator(
+                                preexistingTopics, context, DISABLE_PERIODIC_PARTITION_DISCOVERY)) {
+
+            enumerator.start();
+            registerReader(context, enumerator, READER0);
+
+            // The subscriptions are created in the worker thread.
+            context.runNextOneTimeCallable();
+            for (TopicPartition partition : getExpectedTopicPartitions(preexistingTopics)) {
+                String topic = partition.getFullTopicName();
+                assertThat(operator().admin().topics().getSubscriptions(topic)).hasSize(1);
+            }
+        }
+    }
+
+    @Test
+    void retryCursorResetAfterCreatingSubscription() throws Throwable {
+        Set<String> preexistingTopics = setupPreexistingTopics();
+        String subscriptionName = randomAlphabetic(10);
+        Configuration configuration = operator().config();
+        configuration.set(PULSAR_SUBSCRIPTION_NAME, subscriptionName);
+        configuration.set(PULSAR_PARTITION_DISCOVERY_INTERVAL_MS, -1L);
+        Set<String> failedResets = ConcurrentHashMap.newKeySet();
+
+        try (MockSplitEnumeratorContext<PulsarPartitionSplit> context =
+                        new MockSplitEnumeratorContext<>(NUM_SUBTASKS);
+                PulsarSourceEnumerator enumerator =
+                        new PulsarSourceEnumerator(
+                                createSubscriber(preexistingTopics),
+                                StartCursor.latest(),
+                                StopCursor.latest(),
+                                new FullRangeGenerator(),
+                                new SourceConfiguration(configuration),
+                                context,
+                                initialState(),
+                                failingResetAdmin(failedResets))) {
+
+            enumerator.start();
+            context.runNextOneTimeCallable();
+
+            // The subscriptions are created on the earliest position, the failed cursor resets
+            // are retried for not consuming the existing messages.
+            Set<TopicPartition> partitions = getExpectedTopicPartitions(preexistingTopics);
+            assertThat(failedResets).hasSize(partitions.size());
+            for (TopicPartition partition : partitions) {
+                String topic = partition.getFullTopicName();
+                TopicStats stats = operator().admin().topics().getStats(topic);
+                assertThat(stats.getSubscriptions().get(subscriptionName).getMsgBacklog())
+                        .isZero();
+            }
+        }
+    }
+
     @Test
     void discoverPartitionsPeriodically() throws Throwable {
         String dynamicTopic = TOPIC_PREFIX + randomAlphabetic(10);
@@ -287,20 +355,6 @@ class PulsarSourceEnumeratorTest extends PulsarTestSuiteBase {
             boolean enablePeriodicPartitionDiscovery,
             PulsarSourceEnumState sourceEnumState)
             throws Exception {
-        // Use a TopicPatternSubscriber so that no exception if a subscribed topic hasn't been
-        // created yet.
-        String topicRegex =
-                topicsToSubscribe.stream()
-                        .map(s -> s.substring(TOPIC_PREFIX.length()))
-                        .collect(
-                                joining(
-                                        "|",
-                                        "persistent://public/default/" + TOPIC_PREFIX + "(",
-                                        ")"));
-        Pattern topicPattern = Pattern.compile(topicRegex);
-        PulsarSubscriber subscriber =
-                getTopicPatternSubscriber(topicPattern, RegexSubscriptionMode.AllTopics);
-
         Configuration configuration = operator().config();
         configuration.set(PULSAR_SUBSCRIPTION_NAME, randomAlphabetic(10));
         if (enablePeriodicPartitionDiscovery) {
@@ -310,7 +364,7 @@ class PulsarSourceEnumeratorTest extends PulsarTestSuiteBase {
         }
 
         return new PulsarSourceEnumerator(
-                subscriber,
+                createSubscriber(topicsToSubscribe),
                 StartCursor.earliest(),
                 StopCursor.latest(),
                 new FullRangeGenerator(),
@@ -319,6 +373,63 @@ class PulsarSourceEnumeratorTest extends PulsarTestSuiteBase {
                 sourceEnumState);
     }
 
+    private PulsarSubscriber createSubscriber(Set<String> topicsToSubscribe) {
+        // Use a TopicPatternSubscriber so that no exception if a subscribed topic hasn't been
+        // created yet.
+        String topicRegex =
+                topicsToSubscribe.stream()
+                        .map(s -> s.substring(TOPIC_PREFIX.length()))
+                        .collect(
+                                joining(
+                                        "|",
+                                        "persistent://public/default/" + TOPIC_PREFIX + "(",
+                                        ")"));
+        Pattern topicPattern = Pattern.compile(topicRegex);
+        return getTopicPatternSubscriber(topicPattern, RegexSubscriptionMode.AllTopics);
+    }
+
+    /** Wrap the admin of the test runtime, the first async cursor reset on every topic fails. */
+    private PulsarAdmin failingResetAdmin(Set<String> failedResets) {
+        PulsarAdmin admin = operator().admin();
+        Topics topics =
+                (Topics)
+                        Proxy.newProxyInstance(
+                                Topics.class.getClassLoader(),
+                                new Class[] {Topics.class},
+                                (proxy, method, args) -> {
+                                    if (method.getName().equals("resetCursorAsync")
+                                            && failedResets.add((String) args[0])) {
+                                        CompletableFuture<Void> future = new CompletableFuture<>();
+                                        future.completeExceptionally(
+                                                new PulsarAdminException("Failed to reset"));
+                                        return future;
+                                    }
+                                    return invoke(method, admin.topics(), args);
+                                });
+
+        return (PulsarAdmin)
+                Proxy.newProxyInstance(
+                        PulsarAdmin.class.getClassLoader(),
+                        new Class[] {PulsarAdmin.class},
+                        (proxy, method, args) -> {
+                            if (method.getName().equals("topics")) {
+                                return topics;
+                            } else if (method.getName().equals("close")) {
+                                // The admin of the test runtime is shared by all the tests.
+                                return null;
+                            }
+                            return invoke(method, admin, args);
+                        });
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
     private void registerReader(
             MockSplitEnumeratorContext<PulsarPartitionSplit> context,
             PulsarSourceEnumerator enumerator,
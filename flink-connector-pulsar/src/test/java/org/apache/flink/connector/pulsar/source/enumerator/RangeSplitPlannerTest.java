@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.enumerator;
+
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.impl.MessageIdImpl;
+import org.apache.pulsar.common.policies.data.ManagedLedgerInternalStats.LedgerInfo;
+import org.apache.pulsar.common.policies.data.PersistentTopicInternalStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.apache.flink.connector.pulsar.source.enumerator.RangeSplitPlanner.rangeBoundaries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link RangeSplitPlanner}. */
+class RangeSplitPlannerTest {
+
+    @Test
+    void divideLedgersFromEarliest() {
+        PersistentTopicInternalStats stats = stats(100, 50, 60, 100, 0);
+
+        // The open ledger belongs to the last range.
+        assertThat(rangeBoundaries(stats, MessageId.earliest, 2, 100))
+                .containsExactly(new MessageIdImpl(2, 0, 2), new MessageIdImpl(4, 0, 2));
+        assertThat(rangeBoundaries(stats, MessageId.earliest, 2, 1000)).isEmpty();
+    }
+
+    @Test
+    void skipLedgersBeforeStartPosition() {
+        PersistentTopicInternalStats stats = stats(100, 100, 100, 100, 0);
+
+        assertThat(rangeBoundaries(stats, new MessageIdImpl(3, 20, -1), -1, 100))
+                .containsExactly(new MessageIdImpl(4, 0, -1));
+        assertThat(rangeBoundaries(stats, MessageId.latest, -1, 100)).isEmpty();
+    }
+
+    @Test
+    void keepEmptyLedgersInPreviousRange() {
+        PersistentTopicInternalStats stats = stats(100, 0, 100, 100, 0);
+
+        assertThat(rangeBoundaries(stats, MessageId.earliest, -1, 100))
+                .containsExactly(new MessageIdImpl(3, 0, -1), new MessageIdImpl(4, 0, -1));
+
+        // The open ledger never starts a range, even after it has been written.
+        PersistentTopicInternalStats written = stats(100, 0);
+        written.currentLedgerEntries = 10;
+        written.currentLedgerSize = 100;
+        assertThat(rangeBoundaries(written, MessageId.earliest, -1, 100)).isEmpty();
+    }
+
+    /**
+     * Create the stats with the ledgers of the given sizes, the ledger ids start from 1. Every
+     * ledger holds an entry per 10 bytes, the last one is the open ledger.
+     */
+    private PersistentTopicInternalStats stats(long... sizes) {
+        PersistentTopicInternalStats stats = new PersistentTopicInternalStats();
+        stats.ledgers = new ArrayList<>();
+        for (int i = 0; i < sizes.length; i++) {
+            LedgerInfo ledger = new LedgerInfo();
+            ledger.ledgerId = i + 1;
+            ledger.size = sizes[i];
+            ledger.entries = sizes[i] / 10;
+            stats.ledgers.add(ledger);
+        }
+
+        return stats;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.enumerator.assigner;
+
+import org.apache.flink.api.connector.source.SplitsAssignment;
+import org.apache.flink.api.connector.source.mocks.MockSplitEnumeratorContext;
+import org.apache.flink.connector.pulsar.source.enumerator.PulsarSourceEnumState;
+import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
+import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static org.apache.flink.connector.pulsar.source.enumerator.PulsarSourceEnumState.initialState;
+import static org.apache.flink.connector.pulsar.source.enumerator.assigner.SplitAssignerImpl.calculatePartitionOwner;
+import static org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor.defaultStopCursor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link LagAwareSplitAssigner}. */
+class LagAwareSplitAssignerTest {
+
+    private static final String TOPIC = "persistent://public/default/lag";
+
+    private final MockSplitEnumeratorContext<PulsarPartitionSplit> context =
+            new MockSplitEnumeratorContext<>(2);
+    private final Map<TopicPartition, Long> weights = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        context.close();
+    }
+
+    @Test
+    void assignHeavyPartitionsToDifferentReaders() {
+        LagAwareSplitAssigner assigner = assigner();
+        weights.put(new TopicPartition(TOPIC, 0), 100L);
+        weights.put(new TopicPartition(TOPIC, 1), 90L);
+        weights.put(new TopicPartition(TOPIC, 2), 10L);
+        weights.put(new TopicPartition(TOPIC, 3), 5L);
+        weights.put(new TopicPartition(TOPIC, 4), 5L);
+        register(assigner);
+
+        // The readers have the same load: {100, 5} and {90, 10, 5}.
+        Map<Integer, Set<Integer>> assignment = assignment(assigner);
+        assertThat(assignment.get(0)).hasSize(2).contains(0);
+        assertThat(assignment.get(1)).hasSize(3).contains(1, 2);
+        assertThat(assigner.getImbalance()).isEqualTo(1.0);
+
+        // The new partition goes to the least loaded reader.
+        TopicPartition partition = new TopicPartition(TOPIC, 5);
+        weights.put(partition, 10L);
+        register(assigner);
+        assertThat(assignment(assigner)).containsOnlyKeys(0);
+        assertThat(assigner.getImbalance()).isEqualTo(2.0 * 115 / 220);
+    }
+
+    @Test
+    void reportImbalanceAfterRefreshingWeights() {
+        LagAwareSplitAssigner assigner = assigner();
+        weights.put(new TopicPartition(TOPIC, 0), 10L);
+        weights.put(new TopicPartition(TOPIC, 1), 10L);
+        register(assigner);
+        assertThat(assigner.getImbalance()).isEqualTo(1.0);
+
+        Map<TopicPartition, Long> newWeights = new HashMap<>();
+        newWeights.put(new TopicPartition(TOPIC, 0), 30L);
+        assigner.refreshWeights(newWeights, null);
+        assertThat(assigner.getImbalance()).isEqualTo(1.5);
+
+        // The failed refreshing keeps the previous weights.
+        assigner.refreshWeights(null, new IllegalStateException("Failed"));
+        assertThat(assigner.getImbalance()).isEqualTo(1.5);
+    }
+
+    @Test
+    void putSplitsBackToTheirOwners() {
+        LagAwareSplitAssigner assigner = assigner();
+        TopicPartition partition = new TopicPartition(TOPIC, 0);
+        weights.put(partition, 10L);
+        register(assigner);
+        List<PulsarPartitionSplit> splits =
+                assigner.createAssignment(Arrays.asList(0, 1)).get().assignment().get(0);
+        assertThat(splits).hasSize(1);
+
+        assigner.addSplitsBack(splits, 0);
+        assertThat(assignment(assigner)).containsOnlyKeys(0);
+    }
+
+    @Test
+    void countRestoredPartitionsInReaderLoads() {
+        TopicPartition heavy = new TopicPartition(TOPIC, 0);
+        TopicPartition light = new TopicPartition(TOPIC, 1);
+        Set<TopicPartition> restored = new HashSet<>(Arrays.asList(heavy, light));
+        LagAwareSplitAssigner assigner = assigner(new PulsarSourceEnumState(restored));
+
+        // The restored partitions are weighed by the periodic refreshing.
+        weights.put(heavy, 100L);
+        weights.put(light, 10L);
+        assigner.refreshWeights(assigner.weighTopicPartitions(restored), null);
+        assertThat(assigner.getImbalance()).isEqualTo(2.0 * 100 / 110);
+
+        // The new partition goes to the reader of the light restored partition.
+        weights.put(new TopicPartition(TOPIC, 2), 50L);
+        register(assigner);
+        int owner = calculatePartitionOwner(light.getTopic(), light.getPartitionId(), 2);
+        assertThat(assignment(assigner)).containsOnlyKeys(owner);
+        assertThat(assigner.getImbalance()).isEqualTo(1.25);
+    }
+
+    private LagAwareSplitAssigner assigner() {
+        return assigner(initialState());
+    }
+
+    private LagAwareSplitAssigner assigner(PulsarSourceEnumState enumState) {
+        return new LagAwareSplitAssigner(
+                defaultStopCursor(),
+                true,
+                context,
+                enumState,
+                partitions -> {
+                    Map<TopicPartition, Long> result = new HashMap<>();
+                    for (TopicPartition partition : partitions) {
+                        result.put(partition, weights.getOrDefault(partition, 1L));
+                    }
+                    return result;
+                },
+                HOURS.toMillis(1));
+    }
+
+    /** Weigh the partitions like the enumerator and register them to the assigner. */
+    private void register(LagAwareSplitAssigner assigner) {
+        Set<TopicPartition> partitions = new HashSet<>(weights.keySet());
+        Map<TopicPartition, Long> newWeights = assigner.weighTopicPartitions(partitions);
+        assigner.registerTopicPartitions(partitions, emptyMap(), newWeights);
+    }
+
+    /** Assign all the pending splits, return the partition ids of every reader. */
+    private Map<Integer, Set<Integer>> assignment(LagAwareSplitAssigner assigner) {
+        Map<Integer, Set<Integer>> result = new HashMap<>();
+        assigner.createAssignment(Arrays.asList(0, 1))
+                .map(SplitsAssignment::assignment)
+                .ifPresent(
+                        assignment ->
+                                assignment.forEach(
+                                        (reader, splits) -> {
+                                            Set<Integer> ids = new HashSet<>();
+                                            for (PulsarPartitionSplit split : splits) {
+                                                ids.add(split.getPartition().getPartitionId());
+                                            }
+                                            result.put(reader, ids);
+                                        }));
+        return result;
+    }
+}
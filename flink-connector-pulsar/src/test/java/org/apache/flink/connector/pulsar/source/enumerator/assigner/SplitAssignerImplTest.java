@@ -26,6 +26,8 @@ import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
 import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
 
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.impl.MessageIdImpl;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 
@@ -34,12 +36,15 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.apache.flink.connector.pulsar.source.enumerator.PulsarSourceEnumState.initialState;
 import static org.apache.flink.connector.pulsar.source.enumerator.assigner.SplitAssignerImpl.calculatePartitionOwner;
 import static org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor.defaultStopCursor;
@@ -152,6 +157,49 @@ class SplitAssignerImplTest {
         assertThat(assignment).isNotPresent();
     }
 
+    @Test
+    void rangeSplitsAssignment() {
+        SplitAssigner assigner = splitAssigner(false, 4);
+        String topic = "persistent://public/default/i";
+        Set<TopicPartition> partitions = createPartitions(topic, 0);
+        TopicPartition partition = partitions.iterator().next();
+        MessageId first = new MessageIdImpl(10, 0, 0);
+        MessageId second = new MessageIdImpl(20, 0, 0);
+        Map<TopicPartition, List<MessageId>> boundaries =
+                singletonMap(partition, Arrays.asList(first, second));
+
+        assertThat(assigner.registerTopicPartitions(partitions, boundaries, emptyMap()))
+                .containsExactly(partition);
+        assertThat(assigner.getUnassignedSplitCount()).isEqualTo(3);
+
+        // The ranges are spread to the readers starting from the owner of the partition.
+        int owner = calculatePartitionOwner(topic, 0, 4);
+        Map<Integer, List<PulsarPartitionSplit>> assignment =
+                assigner.createAssignment(Arrays.asList(0, 1, 2, 3)).get().assignment();
+        assertThat(assignment).hasSize(3);
+
+        PulsarPartitionSplit split = assignment.get(owner).get(0);
+        assertThat(split.getStartMessageId()).isNull();
+        assertThat(split.getEndMessageId()).isEqualTo(first);
+
+        split = assignment.get((owner + 1) % 4).get(0);
+        assertThat(split.getStartMessageId()).isEqualTo(first);
+        assertThat(split.getEndMessageId()).isEqualTo(second);
+
+        split = assignment.get((owner + 2) % 4).get(0);
+        assertThat(split.getStartMessageId()).isEqualTo(second);
+        assertThat(split.getEndMessageId()).isNull();
+        assertThat(split.splitId()).isNotEqualTo(partition.toString());
+
+        // The range split is put back to the reader which it was assigned to.
+        int reader = (owner + 1) % 4;
+        assigner.addSplitsBack(assignment.get(reader), reader);
+        Map<Integer, List<PulsarPartitionSplit>> reassignment =
+                assigner.createAssignment(Arrays.asList(0, 1, 2, 3)).get().assignment();
+        assertThat(reassignment).containsOnlyKeys(reader);
+        assertThat(reassignment.get(reader)).isEqualTo(assignment.get(reader));
+    }
+
     @AfterAll
     static void afterAll() throws Exception {
         for (MockSplitEnumeratorContext<PulsarPartitionSplit> context : enumeratorContexts) {
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.enumerator.cursor;
+
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.stop.EventTimestampStopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.stop.LatestMessageStopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.stop.MessageIdStopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.stop.NeverStopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.stop.PublishTimestampStopCursor;
+
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.impl.MessageIdImpl;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursorSerializer.deserializeStopCursor;
+import static org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursorSerializer.serializeStopCursor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link StopCursorSerializer}. */
+class StopCursorSerializerTest {
+
+    @Test
+    void serializeBuiltInStopCursors() throws Exception {
+        assertThat(roundTrip(StopCursor.never())).isInstanceOf(NeverStopCursor.class);
+
+        LatestMessageStopCursor latest = (LatestMessageStopCursor) roundTrip(StopCursor.latest());
+        assertThat(latest.getMessageId()).isNull();
+        assertThat(latest.isInclusive()).isTrue();
+
+        MessageId messageId = new MessageIdImpl(10, 20, 1);
+        latest = (LatestMessageStopCursor) roundTrip(new LatestMessageStopCursor(messageId, false));
+        assertThat(latest.getMessageId()).isEqualTo(messageId);
+        assertThat(latest.isInclusive()).isFalse();
+
+        MessageIdStopCursor atMessageId =
+                (MessageIdStopCursor) roundTrip(StopCursor.atMessageId(messageId));
+        assertThat(atMessageId.getMessageId()).isEqualTo(messageId);
+        assertThat(atMessageId.isInclusive()).isFalse();
+
+        EventTimestampStopCursor eventTime =
+                (EventTimestampStopCursor) roundTrip(StopCursor.afterEventTime(1000));
+        assertThat(eventTime.getTimestamp()).isEqualTo(1000);
+        assertThat(eventTime.isInclusive()).isTrue();
+
+        PublishTimestampStopCursor publishTime =
+                (PublishTimestampStopCursor) roundTrip(StopCursor.atPublishTime(2000));
+        assertThat(publishTime.getTimestamp()).isEqualTo(2000);
+        assertThat(publishTime.isInclusive()).isFalse();
+    }
+
+    @Test
+    void serializeUserDefinedStopCursor() throws Exception {
+        StopCursor cursor = roundTrip(new UserDefinedStopCursor());
+        assertThat(cursor).isInstanceOf(UserDefinedStopCursor.class);
+    }
+
+    private static StopCursor roundTrip(StopCursor cursor) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(baos)) {
+            serializeStopCursor(out, cursor);
+        }
+
+        try (DataInputStream in =
+                new DataInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            return deserializeStopCursor(in);
+        }
+    }
+
+    /** A stop cursor which can only be serialized by the Java serialization. */
+    private static class UserDefinedStopCursor implements StopCursor {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public StopCondition shouldStop(Message<?> message) {
+            return StopCondition.CONTINUE;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.enumerator.cursor.stop;
+
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.impl.BatchMessageIdImpl;
+import org.apache.pulsar.client.impl.MessageIdImpl;
+import org.apache.pulsar.client.impl.TopicMessageIdImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor.StopCondition.CONTINUE;
+import static org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor.StopCondition.EXACTLY;
+import static org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor.StopCondition.TERMINATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link StopPosition}. */
+class StopPositionTest {
+
+    @Test
+    void compareNonBatchedMessageIds() {
+        StopPosition position = new StopPosition(new MessageIdImpl(10, 20, 1));
+
+        assertThat(position.compare(new MessageIdImpl(10, 19, 1), true)).isEqualTo(CONTINUE);
+        assertThat(position.compare(new MessageIdImpl(9, 30, 1), true)).isEqualTo(CONTINUE);
+        assertThat(position.compare(new MessageIdImpl(10, 20, 1), true)).isEqualTo(EXACTLY);
+        assertThat(position.compare(new MessageIdImpl(10, 20, 1), false)).isEqualTo(TERMINATE);
+        assertThat(position.compare(new MessageIdImpl(11, 0, 1), true)).isEqualTo(TERMINATE);
+    }
+
+    @Test
+    void compareBatchedMessageIds() {
+        StopPosition position = new StopPosition(new BatchMessageIdImpl(10, 20, 1, 3));
+
+        assertThat(position.compare(new BatchMessageIdImpl(10, 20, 1, 2), true))
+                .isEqualTo(CONTINUE);
+        assertThat(position.compare(new BatchMessageIdImpl(10, 20, 1, 3), true))
+                .isEqualTo(EXACTLY);
+        assertThat(position.compare(new BatchMessageIdImpl(10, 20, 1, 4), true))
+                .isEqualTo(TERMINATE);
+        // The non-batched message id is ordered before the batched messages in the same entry.
+        assertThat(position.compare(new MessageIdImpl(10, 20, 1), true)).isEqualTo(CONTINUE);
+    }
+
+    @Test
+    void fallbackToMessageIdComparison() {
+        MessageId messageId = new MessageIdImpl(10, 20, 1);
+        StopPosition position = new StopPosition(messageId);
+        MessageId current = new TopicMessageIdImpl("topic-partition-1", "topic", messageId);
+
+        assertThat(position.compare(current, true))
+                .isEqualTo(position.compare(new MessageIdImpl(10, 20, 1), true));
+    }
+}
@@ -115,6 +115,38 @@ class PulsarSubscriberTest extends PulsarTestSuiteBase {
         assertThat(topicPartitions).isEqualTo(expectedPartitions);
     }
 
+    @Test
+    void discoverIncreasedPartitions() throws Exception {
+        String topic = topicName("pulsar-subscriber-increased-topic-" + randomAlphanumeric(4));
+        operator().createTopic(topic, 2);
+
+        PulsarSubscriber subscriber = getTopicListSubscriber(singletonList(topic));
+        subscriber.open(operator().client(), operator().admin());
+
+        Set<TopicPartition> partitions =
+                subscriber.getSubscribedTopicPartitions(new FullRangeGenerator(), NUM_PARALLELISM);
+        assertThat(partitions)
+                .containsExactlyInAnyOrder(
+                        new TopicPartition(topic, 0), new TopicPartition(topic, 1));
+
+        // The unchanged topic gives the same partitions.
+        assertThat(
+                        subscriber.getSubscribedTopicPartitions(
+                                new FullRangeGenerator(), NUM_PARALLELISM))
+                .isEqualTo(partitions);
+
+        operator().increaseTopicPartitions(topic, 3);
+        assertThat(
+                        subscriber.getSubscribedTopicPartitions(
+                                new FullRangeGenerator(), NUM_PARALLELISM))
+                .containsExactlyInAnyOrder(
+                        new TopicPartition(topic, 0),
+                        new TopicPartition(topic, 1),
+                        new TopicPartition(topic, 2));
+
+        operator().deleteTopic(topic);
+    }
+
     @Test
     void subscribeOnePartitionOfMultiplePartitionTopic() throws Exception {
         String partition = topicNameWithPartition(topic1, 2);
@@ -180,6 +212,39 @@ class PulsarSubscriberTest extends PulsarTestSuiteBase {
         assertThat(topicPartitions).isEqualTo(expectedPartitions);
     }
 
+    @Test
+    void topicPatternSubscriberDetectsTopicListChanges() throws Exception {
+        String prefix = "flink/regex/pulsar-subscriber-changed-topic-" + randomAlphanumeric(4);
+        String topic = topicName(prefix + "-1");
+        operator().createTopic(topic, NUM_PARTITIONS_PER_TOPIC);
+
+        PulsarSubscriber subscriber =
+                getTopicPatternSubscriber(Pattern.compile(prefix + "-.*"), AllTopics);
+        subscriber.open(operator().client(), operator().admin());
+
+        Set<TopicPartition> topicPartitions =
+                subscriber.getSubscribedTopicPartitions(new FullRangeGenerator(), NUM_PARALLELISM);
+        assertThat(topicPartitions).hasSize(NUM_PARTITIONS_PER_TOPIC);
+
+        // The unchanged topic list gives the same partitions.
+        assertThat(
+                        subscriber.getSubscribedTopicPartitions(
+                                new FullRangeGenerator(), NUM_PARALLELISM))
+                .isEqualTo(topicPartitions);
+
+        String newTopic = topicName(prefix + "-2");
+        operator().createTopic(newTopic, NON_PARTITIONED);
+        Set<TopicPartition> expectedPartitions = new HashSet<>(topicPartitions);
+        expectedPartitions.add(new TopicPartition(newTopic));
+        assertThat(
+                        subscriber.getSubscribedTopicPartitions(
+                                new FullRangeGenerator(), NUM_PARALLELISM))
+                .isEqualTo(expectedPartitions);
+
+        operator().deleteTopic(topic);
+        operator().deleteTopic(newTopic);
+    }
+
     @Test
     void simpleTopicPatternSubscriber() throws Exception {
         PulsarSubscriber subscriber =
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.enumerator.topic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link TopicPartitionSet}. */
+class TopicPartitionSetTest {
+
+    @Test
+    void addAndRemovePartitions() {
+        TopicPartition partition = new TopicPartition("topic1", 3);
+        TopicPartition nonPartitioned = new TopicPartition("topic2");
+        TopicPartition rangePartition =
+                new TopicPartition("topic1", 3, singletonList(new TopicRange(0, 100)));
+
+        TopicPartitionSet partitions = new TopicPartitionSet();
+        assertThat(partitions.add(partition)).isTrue();
+        assertThat(partitions.add(partition)).isFalse();
+        assertThat(partitions.add(nonPartitioned)).isTrue();
+        assertThat(partitions.add(rangePartition)).isTrue();
+
+        assertThat(partitions).hasSize(3).contains(partition, nonPartitioned, rangePartition);
+        assertThat(partitions.contains(new TopicPartition("topic1", 4))).isFalse();
+
+        assertThat(partitions.remove(partition)).isTrue();
+        assertThat(partitions.remove(partition)).isFalse();
+        assertThat(partitions).containsExactlyInAnyOrder(nonPartitioned, rangePartition);
+        assertThat(partitions.getPartitionIds("topic2").values()).containsExactly(new int[] {-1});
+    }
+
+    @Test
+    void iterateAndRemovePartitions() {
+        Set<TopicPartition> expected = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(new TopicPartition("topic" + (i % 3), i));
+        }
+        TopicPartitionSet partitions = new TopicPartitionSet(expected);
+        assertThat(partitions).isEqualTo(expected);
+
+        Iterator<TopicPartition> iterator = partitions.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getPartitionId() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        expected.removeIf(partition -> partition.getPartitionId() % 2 == 0);
+
+        assertThat(partitions).hasSize(50).isEqualTo(expected);
+    }
+}
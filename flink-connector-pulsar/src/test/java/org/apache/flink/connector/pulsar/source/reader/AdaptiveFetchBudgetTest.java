@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.reader;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
+import org.apache.flink.connector.pulsar.source.config.SourceConfiguration;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.apache.flink.connector.base.source.reader.SourceReaderOptions.ELEMENT_QUEUE_CAPACITY;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_ADAPTIVE_FETCH;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_MAX_FETCH_RECORDS;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_MAX_FETCH_TIME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link AdaptiveFetchBudget}. */
+class AdaptiveFetchBudgetTest {
+
+    private final FutureCompletingBlockingQueue<Object> elementsQueue =
+            new FutureCompletingBlockingQueue<>(2);
+
+    @Test
+    void keepConfiguredBudgetWhenDisabled() {
+        AdaptiveFetchBudget budget = budget(false);
+        budget.update(1, 1000, 0);
+
+        assertThat(budget.isAdaptive()).isFalse();
+        assertThat(budget.getRecords()).isEqualTo(1000);
+        assertThat(budget.getTime()).isEqualTo(Duration.ofMillis(6400));
+    }
+
+    @Test
+    void shrinkBudgetOnLowVolumePartition() {
+        AdaptiveFetchBudget budget = budget(true);
+        budget.update(32, 6400, 0);
+
+        // The downstream is waiting, hand over the records earlier.
+        assertThat(budget.getTime()).isEqualTo(Duration.ofMillis(3200));
+        assertThat(budget.getRecords()).isEqualTo(16);
+
+        for (int i = 0; i < 10; i++) {
+            budget.update(0, budget.getTime().toMillis(), 0);
+        }
+        assertThat(budget.getTime()).isEqualTo(Duration.ofMillis(100));
+        assertThat(budget.getRecords()).isEqualTo(15);
+    }
+
+    @Test
+    void growBudgetWhenReceiverQueueHasBacklog() {
+        AdaptiveFetchBudget budget = budget(true);
+        budget.update(32, 6400, 0);
+        budget.update(8, 3200, 0);
+        assertThat(budget.getTime()).isEqualTo(Duration.ofMillis(1600));
+
+        budget.update(1, 1600, 100);
+        assertThat(budget.getTime()).isEqualTo(Duration.ofMillis(3200));
+
+        // The fetch exhausted its records budget.
+        budget.update(budget.getRecords(), 10, 0);
+        assertThat(budget.getTime()).isEqualTo(Duration.ofMillis(6400));
+    }
+
+    @Test
+    void useMaxBudgetWhenElementQueueIsFull() throws InterruptedException {
+        AdaptiveFetchBudget budget = budget(true);
+        for (int i = 0; i < 5; i++) {
+            budget.update(1, budget.getTime().toMillis(), 0);
+        }
+        assertThat(budget.getRecords()).isLessThan(1000);
+
+        elementsQueue.put(0, new Object());
+        elementsQueue.put(0, new Object());
+        budget.update(1, budget.getTime().toMillis(), 0);
+
+        assertThat(budget.getRecords()).isEqualTo(1000);
+        assertThat(budget.getTime()).isEqualTo(Duration.ofMillis(6400));
+    }
+
+    private AdaptiveFetchBudget budget(boolean adaptive) {
+        Configuration configuration = new Configuration();
+        configuration.set(PULSAR_ENABLE_ADAPTIVE_FETCH, adaptive);
+        configuration.set(PULSAR_MAX_FETCH_RECORDS, 1000);
+        configuration.set(PULSAR_MAX_FETCH_TIME, 6400L);
+        configuration.set(ELEMENT_QUEUE_CAPACITY, 2);
+
+        return new AdaptiveFetchBudget(new SourceConfiguration(configuration), elementsQueue);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.reader;
+
+import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
+
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.impl.MessageIdImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link CursorCommitCoalescer}. */
+class CursorCommitCoalescerTest {
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition("topic", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("topic", 1);
+
+    @Test
+    void commitNewestCursorOfSubsumedCheckpoints() {
+        CursorCommitCoalescer coalescer = new CursorCommitCoalescer();
+        coalescer.addCursor(1L, PARTITION_0, messageId(1));
+        coalescer.addCursor(2L, PARTITION_0, messageId(2));
+        coalescer.addCursor(3L, PARTITION_0, messageId(3));
+        coalescer.addCursor(2L, PARTITION_1, messageId(5));
+
+        Map<TopicPartition, MessageId> cursors = coalescer.pollCursors(2L);
+        assertThat(cursors)
+                .hasSize(2)
+                .containsEntry(PARTITION_0, messageId(2))
+                .containsEntry(PARTITION_1, messageId(5));
+        assertThat(coalescer.isEmpty()).isFalse();
+
+        cursors = coalescer.pollCursors(3L);
+        assertThat(cursors).hasSize(1).containsEntry(PARTITION_0, messageId(3));
+        assertThat(coalescer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void skipCursorsNotAdvanced() {
+        CursorCommitCoalescer coalescer = new CursorCommitCoalescer();
+        assertThat(coalescer.addCursor(1L, PARTITION_0, messageId(1))).isTrue();
+        assertThat(coalescer.addCursor(2L, PARTITION_0, messageId(1))).isFalse();
+
+        Map<TopicPartition, MessageId> cursors = coalescer.pollCursors(1L);
+        assertThat(cursors).containsEntry(PARTITION_0, messageId(1));
+        coalescer.markCommitted(cursors);
+        assertThat(coalescer.isCommitted(PARTITION_0, messageId(1))).isTrue();
+
+        // The acknowledged cursor shouldn't be committed again.
+        assertThat(coalescer.addCursor(3L, PARTITION_0, messageId(1))).isFalse();
+        assertThat(coalescer.pollCursors(3L)).isEmpty();
+        assertThat(coalescer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void trackCursorsForManyPendingCheckpoints() {
+        CursorCommitCoalescer coalescer = new CursorCommitCoalescer();
+        for (int i = 0; i < 100; i++) {
+            coalescer.addCursor(i, new TopicPartition("topic", i % 20), messageId(i));
+            if (i % 7 == 6) {
+                coalescer.pollCursors(i - 5);
+            }
+        }
+
+        Map<TopicPartition, MessageId> cursors = coalescer.pollCursors(99L);
+        assertThat(cursors).hasSize(20);
+        for (int i = 0; i < 20; i++) {
+            assertThat(cursors).containsEntry(new TopicPartition("topic", i), messageId(80 + i));
+        }
+        assertThat(coalescer.isEmpty()).isTrue();
+    }
+
+    private static MessageId messageId(long entryId) {
+        return new MessageIdImpl(1L, entryId, -1);
+    }
+}
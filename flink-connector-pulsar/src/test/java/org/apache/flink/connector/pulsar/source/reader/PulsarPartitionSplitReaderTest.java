@@ -25,6 +25,7 @@ import org.apache.flink.connector.pulsar.common.crypto.PulsarCrypto;
 import org.apache.flink.connector.pulsar.common.schema.BytesSchema;
 import org.apache.flink.connector.pulsar.common.schema.PulsarSchema;
 import org.apache.flink.connector.pulsar.source.config.SourceConfiguration;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.StartCursor;
 import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
 import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
@@ -33,22 +34,35 @@ import org.apache.flink.connector.pulsar.testutils.PulsarTestSuiteBase;
 import org.apache.pulsar.client.api.Message;
 import org.apache.pulsar.client.api.MessageId;
 import org.apache.pulsar.client.impl.MessageIdImpl;
+import org.apache.pulsar.common.policies.data.PersistentTopicInternalStats;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static java.time.Duration.ofSeconds;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_AUTO_ACKNOWLEDGE_MESSAGE;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_BATCH_RECEIVE;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_ENABLE_NON_DURABLE_READER;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_FETCH_ONE_MESSAGE_TIME;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_MAX_FETCHER_THREADS;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_MAX_FETCH_RECORDS;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_MAX_FETCH_TIME;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_SUBSCRIPTION_NAME;
+import static org.apache.flink.connector.pulsar.source.enumerator.RangeSplitPlanner.rangeBoundaries;
 import static org.apache.flink.connector.pulsar.source.enumerator.topic.TopicNameUtils.topicNameWithPartition;
 import static org.apache.flink.connector.pulsar.testutils.runtime.PulsarRuntimeOperator.DEFAULT_PARTITIONS;
 import static org.apache.flink.connector.pulsar.testutils.runtime.PulsarRuntimeOperator.NUM_RECORDS_PER_PARTITION;
@@ -263,12 +277,394 @@ class PulsarPartitionSplitReaderTest extends PulsarTestSuiteBase {
         fetchedMessages(splitReader, 1, true);
     }
 
+    @Test
+    void consumeMessageCreatedBeforeHandleSplitsChangesWithBatchReceive() throws Exception {
+        Configuration config = operator().config();
+        config.set(PULSAR_MAX_FETCH_RECORDS, 5);
+        config.set(PULSAR_MAX_FETCH_TIME, 3000L);
+        config.set(PULSAR_SUBSCRIPTION_NAME, randomAlphabetic(10));
+        config.set(PULSAR_ENABLE_AUTO_ACKNOWLEDGE_MESSAGE, true);
+        config.set(PULSAR_ENABLE_BATCH_RECEIVE, true);
+        PulsarPartitionSplitReader splitReader = splitReader(new SourceConfiguration(config));
+        String topicName = randomAlphabetic(10);
+
+        operator().setupTopic(topicName, STRING, () -> randomAlphabetic(10));
+        handleSplit(splitReader, topicName, 0, MessageId.earliest);
+        fetchedMessages(splitReader, NUM_RECORDS_PER_PARTITION, true);
+    }
+
+    @Test
+    void consumeMultipleSplitsInOneSplitReader() throws Exception {
+        Configuration config = operator().config();
+        config.set(PULSAR_MAX_FETCH_RECORDS, 10);
+        config.set(PULSAR_FETCH_ONE_MESSAGE_TIME, 2000);
+        config.set(PULSAR_MAX_FETCH_TIME, 3000L);
+        config.set(PULSAR_SUBSCRIPTION_NAME, randomAlphabetic(10));
+        config.set(PULSAR_ENABLE_AUTO_ACKNOWLEDGE_MESSAGE, true);
+        config.set(PULSAR_MAX_FETCHER_THREADS, 1);
+        PulsarPartitionSplitReader splitReader = splitReader(new SourceConfiguration(config));
+        String topicName = randomAlphabetic(10);
+
+        operator().setupTopic(topicName, STRING, () -> randomAlphabetic(10));
+        List<PulsarPartitionSplit> splits = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            TopicPartition partition = new TopicPartition(topicName, i);
+            splits.add(
+                    new PulsarPartitionSplit(
+                            partition, StopCursor.never(), MessageId.earliest, null));
+        }
+        splitReader.handleSplitsChanges(new SplitsAddition<>(splits));
+
+        fetchedMessages(splitReader, NUM_RECORDS_PER_PARTITION * 3, true);
+    }
+
+    @Test
+    void pollMultiplexedSplitsFairlyAndCloseFinishedSplits() throws Exception {
+        Configuration config = operator().config();
+        config.set(PULSAR_MAX_FETCH_RECORDS, 9);
+        config.set(PULSAR_MAX_FETCH_TIME, 3000L);
+        config.set(PULSAR_SUBSCRIPTION_NAME, randomAlphabetic(10));
+        config.set(PULSAR_MAX_FETCHER_THREADS, 1);
+        PulsarPartitionSplitReader splitReader = splitReader(new SourceConfiguration(config));
+        String subscriptionName = splitReader.getSubscriptionName();
+        String topicName = randomAlphabetic(10);
+        operator().createTopic(topicName, 3);
+
+        // The first split is finished after its second message.
+        List<PulsarPartitionSplit> splits = new ArrayList<>();
+        Map<String, List<String>> splitValues = new HashMap<>();
+        for (int i = 0; i < 3; i++) {
+            String topic = topicNameWithPartition(topicName, i);
+            operator()
+                    .admin()
+                    .topics()
+                    .createSubscription(topic, subscriptionName, MessageId.earliest);
+            List<String> values = randomValues();
+            List<MessageId> ids = operator().sendMessages(topic, STRING, values);
+            StopCursor stopCursor = i == 0 ? StopCursor.atMessageId(ids.get(2)) : StopCursor.never();
+            PulsarPartitionSplit split =
+                    new PulsarPartitionSplit(
+                            new TopicPartition(topicName, i), stopCursor, null, null);
+            splits.add(split);
+            splitValues.put(split.splitId(), values);
+        }
+        splitReader.handleSplitsChanges(new SplitsAddition<>(splits));
+        // Wait for the consumers to prefetch the messages into their receiver queues.
+        sleepUninterruptibly(2, TimeUnit.SECONDS);
+
+        // Every split takes an even share of the fetch records.
+        RecordsWithSplitIds<Message<byte[]>> records = splitReader.fetch();
+        Map<String, List<Message<byte[]>>> messages = new HashMap<>();
+        for (String splitId = records.nextSplit(); splitId != null; splitId = records.nextSplit()) {
+            List<Message<byte[]>> splitMessages = new ArrayList<>();
+            Message<byte[]> record;
+            while ((record = records.nextRecordFromSplit()) != null) {
+                splitMessages.add(record);
+            }
+            messages.put(splitId, splitMessages);
+        }
+        String finishedSplit = splits.get(0).splitId();
+        assertThat(records.finishedSplits()).containsExactly(finishedSplit);
+        assertThat(values(messages.get(finishedSplit)))
+                .isEqualTo(splitValues.get(finishedSplit).subList(0, 2));
+        for (PulsarPartitionSplit split : splits.subList(1, 3)) {
+            assertThat(values(messages.get(split.splitId())))
+                    .isEqualTo(splitValues.get(split.splitId()).subList(0, 3));
+        }
+
+        // The finished split isn't polled anymore and its consumer is closed.
+        Map<String, List<Message<byte[]>>> restMessages =
+                fetchedSplitMessages(splitReader, new HashSet<>());
+        assertThat(restMessages).doesNotContainKey(finishedSplit);
+        for (PulsarPartitionSplit split : splits.subList(1, 3)) {
+            assertThat(values(restMessages.get(split.splitId())))
+                    .isEqualTo(splitValues.get(split.splitId()).subList(3, 5));
+        }
+        String finishedTopic = topicNameWithPartition(topicName, 0);
+        waitUtil(
+                () -> {
+                    try {
+                        return operator()
+                                .admin()
+                                .topics()
+                                .getStats(finishedTopic)
+                                .getSubscriptions()
+                                .get(subscriptionName)
+                                .getConsumers()
+                                .isEmpty();
+                    } catch (Exception e) {
+                        return false;
+                    }
+                },
+                ofSeconds(30),
+                "The consumer of the finished split wasn't closed.");
+        splitReader.close();
+    }
+
+    @Test
+    void consumeMessagesWithNonDurableReader() throws Exception {
+        Configuration config = operator().config();
+        config.set(PULSAR_MAX_FETCH_RECORDS, 10);
+        config.set(PULSAR_MAX_FETCH_TIME, 3000L);
+        config.set(PULSAR_SUBSCRIPTION_NAME, randomAlphabetic(10));
+        config.set(PULSAR_ENABLE_NON_DURABLE_READER, true);
+        PulsarPartitionSplitReader splitReader =
+                new PulsarPartitionSplitReader(
+                        operator().client(),
+                        operator().admin(),
+                        new SourceConfiguration(config),
+                        StartCursor.earliest(),
+                        new BytesSchema(new PulsarSchema<>(STRING)),
+                        PulsarCrypto.disabled(),
+                        createSourceReaderMetricGroup(),
+                        null,
+                        null);
+        String topicName = randomAlphabetic(10);
+
+        operator().setupTopic(topicName, STRING, () -> randomAlphabetic(10));
+        handleSplit(splitReader, topicName, 0);
+        fetchedMessages(splitReader, NUM_RECORDS_PER_PARTITION, true);
+
+        // The reader doesn't create the durable subscription.
+        String topic = topicNameWithPartition(topicName, 0);
+        assertThat(operator().admin().topics().getSubscriptions(topic))
+                .doesNotContain(splitReader.getSubscriptionName());
+    }
+
+    @Test
+    void consumeRangeSplitsOnMultipleLedgers() throws Exception {
+        String topicName = randomAlphabetic(10);
+        String topic = topicNameWithPartition(topicName, 0);
+        TopicPartition partition = new TopicPartition(topicName, 0);
+        operator().createTopic(topicName, DEFAULT_PARTITIONS);
+
+        // The broker opens a new ledger after reloading the unloaded topic.
+        List<String> firstValues = randomValues();
+        operator().sendMessages(topic, STRING, firstValues);
+        operator().admin().topics().unload(topic);
+        List<String> secondValues = randomValues();
+        List<MessageId> secondIds = operator().sendMessages(topic, STRING, secondValues);
+        long secondLedgerId = ((MessageIdImpl) secondIds.get(0)).getLedgerId();
+        MessageId boundary = new MessageIdImpl(secondLedgerId, 0, 0);
+
+        // The first range stops at the boundary, the second range starts from it.
+        PulsarPartitionSplit firstRange =
+                new PulsarPartitionSplit(partition, StopCursor.never(), null, boundary, null, null);
+        PulsarPartitionSplit secondRange =
+                new PulsarPartitionSplit(partition, StopCursor.never(), boundary, null, null, null);
+        PulsarPartitionSplitReader splitReader = nonDurableSplitReader();
+        splitReader.handleSplitsChanges(
+                new SplitsAddition<>(Arrays.asList(firstRange, secondRange)));
+        Set<String> finishedSplits = new HashSet<>();
+        Map<String, List<Message<byte[]>>> messages =
+                fetchedSplitMessages(splitReader, finishedSplits);
+        splitReader.close();
+
+        assertThat(values(messages.get(firstRange.splitId()))).isEqualTo(firstValues);
+        assertThat(values(messages.get(secondRange.splitId()))).isEqualTo(secondValues);
+        assertThat(finishedSplits).containsExactly(firstRange.splitId());
+
+        // The restored range resumes after its latest consumed message.
+        MessageId consumedId = messages.get(secondRange.splitId()).get(1).getMessageId();
+        PulsarPartitionSplit restoredRange =
+                new PulsarPartitionSplit(
+                        partition, StopCursor.never(), boundary, null, consumedId, null);
+        splitReader = nonDurableSplitReader();
+        splitReader.handleSplitsChanges(new SplitsAddition<>(singletonList(restoredRange)));
+        Map<String, List<Message<byte[]>>> restoredMessages =
+                fetchedSplitMessages(splitReader, new HashSet<>());
+        splitReader.close();
+
+        assertThat(values(restoredMessages.get(restoredRange.splitId())))
+                .isEqualTo(secondValues.subList(2, secondValues.size()));
+
+        // The stop cursor of the source finishes the range before its end.
+        MessageId stopId = messages.get(firstRange.splitId()).get(3).getMessageId();
+        PulsarPartitionSplit stoppedRange =
+                new PulsarPartitionSplit(
+                        partition, StopCursor.atMessageId(stopId), null, boundary, null, null);
+        splitReader = nonDurableSplitReader();
+        splitReader.handleSplitsChanges(new SplitsAddition<>(singletonList(stoppedRange)));
+        finishedSplits.clear();
+        Map<String, List<Message<byte[]>>> stoppedMessages =
+                fetchedSplitMessages(splitReader, finishedSplits);
+        splitReader.close();
+
+        assertThat(values(stoppedMessages.get(stoppedRange.splitId())))
+                .isEqualTo(firstValues.subList(0, 3));
+        assertThat(finishedSplits).containsExactly(stoppedRange.splitId());
+    }
+
+    @Test
+    void finishRangeSplitsBeforeEmptyOpenLedger() throws Exception {
+        String topicName = randomAlphabetic(10);
+        String topic = topicNameWithPartition(topicName, 0);
+        TopicPartition partition = new TopicPartition(topicName, 0);
+        operator().createTopic(topicName, DEFAULT_PARTITIONS);
+        // The subscription keeps the written ledgers from being trimmed.
+        operator()
+                .admin()
+                .topics()
+                .createSubscription(topic, randomAlphabetic(10), MessageId.earliest);
+
+        // Every unloading closes the current ledger, the reloaded topic opens an empty one.
+        List<String> firstValues = randomValues();
+        operator().sendMessages(topic, STRING, firstValues);
+        operator().admin().topics().unload(topic);
+        List<String> secondValues = randomValues();
+        operator().sendMessages(topic, STRING, secondValues);
+        operator().admin().topics().unload(topic);
+
+        // No range starts from the empty open ledger.
+        PersistentTopicInternalStats stats = operator().admin().topics().getInternalStats(topic);
+        List<MessageId> boundaries = rangeBoundaries(stats, MessageId.earliest, 0, 1);
+        assertThat(boundaries).hasSize(1);
+
+        PulsarPartitionSplit firstRange =
+                new PulsarPartitionSplit(
+                        partition, StopCursor.latest(), null, boundaries.get(0), null, null);
+        PulsarPartitionSplit lastRange =
+                new PulsarPartitionSplit(
+                        partition, StopCursor.latest(), boundaries.get(0), null, null, null);
+        PulsarPartitionSplitReader splitReader = nonDurableSplitReader();
+        splitReader.handleSplitsChanges(
+                new SplitsAddition<>(Arrays.asList(firstRange, lastRange)));
+        Set<String> finishedSplits = new HashSet<>();
+        Map<String, List<Message<byte[]>>> messages =
+                fetchedSplitMessages(splitReader, finishedSplits);
+        splitReader.close();
+
+        assertThat(values(messages.get(firstRange.splitId()))).isEqualTo(firstValues);
+        assertThat(values(messages.get(lastRange.splitId()))).isEqualTo(secondValues);
+        assertThat(finishedSplits)
+                .containsExactlyInAnyOrder(firstRange.splitId(), lastRange.splitId());
+    }
+
+    @Test
+    void markIdleSplitsAndSkipPausedSplits() throws Exception {
+        AtomicInteger idleNotifications = new AtomicInteger();
+        SplitIdlenessTracker tracker =
+                new SplitIdlenessTracker(1000, 200, idleNotifications::incrementAndGet);
+        PulsarPartitionSplitReader splitReader =
+                new PulsarPartitionSplitReader(
+                        operator().client(),
+                        operator().admin(),
+                        sourceConfig(),
+                        StartCursor.defaultStartCursor(),
+                        new BytesSchema(new PulsarSchema<>(STRING)),
+                        PulsarCrypto.disabled(),
+                        createSourceReaderMetricGroup(),
+                        null,
+                        tracker);
+        String topicName = randomAlphabetic(10);
+        String topic = topicNameWithPartition(topicName, 0);
+        PulsarPartitionSplit split =
+                new PulsarPartitionSplit(
+                        new TopicPartition(topicName, 0), StopCursor.never(), null, null);
+        handleSplit(splitReader, topicName, 0, MessageId.latest);
+
+        // The split becomes idle after receiving nothing for the timeout.
+        waitUtil(
+                () -> fetchedMessage(splitReader) == null && tracker.isIdle(split.splitId()),
+                ofSeconds(30),
+                "The split should be marked as idle.");
+        assertThat(idleNotifications).hasValue(1);
+
+        operator().sendMessage(topic, STRING, randomAlphabetic(10));
+        waitUtil(
+                () -> fetchedMessage(splitReader) != null,
+                ofSeconds(30),
+                "Couldn't poll message from Pulsar.");
+        assertThat(tracker.isIdle(split.splitId())).isFalse();
+
+        // The paused split wouldn't be polled.
+        operator().sendMessage(topic, STRING, randomAlphabetic(10));
+        splitReader.pauseOrResumeSplits(singletonList(split), emptyList());
+        sleepUninterruptibly(1, TimeUnit.SECONDS);
+        assertThat(splitReader.fetch().nextSplit()).isNull();
+
+        splitReader.pauseOrResumeSplits(emptyList(), singletonList(split));
+        waitUtil(
+                () -> fetchedMessage(splitReader) != null,
+                ofSeconds(30),
+                "Couldn't poll message from the resumed split.");
+    }
+
+    /** Create a non-durable split reader which starts from the earliest position. */
+    private PulsarPartitionSplitReader nonDurableSplitReader() {
+        Configuration config = operator().config();
+        config.set(PULSAR_MAX_FETCH_RECORDS, 10);
+        config.set(PULSAR_MAX_FETCH_TIME, 3000L);
+        config.set(PULSAR_SUBSCRIPTION_NAME, randomAlphabetic(10));
+        config.set(PULSAR_ENABLE_NON_DURABLE_READER, true);
+
+        return new PulsarPartitionSplitReader(
+                operator().client(),
+                operator().admin(),
+                new SourceConfiguration(config),
+                StartCursor.earliest(),
+                new BytesSchema(new PulsarSchema<>(STRING)),
+                PulsarCrypto.disabled(),
+                createSourceReaderMetricGroup(),
+                null,
+                null);
+    }
+
+    private List<String> randomValues() {
+        List<String> values = new ArrayList<>(5);
+        for (int i = 0; i < 5; i++) {
+            values.add(randomAlphabetic(10));
+        }
+        return values;
+    }
+
+    private List<String> values(List<Message<byte[]>> messages) {
+        List<String> values = new ArrayList<>(messages.size());
+        for (Message<byte[]> message : messages) {
+            values.add(new String(message.getValue(), StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    /** Fetch the messages until nothing is received, the messages are grouped by split. */
+    private Map<String, List<Message<byte[]>>> fetchedSplitMessages(
+            PulsarPartitionSplitReader splitReader, Set<String> finishedSplits) {
+        Map<String, List<Message<byte[]>>> messages = new HashMap<>();
+        for (int i = 0; i < 3; ) {
+            try {
+                RecordsWithSplitIds<Message<byte[]>> recordsBySplitIds = splitReader.fetch();
+                finishedSplits.addAll(recordsBySplitIds.finishedSplits());
+                String splitId = recordsBySplitIds.nextSplit();
+                if (splitId == null) {
+                    i++;
+                }
+                while (splitId != null) {
+                    List<Message<byte[]>> splitMessages =
+                            messages.computeIfAbsent(splitId, k -> new ArrayList<>());
+                    Message<byte[]> record;
+                    while ((record = recordsBySplitIds.nextRecordFromSplit()) != null) {
+                        splitMessages.add(record);
+                    }
+                    splitId = recordsBySplitIds.nextSplit();
+                }
+            } catch (IOException e) {
+                i++;
+            }
+        }
+
+        return messages;
+    }
+
     /** Create a split reader with max message 1, fetch timeout 1s. */
     private PulsarPartitionSplitReader splitReader() {
+        return splitReader(sourceConfig());
+    }
+
+    private PulsarPartitionSplitReader splitReader(SourceConfiguration sourceConfig) {
         return new PulsarPartitionSplitReader(
                 operator().client(),
                 operator().admin(),
-                sourceConfig(),
+                sourceConfig,
                 new BytesSchema(new PulsarSchema<>(STRING)),
                 PulsarCrypto.disabled(),
                 createSourceReaderMetricGroup());
@@ -349,11 +745,13 @@ class PulsarPartitionSplitReaderTest extends PulsarTestSuiteBase {
             try {
                 RecordsWithSplitIds<Message<byte[]>> recordsBySplitIds = splitReader.fetch();
                 if (recordsBySplitIds.nextSplit() != null) {
-                    // Collect the records in this split.
-                    Message<byte[]> record;
-                    while ((record = recordsBySplitIds.nextRecordFromSplit()) != null) {
-                        messages.add(record);
-                    }
+                    do {
+                        // Collect the records in this split.
+                        Message<byte[]> record;
+                        while ((record = recordsBySplitIds.nextRecordFromSplit()) != null) {
+                            messages.add(record);
+                        }
+                    } while (recordsBySplitIds.nextSplit() != null);
                     finishedSplits.addAll(recordsBySplitIds.finishedSplits());
                 } else {
                     i++;
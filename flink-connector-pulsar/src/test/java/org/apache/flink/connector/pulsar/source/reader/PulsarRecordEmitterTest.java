@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.reader;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
+import org.apache.flink.connector.pulsar.source.reader.deserializer.PulsarDeserializationSchema;
+import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplit;
+import org.apache.flink.connector.pulsar.source.split.PulsarPartitionSplitState;
+import org.apache.flink.connector.testutils.source.reader.TestingReaderOutput;
+import org.apache.flink.util.Collector;
+
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.impl.MessageImpl;
+import org.apache.pulsar.common.api.proto.MessageMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link PulsarRecordEmitter}. */
+class PulsarRecordEmitterTest {
+
+    private final PulsarPartitionSplitState splitState =
+            new PulsarPartitionSplitState(
+                    new PulsarPartitionSplit(
+                            new TopicPartition("emitter", 0), StopCursor.defaultStopCursor()));
+
+    @Test
+    void deserializeFromPayloadBuffer() throws Exception {
+        PulsarRecordEmitter<String> emitter = new PulsarRecordEmitter<>(new StringSchema(true));
+        TestingReaderOutput<String> output = new TestingReaderOutput<>();
+        emitter.emitRecord(message("payload"), output, splitState);
+
+        assertThat(output.getEmittedRecords()).containsExactly("buffer:payload");
+    }
+
+    @Test
+    void deserializeFromByteArray() throws Exception {
+        PulsarRecordEmitter<String> emitter = new PulsarRecordEmitter<>(new StringSchema(false));
+        TestingReaderOutput<String> output = new TestingReaderOutput<>();
+        emitter.emitRecord(message("payload"), output, splitState);
+
+        assertThat(output.getEmittedRecords()).containsExactly("bytes:payload");
+    }
+
+    private static Message<byte[]> message(String content) {
+        ByteBuffer payload = ByteBuffer.wrap(content.getBytes(UTF_8));
+        return MessageImpl.create(new MessageMetadata(), payload, Schema.BYTES, "emitter");
+    }
+
+    /** Decode the payload as a string and mark which method it's decoded by. */
+    private static class StringSchema implements PulsarDeserializationSchema<String> {
+        private static final long serialVersionUID = -2391743457364867297L;
+
+        private final boolean supportsPayloadBuffer;
+
+        private StringSchema(boolean supportsPayloadBuffer) {
+            this.supportsPayloadBuffer = supportsPayloadBuffer;
+        }
+
+        @Override
+        public void deserialize(Message<byte[]> message, Collector<String> out) {
+            out.collect("bytes:" + new String(message.getData(), UTF_8));
+        }
+
+        @Override
+        public void deserialize(
+                Message<byte[]> message, ByteBuffer payload, Collector<String> out) {
+            out.collect("buffer:" + UTF_8.decode(payload));
+        }
+
+        @Override
+        public boolean supportsPayloadBuffer() {
+            return supportsPayloadBuffer;
+        }
+
+        @Override
+        public TypeInformation<String> getProducedType() {
+            return Types.STRING;
+        }
+    }
+}
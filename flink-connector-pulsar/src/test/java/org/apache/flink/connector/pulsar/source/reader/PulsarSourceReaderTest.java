@@ -24,6 +24,7 @@ import org.apache.flink.api.connector.source.SourceReaderContext;
 import org.apache.flink.configuration.Configuration;
 import org.apache.flink.connector.pulsar.common.crypto.PulsarCrypto;
 import org.apache.flink.connector.pulsar.source.config.SourceConfiguration;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.StartCursor;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicNameUtils;
 import org.apache.flink.connector.pulsar.source.reader.deserializer.PulsarDeserializationSchema;
 import org.apache.flink.connector.pulsar.source.reader.deserializer.PulsarDeserializationSchemaInitializationContext;
@@ -35,10 +36,16 @@ import org.apache.flink.connector.testutils.source.reader.TestingReaderContext;
 import org.apache.flink.connector.testutils.source.reader.TestingReaderOutput;
 import org.apache.flink.core.io.InputStatus;
 import org.apache.flink.core.testutils.CommonTestUtils;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.testutils.MetricListener;
+import org.apache.flink.runtime.metrics.groups.InternalSourceReaderMetricGroup;
+import org.apache.flink.util.FlinkRuntimeException;
 
 import org.apache.pulsar.client.admin.PulsarAdminException;
 import org.apache.pulsar.client.api.Consumer;
 import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.Producer;
+import org.apache.pulsar.client.api.PulsarClient;
 import org.apache.pulsar.client.api.PulsarClientException;
 import org.apache.pulsar.client.api.Schema;
 import org.apache.pulsar.client.api.SubscriptionInitialPosition;
@@ -53,6 +60,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -61,9 +69,13 @@ import java.util.function.Supplier;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.apache.flink.connector.pulsar.common.config.PulsarClientFactory.createAdmin;
+import static org.apache.flink.connector.pulsar.common.config.PulsarClientFactory.createClient;
+import static org.apache.flink.connector.pulsar.common.metrics.MetricNames.CHECKPOINT_ACK_LATENCY;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_FETCH_ONE_MESSAGE_TIME;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_MAX_FETCH_RECORDS;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_MAX_FETCH_TIME;
+import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_SPLIT_IDLE_TIMEOUT;
 import static org.apache.flink.connector.pulsar.source.PulsarSourceOptions.PULSAR_SUBSCRIPTION_NAME;
 import static org.apache.flink.connector.pulsar.testutils.PulsarTestCommonUtils.createPartitionSplit;
 import static org.apache.flink.connector.pulsar.testutils.PulsarTestCommonUtils.createPartitionSplits;
@@ -72,6 +84,7 @@ import static org.apache.flink.connector.pulsar.testutils.runtime.PulsarRuntimeO
 import static org.apache.pulsar.shade.com.google.common.util.concurrent.Uninterruptibles.sleepUninterruptibly;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 
 /** Unit test for {@link PulsarSourceReader}. */
@@ -170,12 +183,12 @@ class PulsarSourceReaderTest extends PulsarTestSuiteBase {
                         < NUM_RECORDS_PER_PARTITION * DEFAULT_PARTITIONS);
 
         // The completion of the last checkpoint should subsume all previous checkpoints.
-        assertThat(reader.cursorsToCommit).hasSize((int) checkpointId);
+        assertThat(reader.cursorsToCommit.isEmpty()).isFalse();
         long lastCheckpointId = checkpointId;
         // notify checkpoint complete and expect all cursors committed
         assertThatCode(() -> reader.notifyCheckpointComplete(lastCheckpointId))
                 .doesNotThrowAnyException();
-        assertThat(reader.cursorsToCommit).isEmpty();
+        assertThat(reader.cursorsToCommit.isEmpty()).isTrue();
 
         // Verify the committed offsets.
         reader.close();
@@ -216,6 +229,137 @@ class PulsarSourceReaderTest extends PulsarTestSuiteBase {
         reader.close();
     }
 
+    @Test
+    @Timeout(120)
+    void idleSplitDoesNotHoldBackOutputWatermark() throws Exception {
+        String topicName = randomAlphabetic(20);
+        operator().createTopic(topicName, 2);
+        String activePartition = TopicNameUtils.topicNameWithPartition(topicName, 0);
+        String idlePartition = TopicNameUtils.topicNameWithPartition(topicName, 1);
+        sendMessagesWithEventTime(activePartition, 1000);
+        sendMessagesWithEventTime(idlePartition, 1000);
+
+        Configuration configuration = new Configuration();
+        configuration.set(PULSAR_SPLIT_IDLE_TIMEOUT, 1000L);
+        PulsarSourceReader<Integer> reader = sourceReader(configuration);
+        reader.addSplits(createPartitionSplits(topicName, 2, Boundedness.CONTINUOUS_UNBOUNDED));
+        SplitWatermarkOutput<Integer> output = new SplitWatermarkOutput<>();
+        pollUntil(
+                reader,
+                output,
+                () -> output.records() == 2,
+                "The output didn't poll enough records before timeout.");
+        output.periodicEmit();
+        assertThat(output.sourceWatermark).isEqualTo(999);
+
+        // The idle split is marked again after every periodic watermark activates it.
+        sendMessagesWithEventTime(activePartition, 2000, 3000);
+        pollUntil(
+                reader,
+                output,
+                () -> {
+                    output.periodicEmit();
+                    return output.sourceWatermark == 2999;
+                },
+                "The idle split held back the watermark of the source.");
+
+        reader.close();
+    }
+
+    @Test
+    void failedAcknowledgementIsThrownInNextPoll() throws Exception {
+        String topicName = topicName();
+        SourceConfiguration sourceConfiguration = sourceConfiguration(new Configuration());
+        SourceReaderContext context = new TestingReaderContext();
+        PulsarClient pulsarClient = createClient(sourceConfiguration);
+        PulsarSourceReader<Integer> reader =
+                PulsarSourceReader.create(
+                        sourceConfiguration,
+                        StartCursor.defaultStartCursor(),
+                        deserializationSchema(context),
+                        PulsarCrypto.disabled(),
+                        context,
+                        pulsarClient,
+                        createAdmin(sourceConfiguration));
+
+        PulsarPartitionSplit split =
+                createPartitionSplit(topicName, 0, Boundedness.CONTINUOUS_UNBOUNDED);
+        reader.addSplits(singletonList(split));
+        TestingReaderOutput<Integer> output = new TestingReaderOutput<>();
+        pollUntil(
+                reader,
+                output,
+                () -> output.getEmittedRecords().size() == NUM_RECORDS_PER_PARTITION,
+                "The output didn't poll enough records before timeout.");
+        reader.snapshotState(100L);
+
+        // Wait for the ongoing fetch of the paused split, it wouldn't receive from the consumer.
+        reader.pauseOrResumeSplits(singletonList(split.splitId()), emptyList());
+        sleepUninterruptibly(5, TimeUnit.SECONDS);
+
+        // The closed consumer fails the acknowledgement asynchronously.
+        pulsarClient.close();
+        assertThatCode(() -> reader.notifyCheckpointComplete(100L)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> reader.pollNext(output))
+                .isInstanceOf(FlinkRuntimeException.class)
+                .hasMessageContaining("acknowledge message")
+                .hasCauseInstanceOf(PulsarClientException.class);
+
+        reader.close();
+    }
+
+    @Test
+    void reportCheckpointAckLatency() throws Exception {
+        String topicName = topicName();
+        MetricListener metricListener = new MetricListener();
+        SourceReaderContext context =
+                new TestingReaderContext(
+                        InternalSourceReaderMetricGroup.mock(metricListener.getMetricGroup()));
+        PulsarSourceReader<Integer> reader =
+                PulsarSourceReader.create(
+                        sourceConfiguration(new Configuration()),
+                        StartCursor.defaultStartCursor(),
+                        deserializationSchema(context),
+                        PulsarCrypto.disabled(),
+                        context);
+        Optional<Gauge<Long>> latency = metricListener.getGauge(CHECKPOINT_ACK_LATENCY);
+        assertThat(latency).isPresent();
+        assertThat(latency.get().getValue()).isZero();
+
+        setupSourceReader(reader, topicName, 0, Boundedness.CONTINUOUS_UNBOUNDED);
+        TestingReaderOutput<Integer> output = new TestingReaderOutput<>();
+        pollUntil(
+                reader,
+                output,
+                () -> output.getEmittedRecords().size() == NUM_RECORDS_PER_PARTITION,
+                "The output didn't poll enough records before timeout.");
+        PulsarPartitionSplit snapshot = reader.snapshotState(100L).get(0);
+
+        long startTime = System.currentTimeMillis();
+        reader.notifyCheckpointComplete(100L);
+        pollUntil(
+                reader,
+                output,
+                () ->
+                        reader.cursorsToCommit.isCommitted(
+                                snapshot.getPartition(), snapshot.getLatestConsumedId()),
+                "The offset commit did not finish before timeout.");
+        long elapsedTime = System.currentTimeMillis() - startTime;
+
+        // The gauge reports the time of the latest acknowledgement.
+        assertThat(latency.get().getValue()).isBetween(0L, elapsedTime);
+        reader.close();
+    }
+
+    private void sendMessagesWithEventTime(String topic, long... eventTimes) throws Exception {
+        try (Producer<Integer> producer =
+                operator().client().newProducer(Schema.INT32).topic(topic).create()) {
+            for (long eventTime : eventTimes) {
+                producer.newMessage().value((int) eventTime).eventTime(eventTime).send();
+            }
+        }
+    }
+
     private String topicName() throws Exception {
         String topicName = randomAlphabetic(20);
         Random random = new Random(System.currentTimeMillis());
@@ -225,16 +369,37 @@ class PulsarSourceReaderTest extends PulsarTestSuiteBase {
     }
 
     private PulsarSourceReader<Integer> sourceReader() throws Exception {
+        return sourceReader(new Configuration());
+    }
+
+    /** Create the reader, the given options override the default ones. */
+    private PulsarSourceReader<Integer> sourceReader(Configuration overrides) throws Exception {
+        SourceReaderContext context = new TestingReaderContext();
+
+        return PulsarSourceReader.create(
+                sourceConfiguration(overrides),
+                StartCursor.defaultStartCursor(),
+                deserializationSchema(context),
+                PulsarCrypto.disabled(),
+                context);
+    }
+
+    private SourceConfiguration sourceConfiguration(Configuration overrides) {
         Configuration configuration = operator().config();
 
         configuration.set(PULSAR_MAX_FETCH_RECORDS, 1);
         configuration.set(PULSAR_FETCH_ONE_MESSAGE_TIME, 2000);
         configuration.set(PULSAR_MAX_FETCH_TIME, 3000L);
         configuration.set(PULSAR_SUBSCRIPTION_NAME, randomAlphabetic(10));
+        configuration.addAll(overrides);
 
+        return new SourceConfiguration(configuration);
+    }
+
+    private PulsarDeserializationSchema<Integer> deserializationSchema(
+            SourceReaderContext context) {
         PulsarDeserializationSchema<Integer> deserializationSchema =
                 new PulsarSchemaWrapper<>(Schema.INT32);
-        SourceReaderContext context = new TestingReaderContext();
         try {
             deserializationSchema.open(
                     new PulsarDeserializationSchemaInitializationContext(
@@ -244,10 +409,7 @@ class PulsarSourceReaderTest extends PulsarTestSuiteBase {
             fail("Error while opening deserializationSchema");
         }
 
-        SourceConfiguration sourceConfiguration = new SourceConfiguration(configuration);
-
-        return PulsarSourceReader.create(
-                sourceConfiguration, deserializationSchema, PulsarCrypto.disabled(), context);
+        return deserializationSchema;
     }
 
     private void setupSourceReader(
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.reader;
+
+import org.apache.flink.util.clock.ManualClock;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link SplitIdlenessTracker}. */
+class SplitIdlenessTrackerTest {
+
+    private static final long WATERMARK_INTERVAL = 200;
+
+    @Test
+    void idleSplitDoesNotHoldBackSourceWatermark() {
+        ManualClock clock = new ManualClock(System.currentTimeMillis());
+        SplitIdlenessTracker tracker =
+                new SplitIdlenessTracker(1000, WATERMARK_INTERVAL, () -> {}, clock);
+        SplitWatermarkOutput<Long> output = new SplitWatermarkOutput<>();
+        output.createOutputForSplit("a").collect(1L, 1000);
+        output.createOutputForSplit("b").collect(2L, 1000);
+        output.periodicEmit();
+        assertThat(output.sourceWatermark).isEqualTo(999);
+
+        // Split b becomes idle, split a keeps receiving messages.
+        tracker.markIdle("b");
+        tracker.emitIdleness(output);
+        for (long timestamp = 2000; timestamp <= 5000; timestamp += 1000) {
+            output.createOutputForSplit("a").collect(timestamp, timestamp);
+            // The periodic emission makes the output of split b active again.
+            output.periodicEmit();
+            clock.advanceTime(Duration.ofMillis(WATERMARK_INTERVAL));
+            tracker.emitIdleness(output);
+            assertThat(output.sourceWatermark).isEqualTo(timestamp - 1);
+        }
+
+        // The released output of the finished split wouldn't be created again.
+        output.releaseOutputForSplit("b");
+        tracker.markFinished("b");
+        clock.advanceTime(Duration.ofMillis(WATERMARK_INTERVAL));
+        tracker.emitIdleness(output);
+        assertThat(output.splitOutputs).doesNotContainKey("b");
+    }
+
+    @Test
+    void markIdleOutputsOnlyOncePerWatermarkInterval() {
+        ManualClock clock = new ManualClock(System.currentTimeMillis());
+        SplitIdlenessTracker tracker =
+                new SplitIdlenessTracker(1000, WATERMARK_INTERVAL, () -> {}, clock);
+        SplitWatermarkOutput<Long> output = new SplitWatermarkOutput<>();
+
+        // The split is marked once it becomes idle.
+        tracker.markIdle("a");
+        tracker.emitIdleness(output);
+        assertThat(output.createOutputForSplit("a").idleMarks).isEqualTo(1);
+
+        // The following polls in the same interval don't mark it again.
+        for (int i = 0; i < 10; i++) {
+            tracker.emitIdleness(output);
+        }
+        assertThat(output.createOutputForSplit("a").idleMarks).isEqualTo(1);
+
+        clock.advanceTime(Duration.ofMillis(WATERMARK_INTERVAL));
+        tracker.emitIdleness(output);
+        tracker.emitIdleness(output);
+        assertThat(output.createOutputForSplit("a").idleMarks).isEqualTo(2);
+
+        // The active split isn't marked anymore.
+        tracker.markActive("a");
+        clock.advanceTime(Duration.ofMillis(WATERMARK_INTERVAL));
+        tracker.emitIdleness(output);
+        assertThat(output.createOutputForSplit("a").idleMarks).isEqualTo(2);
+    }
+
+    @Test
+    void markIdleOutputsOnceWithoutPeriodicWatermarks() {
+        ManualClock clock = new ManualClock(System.currentTimeMillis());
+        SplitIdlenessTracker tracker = new SplitIdlenessTracker(1000, 0, () -> {}, clock);
+        SplitWatermarkOutput<Long> output = new SplitWatermarkOutput<>();
+
+        tracker.markIdle("a");
+        for (int i = 0; i < 10; i++) {
+            clock.advanceTime(Duration.ofMillis(WATERMARK_INTERVAL));
+            tracker.emitIdleness(output);
+        }
+
+        assertThat(output.createOutputForSplit("a").idleMarks).isEqualTo(1);
+    }
+}
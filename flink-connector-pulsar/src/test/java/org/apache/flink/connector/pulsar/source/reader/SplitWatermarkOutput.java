@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.reader;
+
+import org.apache.flink.api.common.eventtime.Watermark;
+import org.apache.flink.api.connector.source.ReaderOutput;
+import org.apache.flink.api.connector.source.SourceOutput;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The per-split watermark outputs in the source operator. Every split has a bounded out of
+ * orderness generator without delay, which emits a watermark on every period and marks the split
+ * as active. The idleness of a split updates the source watermark immediately, the periodic
+ * watermarks are combined after all the splits have emitted.
+ */
+class SplitWatermarkOutput<T> implements ReaderOutput<T> {
+
+    final Map<String, SplitOutput> splitOutputs = new HashMap<>();
+    volatile long sourceWatermark = Long.MIN_VALUE;
+
+    @Override
+    public void collect(T record) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void collect(T record, long timestamp) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void emitWatermark(Watermark watermark) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void markIdle() {
+        // Only the idleness of the splits is combined.
+    }
+
+    public void markActive() {
+        // Only the idleness of the splits is combined.
+    }
+
+    @Override
+    public SplitOutput createOutputForSplit(String splitId) {
+        return splitOutputs.computeIfAbsent(splitId, id -> new SplitOutput());
+    }
+
+    @Override
+    public void releaseOutputForSplit(String splitId) {
+        splitOutputs.remove(splitId);
+    }
+
+    /** Emit the periodic watermarks of all the splits like the auto watermark timer. */
+    void periodicEmit() {
+        for (SplitOutput splitOutput : splitOutputs.values()) {
+            splitOutput.emitWatermark(new Watermark(splitOutput.maxTimestamp - 1));
+        }
+        combineWatermarks();
+    }
+
+    int records() {
+        return splitOutputs.values().stream().mapToInt(output -> output.records).sum();
+    }
+
+    private void combineWatermarks() {
+        long combined = Long.MAX_VALUE;
+        boolean active = false;
+        for (SplitOutput splitOutput : splitOutputs.values()) {
+            if (!splitOutput.idle) {
+                combined = Math.min(combined, splitOutput.watermark);
+                active = true;
+            }
+        }
+        if (active && combined > sourceWatermark) {
+            sourceWatermark = combined;
+        }
+    }
+
+    /** The output of a split, it counts the records and the idle marks. */
+    class SplitOutput implements SourceOutput<T> {
+
+        private long maxTimestamp = Long.MIN_VALUE;
+        private long watermark = Long.MIN_VALUE;
+        private boolean idle;
+        int records;
+        int idleMarks;
+
+        @Override
+        public void collect(T record) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void collect(T record, long timestamp) {
+            maxTimestamp = Math.max(maxTimestamp, timestamp);
+            records++;
+        }
+
+        @Override
+        public void emitWatermark(Watermark watermark) {
+            this.watermark = watermark.getTimestamp();
+            this.idle = false;
+        }
+
+        @Override
+        public void markIdle() {
+            this.idle = true;
+            idleMarks++;
+            combineWatermarks();
+        }
+
+        public void markActive() {
+            this.idle = false;
+        }
+    }
+}
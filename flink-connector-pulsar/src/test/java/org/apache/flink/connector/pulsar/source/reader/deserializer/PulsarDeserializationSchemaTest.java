@@ -18,6 +18,7 @@
 
 package org.apache.flink.connector.pulsar.source.reader.deserializer;
 
+import org.apache.flink.api.common.ExecutionConfig;
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
 import org.apache.flink.api.common.serialization.SimpleStringSchema;
 import org.apache.flink.api.common.typeinfo.Types;
@@ -100,6 +101,34 @@ class PulsarDeserializationSchemaTest extends PulsarTestSuiteBase {
         assertThat(collector.result).isNotNull().isEqualTo(message1);
     }
 
+    @Test
+    void builtInSchemasDontSupportPayloadBuffer() throws Exception {
+        Schema<TestMessage> schema1 = PROTOBUF_NATIVE(TestMessage.class);
+        PulsarDeserializationSchema<TestMessage> schema2 =
+                new PulsarSchemaWrapper<>(schema1, TestMessage.class);
+        schema2.open(new PulsarTestingDeserializationContext(), sourceConfig);
+
+        // The pulsar schemas and the type serializers copy the direct payload into a byte array.
+        assertThat(schema2.supportsPayloadBuffer()).isFalse();
+        assertThat(
+                        new PulsarTypeInformationWrapper<>(Types.STRING, new ExecutionConfig())
+                                .supportsPayloadBuffer())
+                .isFalse();
+
+        TestMessage message1 =
+                TestMessage.newBuilder()
+                        .setStringField(randomAlphabetic(10))
+                        .setDoubleField(ThreadLocalRandom.current().nextDouble())
+                        .setIntField(ThreadLocalRandom.current().nextInt())
+                        .build();
+        Message<byte[]> message2 = getMessage(message1, schema1::encode);
+        SingleMessageCollector<TestMessage> collector = new SingleMessageCollector<>();
+        // The given buffer is ignored, the message is deserialized from its data.
+        schema2.deserialize(message2, ByteBuffer.allocate(0), collector);
+
+        assertThat(collector.result).isNotNull().isEqualTo(message1);
+    }
+
     @Test
     void createFromFlinkTypeInformation() throws Exception {
         PulsarDeserializationSchema<String> schema =
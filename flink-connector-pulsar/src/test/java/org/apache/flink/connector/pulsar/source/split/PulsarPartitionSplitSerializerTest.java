@@ -19,6 +19,8 @@
 package org.apache.flink.connector.pulsar.source.split;
 
 import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.stop.EventTimestampStopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.stop.NeverStopCursor;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
 import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicRange;
 import org.apache.flink.core.memory.DataOutputSerializer;
@@ -26,6 +28,8 @@ import org.apache.flink.util.InstantiationUtil;
 
 import org.apache.pulsar.client.api.MessageId;
 import org.apache.pulsar.client.api.transaction.TxnID;
+import org.apache.pulsar.client.impl.BatchMessageIdImpl;
+import org.apache.pulsar.client.impl.MessageIdImpl;
 import org.junit.jupiter.api.Test;
 
 import static java.util.Collections.singletonList;
@@ -37,17 +41,133 @@ import static org.assertj.core.api.Assertions.assertThat;
 class PulsarPartitionSplitSerializerTest {
 
     @Test
-    void version2SerializeAndDeserialize() throws Exception {
+    void version5SerializeAndDeserialize() throws Exception {
+        MessageId latestConsumedId = new MessageIdImpl(12, 34, 10);
         PulsarPartitionSplit split =
                 new PulsarPartitionSplit(
                         new TopicPartition(
                                 randomAlphabetic(10), 10, singletonList(new TopicRange(400, 5000))),
-                        StopCursor.defaultStopCursor());
+                        StopCursor.atEventTime(1000),
+                        latestConsumedId,
+                        null);
 
         byte[] bytes = INSTANCE.serialize(split);
-        PulsarPartitionSplit split1 = INSTANCE.deserialize(2, bytes);
+        PulsarPartitionSplit split1 = INSTANCE.deserialize(5, bytes);
 
         assertThat(split1).isEqualTo(split).isNotSameAs(split);
+        assertThat(split1.getLatestConsumedId()).isEqualTo(latestConsumedId);
+        assertThat(split1.getStopCursor())
+                .isInstanceOf(EventTimestampStopCursor.class)
+                .extracting(cursor -> ((EventTimestampStopCursor) cursor).getTimestamp())
+                .isEqualTo(1000L);
+
+        // The batched message id is serialized by Pulsar.
+        MessageId batchMessageId = new BatchMessageIdImpl(12, 34, 10, 5);
+        split =
+                new PulsarPartitionSplit(
+                        split.getPartition(), split.getStopCursor(), batchMessageId, null);
+        split1 = INSTANCE.deserialize(5, INSTANCE.serialize(split));
+        assertThat(split1.getLatestConsumedId()).isEqualTo(batchMessageId);
+
+        // The range split keeps its boundaries.
+        MessageId startMessageId = new MessageIdImpl(12, 0, 10);
+        MessageId endMessageId = new MessageIdImpl(15, 0, 10);
+        split =
+                new PulsarPartitionSplit(
+                        split.getPartition(),
+                        split.getStopCursor(),
+                        startMessageId,
+                        endMessageId,
+                        null,
+                        null);
+        split1 = INSTANCE.deserialize(5, INSTANCE.serialize(split));
+        assertThat(split1).isEqualTo(split);
+        assertThat(split1.splitId()).isEqualTo(split.splitId());
+        assertThat(split1.getStartMessageId()).isEqualTo(startMessageId);
+        assertThat(split1.getEndMessageId()).isEqualTo(endMessageId);
+        assertThat(split1.getLatestConsumedId()).isNull();
+    }
+
+    @Test
+    void version4Deserialize() throws Exception {
+        DataOutputSerializer serializer = new DataOutputSerializer(4096);
+        serializer.writeUTF("topic66");
+        serializer.writeInt(1);
+        serializer.writeInt(1);
+        serializer.writeInt(0);
+        serializer.writeInt(65535);
+
+        // The never stop cursor in the binary codec.
+        serializer.writeByte(1);
+
+        // The position of the latest consumed message.
+        serializer.writeByte(1);
+        serializer.writeLong(1);
+        serializer.writeLong(2);
+        serializer.writeInt(1);
+        serializer.writeBoolean(false);
+
+        byte[] bytes = serializer.getSharedBuffer();
+        PulsarPartitionSplit split = INSTANCE.deserialize(4, bytes);
+
+        assertThat(split.getPartition()).isEqualTo(new TopicPartition("topic66", 1));
+        assertThat(split.getStopCursor()).isInstanceOf(NeverStopCursor.class);
+        assertThat(split.getStartMessageId()).isNull();
+        assertThat(split.getEndMessageId()).isNull();
+        assertThat(split.getLatestConsumedId()).isEqualTo(new MessageIdImpl(1, 2, 1));
+    }
+
+    @Test
+    void version3Deserialize() throws Exception {
+        DataOutputSerializer serializer = new DataOutputSerializer(4096);
+        serializer.writeUTF("topic66");
+        serializer.writeInt(1);
+        serializer.writeInt(1);
+        serializer.writeInt(0);
+        serializer.writeInt(65535);
+
+        // The never stop cursor in the binary codec.
+        serializer.writeByte(1);
+
+        serializer.writeBoolean(true);
+        byte[] messageIdBytes = new MessageIdImpl(1, 2, 1).toByteArray();
+        serializer.writeInt(messageIdBytes.length);
+        serializer.write(messageIdBytes);
+        serializer.writeBoolean(false);
+
+        byte[] bytes = serializer.getSharedBuffer();
+        PulsarPartitionSplit split = INSTANCE.deserialize(3, bytes);
+
+        assertThat(split.getPartition()).isEqualTo(new TopicPartition("topic66", 1));
+        assertThat(split.getStopCursor()).isInstanceOf(NeverStopCursor.class);
+        assertThat(split.getLatestConsumedId()).isEqualTo(new MessageIdImpl(1, 2, 1));
+    }
+
+    @Test
+    void version2Deserialize() throws Exception {
+        DataOutputSerializer serializer = new DataOutputSerializer(4096);
+        serializer.writeUTF("topic55");
+        serializer.writeInt(3);
+        serializer.writeInt(1);
+        serializer.writeInt(100);
+        serializer.writeInt(2000);
+
+        byte[] stopCursorBytes = InstantiationUtil.serializeObject(StopCursor.never());
+        serializer.writeInt(stopCursorBytes.length);
+        serializer.write(stopCursorBytes);
+        serializer.writeBoolean(false);
+        serializer.writeBoolean(false);
+
+        byte[] bytes = serializer.getSharedBuffer();
+        PulsarPartitionSplit split = INSTANCE.deserialize(2, bytes);
+
+        PulsarPartitionSplit expectedSplit =
+                new PulsarPartitionSplit(
+                        new TopicPartition("topic55", 3, singletonList(new TopicRange(100, 2000))),
+                        StopCursor.never());
+
+        assertThat(split).isEqualTo(expectedSplit);
+        assertThat(split.getStopCursor()).isInstanceOf(NeverStopCursor.class);
     }
 
     @Test
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.connector.pulsar.source.split;
+
+import org.apache.flink.connector.pulsar.source.enumerator.cursor.StopCursor;
+import org.apache.flink.connector.pulsar.source.enumerator.topic.TopicPartition;
+
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.transaction.TxnID;
+import org.apache.pulsar.client.impl.BatchMessageIdImpl;
+import org.apache.pulsar.client.impl.MessageIdImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link PulsarPartitionSplitState}. */
+class PulsarPartitionSplitStateTest {
+
+    private final PulsarPartitionSplitState state =
+            new PulsarPartitionSplitState(
+                    new PulsarPartitionSplit(
+                            new TopicPartition("topic", 1), StopCursor.defaultStopCursor()));
+
+    @Test
+    void keepNonBatchedMessageIdInPrimitives() {
+        assertThat(state.getLatestConsumedId()).isNull();
+
+        state.setLatestConsumedId(new MessageIdImpl(10, 20, 1));
+        MessageId messageId = state.getLatestConsumedId();
+        assertThat(messageId).isEqualTo(new MessageIdImpl(10, 20, 1));
+        assertThat(state.toPulsarPartitionSplit().getLatestConsumedId()).isEqualTo(messageId);
+    }
+
+    @Test
+    void keepOtherMessageIdsAsTheyAre() {
+        MessageId batchMessageId = new BatchMessageIdImpl(10, 20, 1, 3);
+        state.setLatestConsumedId(batchMessageId);
+        assertThat(state.getLatestConsumedId()).isSameAs(batchMessageId);
+
+        state.setLatestConsumedId(MessageId.latest);
+        assertThat(state.getLatestConsumedId()).isSameAs(MessageId.latest);
+
+        state.setLatestConsumedId(new MessageIdImpl(10, 21, 1));
+        state.setLatestConsumedId(null);
+        assertThat(state.getLatestConsumedId()).isNull();
+    }
+
+    @Test
+    void snapshotConsumedPositionIntoSplit() {
+        TxnID transactionId = new TxnID(100, 200);
+        state.setUncommittedTransactionId(transactionId);
+        state.setLatestConsumedId(new MessageIdImpl(10, 20, 1));
+
+        PulsarPartitionSplit split = state.toPulsarPartitionSplit();
+        assertThat(split.getPartition()).isEqualTo(state.getPartition());
+        assertThat(split.getLatestConsumedId()).isEqualTo(new MessageIdImpl(10, 20, 1));
+        assertThat(split.getUncommittedTransactionId()).isEqualTo(transactionId);
+
+        // The batched message id is snapshotted as it is.
+        MessageId batchMessageId = new BatchMessageIdImpl(10, 21, 1, 3);
+        state.setLatestConsumedId(batchMessageId);
+        assertThat(state.toPulsarPartitionSplit().getLatestConsumedId()).isSameAs(batchMessageId);
+
+        state.setLatestConsumedId(null);
+        assertThat(state.toPulsarPartitionSplit().getLatestConsumedId()).isNull();
+    }
+}